@@ -0,0 +1,176 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.faylixe.marklet.BufferStrategy;
+import fr.faylixe.marklet.MarkdownDocumentBuilder;
+import fr.faylixe.marklet.PooledBufferStrategy;
+
+/**
+ * Benchmarks of the {@link BufferStrategy} used by
+ * {@link MarkdownDocumentBuilder}. Each operation builds a
+ * page sized document and copies its content out, as the
+ * page encoder does. The synchronized baseline appends the
+ * same content into a default sized {@link StringBuffer},
+ * which is how documents were built before strategies.
+ * 
+ * @author fv
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BufferStrategyBenchmark {
+
+	/** Header prefix of each member section. **/
+	private static final String HEADER = "## ";
+
+	/** Number of members of each document. **/
+	@Param({"8", "64"})
+	public int members;
+
+	/** Comment of each member. **/
+	private String comment;
+
+	/** Cells of the member summary rows. **/
+	private String [] cells;
+
+	/** Expected length of the document. **/
+	private int capacity;
+
+	/** Strategy that reuses buffers across documents. **/
+	private BufferStrategy pooled;
+
+	/** Array document content is copied into. **/
+	private char [] characters;
+
+	/**
+	 * Prepares the appended content, and measures
+	 * the document length once.
+	 */
+	@Setup
+	public void setup() {
+		final String paragraph = SyntheticModel.comment(32);
+		comment = paragraph.substring(3, paragraph.length() - 4);
+		cells = new String[] {"static", "[Synthetic](../p1/Synthetic.html)", comment};
+		pooled = new PooledBufferStrategy();
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		fill(builder);
+		capacity = (int) builder.getLength();
+		characters = new char[capacity];
+	}
+
+	/**
+	 * Appends a page made of a summary table and a
+	 * section for each member to the given ``builder``.
+	 * 
+	 * @param builder Document to fill.
+	 */
+	private void fill(final MarkdownDocumentBuilder builder) {
+		builder.tableHeader("Type", "Name", "Description");
+		for (int i = 0; i < members; i++) {
+			builder.tableRow(cells);
+		}
+		for (int i = 0; i < members; i++) {
+			builder.header(2);
+			builder.text(comment);
+			builder.newLine();
+		}
+	}
+
+	/**
+	 * Copies the content of the given ``builder`` out,
+	 * as the page encoder does, then releases it.
+	 * 
+	 * @param builder Document to copy content of.
+	 * @return Array content has been copied into.
+	 */
+	private char [] copy(final MarkdownDocumentBuilder builder) {
+		characters = builder.getChars(characters);
+		builder.release();
+		return characters;
+	}
+
+	/**
+	 * Appends the page content into a default sized
+	 * {@link StringBuffer}, whose appends are synchronized.
+	 * 
+	 * @return Array content has been copied into.
+	 */
+	@Benchmark
+	public char [] synchronizedBaseline() {
+		final StringBuffer buffer = new StringBuffer();
+		buffer.append("| Type | Name | Description |\n");
+		buffer.append("| --- | --- | --- |\n");
+		for (int i = 0; i < members; i++) {
+			buffer.append("| ");
+			for (int j = 0; j < cells.length; j++) {
+				if (j > 0) {
+					buffer.append(" | ");
+				}
+				buffer.append(cells[j]);
+			}
+			buffer.append(" |\n");
+		}
+		for (int i = 0; i < members; i++) {
+			buffer.append(HEADER);
+			buffer.append(comment);
+			buffer.append('\n');
+		}
+		buffer.getChars(0, buffer.length(), characters, 0);
+		return characters;
+	}
+
+	/**
+	 * Builds the page into a new default sized buffer.
+	 * 
+	 * @return Array content has been copied into.
+	 */
+	@Benchmark
+	public char [] unpooledDefault() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		fill(builder);
+		return copy(builder);
+	}
+
+	/**
+	 * Builds the page into a new buffer presized
+	 * to the document length.
+	 * 
+	 * @return Array content has been copied into.
+	 */
+	@Benchmark
+	public char [] unpooledPresized() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder(BufferStrategy.UNPOOLED, capacity);
+		fill(builder);
+		return copy(builder);
+	}
+
+	/**
+	 * Builds the page into a buffer reused
+	 * from the previous operation.
+	 * 
+	 * @return Array content has been copied into.
+	 */
+	@Benchmark
+	public char [] pooled() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder(pooled, capacity);
+		fill(builder);
+		return copy(builder);
+	}
+
+}
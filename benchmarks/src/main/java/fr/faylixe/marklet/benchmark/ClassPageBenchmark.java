@@ -0,0 +1,113 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.faylixe.marklet.ClassPageBuilder;
+import fr.faylixe.marklet.MarkletContext;
+import fr.faylixe.marklet.MarkletOptions;
+import fr.faylixe.marklet.PackagePageBuilder;
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.PackageModel;
+
+/**
+ * Benchmarks of full page rendering, from a synthetic
+ * documentation model to the written markdown file.
+ * 
+ * @author fv
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassPageBenchmark {
+
+	/** Number of members of the rendered class. **/
+	@Param({"10", "100"})
+	public int members;
+
+	/** Number of words of each comment. **/
+	@Param({"16", "128"})
+	public int commentLength;
+
+	/** Directory pages are written in. **/
+	private Path directory;
+
+	/** Context pages are rendered with. **/
+	private MarkletContext context;
+
+	/** Rendered class. **/
+	private ClassModel classModel;
+
+	/** Rendered package. **/
+	private PackageModel packageModel;
+
+	/**
+	 * Generates documentation model and creates
+	 * the output directory.
+	 * 
+	 * @throws IOException If any error occurs while creating output directory.
+	 */
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("marklet-benchmark");
+		final MarkletOptions options = MarkletOptions.parse(new String[][] {{"-d", directory.toString()}});
+		final DocumentationModel model = SyntheticModel.build(2, 8, members, 4, commentLength);
+		context = new MarkletContext(options, model);
+		packageModel = model.getPackages().get(0);
+		classModel = packageModel.getAllClasses().get(packageModel.getAllClasses().size() - 1);
+	}
+
+	/**
+	 * Deletes the output directory.
+	 * 
+	 * @throws IOException If any error occurs while deleting output directory.
+	 */
+	@TearDown
+	public void tearDown() throws IOException {
+		try (final Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Renders and writes the class page.
+	 * 
+	 * @throws IOException If any error occurs while writing page.
+	 */
+	@Benchmark
+	public void classPage() throws IOException {
+		ClassPageBuilder.build(classModel, directory, context);
+	}
+
+	/**
+	 * Renders and writes the package page.
+	 * 
+	 * @throws IOException If any error occurs while writing page.
+	 */
+	@Benchmark
+	public void packagePage() throws IOException {
+		PackagePageBuilder.build(packageModel, directory, context);
+	}
+
+}
@@ -0,0 +1,166 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.faylixe.marklet.MarkdownDocumentBuilder;
+
+/**
+ * Benchmarks of the {@link MarkdownDocumentBuilder} primitives.
+ * Each operation builds a fresh document made of a fixed number
+ * of elements, as page builders do, so the buffer growth is
+ * part of the measure.
+ * 
+ * @author fv
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarkdownBenchmark {
+
+	/** Number of elements appended to each document. **/
+	private static final int ELEMENTS = 64;
+
+	/** Number of words of the appended comments. **/
+	@Param({"16", "256"})
+	public int commentLength;
+
+	/** Comment wrapped into HTML paragraph. **/
+	private String paragraph;
+
+	/** Comment without any HTML tag. **/
+	private String plain;
+
+	/** Cells of the appended table rows. **/
+	private String [] cells;
+
+	/**
+	 * Prepares the appended content.
+	 */
+	@Setup
+	public void setup() {
+		paragraph = SyntheticModel.comment(commentLength);
+		plain = paragraph.substring(3, paragraph.length() - 4);
+		cells = new String[] {"static", "[Synthetic](../p1/Synthetic.html)", plain};
+	}
+
+	/**
+	 * Appends plain comments through
+	 * {@link MarkdownDocumentBuilder#text(String)}.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String textPlain() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		for (int i = 0; i < ELEMENTS; i++) {
+			builder.text(plain);
+			builder.newLine();
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Appends comments with paragraph tags to be filtered through
+	 * {@link MarkdownDocumentBuilder#text(String)}.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String textParagraph() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		for (int i = 0; i < ELEMENTS; i++) {
+			builder.text(paragraph);
+			builder.newLine();
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Appends table rows through
+	 * {@link MarkdownDocumentBuilder#tableRow(String...)}.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String tableRow() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		builder.tableHeader("Type", "Name", "Description");
+		for (int i = 0; i < ELEMENTS; i++) {
+			builder.tableRow(cells);
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Appends links through
+	 * {@link MarkdownDocumentBuilder#link(String, String)}.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String link() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		for (int i = 0; i < ELEMENTS; i++) {
+			builder.link("Synthetic", "../../p1/Synthetic.html");
+			builder.character(' ');
+		}
+		return builder.build();
+	}
+
+	/**
+	 * Measures {@link MarkdownDocumentBuilder#build()} alone,
+	 * over a document of a typical page size.
+	 * 
+	 * @param document Document to build.
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String build(final PageState document) {
+		return document.builder.build();
+	}
+
+	/**
+	 * State which holds a document of a typical page size.
+	 * 
+	 * @author fv
+	 */
+	@State(Scope.Thread)
+	public static class PageState {
+
+		/** Document to build. **/
+		private MarkdownDocumentBuilder builder;
+
+		/**
+		 * Fills the document.
+		 * 
+		 * @param benchmark Benchmark state to take content from.
+		 */
+		@Setup
+		public void setup(final MarkdownBenchmark benchmark) {
+			builder = new MarkdownDocumentBuilder();
+			for (int i = 0; i < ELEMENTS; i++) {
+				builder.header(2);
+				builder.text(benchmark.paragraph);
+				builder.newLine();
+				builder.tableRow(benchmark.cells);
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,92 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.faylixe.marklet.MarkdownDocumentBuilder;
+
+/**
+ * Compares the paragraph filtering done by
+ * {@link MarkdownDocumentBuilder#text(String)} with
+ * the former filter made of two regular expression
+ * replacements, on the kind of fragments appended
+ * by page builders.
+ * 
+ * @author fv
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParagraphFilterBenchmark {
+
+	/** Number of fragments appended to each document. **/
+	private static final int FRAGMENTS = 64;
+
+	/** Kind of appended fragment. **/
+	@Param({"separator", "plain", "paragraph"})
+	public String fragmentKind;
+
+	/** Appended fragment. **/
+	private String fragment;
+
+	/**
+	 * Prepares the appended fragment.
+	 */
+	@Setup
+	public void setup() {
+		final String comment = SyntheticModel.comment(64);
+		if ("separator".equals(fragmentKind)) {
+			fragment = ", ";
+		}
+		else if ("plain".equals(fragmentKind)) {
+			fragment = comment.substring(3, comment.length() - 4);
+		}
+		else {
+			fragment = comment;
+		}
+	}
+
+	/**
+	 * Appends fragments filtered by two regular expression
+	 * replacements, as {@link MarkdownDocumentBuilder} used to do.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String regex() {
+		final StringBuffer buffer = new StringBuffer();
+		for (int i = 0; i < FRAGMENTS; i++) {
+			buffer.append(fragment.replaceAll("<p>", "").replaceAll("</p>", ""));
+		}
+		return buffer.toString();
+	}
+
+	/**
+	 * Appends fragments through {@link MarkdownDocumentBuilder#text(String)}.
+	 * 
+	 * @return Built document.
+	 */
+	@Benchmark
+	public String scanner() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		for (int i = 0; i < FRAGMENTS; i++) {
+			builder.text(fragment);
+		}
+		return builder.build();
+	}
+
+}
@@ -0,0 +1,64 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import fr.faylixe.marklet.MarkletDocumentBuilder;
+import fr.faylixe.marklet.RelativePathCache;
+
+/**
+ * Benchmarks of the relative path computation between
+ * packages, both raw and through the {@link RelativePathCache}.
+ * 
+ * @author fv
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PathBenchmark {
+
+	/** Source package of the computed path. **/
+	@Param({"fr.faylixe.marklet", "fr.faylixe.marklet.model"})
+	public String source;
+
+	/** Target package of the computed path. **/
+	@Param({"fr.faylixe.marklet", "fr.faylixe.googlecodejam.client", "java.util.concurrent"})
+	public String target;
+
+	/** Cache shared by the benchmark threads. **/
+	private final RelativePathCache cache = new RelativePathCache();
+
+	/**
+	 * Computes path through {@link MarkletDocumentBuilder#getPath(String, String)}.
+	 * 
+	 * @return Computed path.
+	 */
+	@Benchmark
+	public String getPath() {
+		return MarkletDocumentBuilder.getPath(source, target);
+	}
+
+	/**
+	 * Retrieves path through {@link RelativePathCache#getPath(String, String)}.
+	 * 
+	 * @return Retrieved path.
+	 */
+	@Benchmark
+	public String cachedPath() {
+		return cache.getPath(source, target);
+	}
+
+}
@@ -0,0 +1,173 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import fr.faylixe.marklet.Marklet;
+
+/**
+ * Runs **Marklet** through the javadoc tool against synthetic
+ * source trees of growing size, and reports the elapsed time
+ * and the peak heap usage of each run as CSV, so throughput
+ * and memory scaling curves can be reproduced. Usage is :
+ * 
+ * ``ScaleRunner packages classes[,classes...] members depth commentLength genericDepth enumConstants [doclet options...]``
+ * 
+ * where each value of the comma separated ``classes`` list
+ * gives one run, with the given number of classes per package.
+ * 
+ * @author fv
+ */
+public final class ScaleRunner {
+
+	/** Name given to the javadoc program. **/
+	private static final String PROGRAM = "marklet-scale";
+
+	/** Number of mandatory arguments. **/
+	private static final int ARGUMENTS = 7;
+
+	/**
+	 * Private constructor for avoiding instantiation.
+	 */
+	private ScaleRunner() {
+		// Do nothing.
+	}
+
+	/**
+	 * Resets peak usage of the heap memory pools.
+	 */
+	private static void resetPeakUsage() {
+		for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				pool.resetPeakUsage();
+			}
+		}
+	}
+
+	/**
+	 * Computes the sum of the heap memory pools peak usage
+	 * since the last call to {@link #resetPeakUsage()}.
+	 * 
+	 * @return Peak heap usage in bytes.
+	 */
+	private static long getPeakUsage() {
+		long peak = 0;
+		for (final MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+		}
+		return peak;
+	}
+
+	/**
+	 * Deletes the given ``directory`` and its content.
+	 * 
+	 * @param directory Directory to delete.
+	 * @throws IOException If any error occurs while deleting.
+	 */
+	private static void delete(final Path directory) throws IOException {
+		try (final Stream<Path> paths = Files.walk(directory)) {
+			paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+		}
+	}
+
+	/**
+	 * Generates the given ``sources`` and documents
+	 * them through the javadoc tool using **Marklet**.
+	 * 
+	 * @param sources Sources to generate and document.
+	 * @param options Additional doclet options.
+	 * @return Elapsed time in nanoseconds.
+	 * @throws IOException If any error occurs while generating sources.
+	 */
+	private static long run(final SyntheticSources sources, final List<String> options) throws IOException {
+		final Path directory = Files.createTempDirectory("marklet-scale");
+		try {
+			final Path sourceDirectory = directory.resolve("src");
+			final List<String> arguments = new ArrayList<String>();
+			arguments.add("-sourcepath");
+			arguments.add(sourceDirectory.toString());
+			arguments.add("-encoding");
+			arguments.add("UTF-8");
+			arguments.add("-d");
+			arguments.add(directory.resolve("javadoc").toString());
+			arguments.addAll(options);
+			arguments.addAll(sources.write(sourceDirectory));
+			final PrintWriter err = new PrintWriter(System.err, true);
+			final PrintWriter quiet = new PrintWriter(new OutputStream() {
+
+				/** {@inheritDoc} **/
+				@Override
+				public void write(final int b) {
+					// Do nothing.
+				}
+
+			});
+			System.gc();
+			resetPeakUsage();
+			final long start = System.nanoTime();
+			final int status = com.sun.tools.javadoc.Main.execute(
+					PROGRAM,
+					err,
+					quiet,
+					quiet,
+					Marklet.class.getName(),
+					Marklet.class.getClassLoader(),
+					arguments.toArray(new String[arguments.size()]));
+			final long elapsed = System.nanoTime() - start;
+			if (status != 0) {
+				throw new IOException("javadoc exited with status " + status);
+			}
+			return elapsed;
+		}
+		finally {
+			delete(directory);
+		}
+	}
+
+	/**
+	 * Entry point.
+	 * 
+	 * @param args Command line arguments.
+	 * @throws IOException If any error occurs while generating sources.
+	 */
+	public static void main(final String [] args) throws IOException {
+		if (args.length < ARGUMENTS) {
+			System.err.println("Usage : ScaleRunner packages classes[,classes...] members depth commentLength genericDepth enumConstants [doclet options...]");
+			System.exit(1);
+		}
+		final int packages = Integer.parseInt(args[0]);
+		final List<String> options = Arrays.asList(args).subList(ARGUMENTS, args.length);
+		System.out.println("types,seconds,types per second,peak heap MB");
+		for (final String classes : args[1].split(",")) {
+			final SyntheticSources sources = new SyntheticSources(
+					packages,
+					Integer.parseInt(classes),
+					Integer.parseInt(args[2]),
+					Integer.parseInt(args[3]),
+					Integer.parseInt(args[4]),
+					Integer.parseInt(args[5]),
+					Integer.parseInt(args[6]));
+			final double seconds = run(sources, options) / 1e9;
+			System.out.println(String.format(
+					"%d,%.3f,%.1f,%d",
+					sources.getTypeCount(),
+					seconds,
+					sources.getTypeCount() / seconds,
+					getPeakUsage() / (1024 * 1024)));
+		}
+	}
+
+}
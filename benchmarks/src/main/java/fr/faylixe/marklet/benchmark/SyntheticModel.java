@@ -0,0 +1,303 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.PackageModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TagModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Factory of synthetic documentation model, which
+ * mimics extracted documentation with tunable
+ * size so rendering can be benchmarked without
+ * running the javadoc tool.
+ * 
+ * @author fv
+ */
+public final class SyntheticModel {
+
+	/** Prefix of the synthetic package names. **/
+	private static final String PACKAGE_PREFIX = "fr.faylixe.synthetic.p";
+
+	/** Prefix of the synthetic class names. **/
+	private static final String CLASS_PREFIX = "Synthetic";
+
+	/** Words synthetic comments are made of. **/
+	private static final String [] WORDS = {
+		"lorem", "ipsum", "dolor", "sit", "amet", "consectetur",
+		"adipiscing", "elit", "sed", "do", "eiusmod", "tempor"
+	};
+
+	/** Root of every synthetic class hierarchy. **/
+	private static final ClassModel OBJECT = new ClassModel(
+			external("java.lang", "Object"),
+			ClassModel.Kind.CLASS,
+			Collections.emptyList(),
+			"",
+			Collections.emptyList(),
+			null,
+			null,
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList(),
+			Collections.emptyList());
+
+	/** Primitive type used by synthetic members. **/
+	private static final TypeModel INT = new TypeModel(
+			TypeModel.Kind.PRIMITIVE,
+			"int",
+			"",
+			null,
+			Collections.emptyList(),
+			Collections.emptyList());
+
+	/** External class type used by synthetic members. **/
+	private static final TypeModel STRING = classType(external("java.lang", "String"));
+
+	/** External exception type documented by synthetic methods. **/
+	private static final ClassReference EXCEPTION = external("java.io", "IOException");
+
+	/** Number of packages to generate. **/
+	private final int packages;
+
+	/** Number of classes to generate in each package. **/
+	private final int classes;
+
+	/** Number of members to generate in each class. **/
+	private final int members;
+
+	/** Depth of the class hierarchies to generate. **/
+	private final int depth;
+
+	/** Number of words of each generated comment. **/
+	private final int commentLength;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param packages Number of packages to generate.
+	 * @param classes Number of classes to generate in each package.
+	 * @param members Number of members to generate in each class.
+	 * @param depth Depth of the class hierarchies to generate.
+	 * @param commentLength Number of words of each generated comment.
+	 */
+	private SyntheticModel(
+			final int packages,
+			final int classes,
+			final int members,
+			final int depth,
+			final int commentLength) {
+		this.packages = packages;
+		this.classes = classes;
+		this.members = members;
+		this.depth = Math.max(1, depth);
+		this.commentLength = commentLength;
+	}
+
+	/**
+	 * Creates a reference to a class which is
+	 * not included into the documentation.
+	 * 
+	 * @param packageName Name of the referenced class package.
+	 * @param name Name of the referenced class.
+	 * @return Created reference.
+	 */
+	private static ClassReference external(final String packageName, final String name) {
+		return new ClassReference(packageName + "." + name, name, name, packageName, false);
+	}
+
+	/**
+	 * Creates a non parameterized type of the given ``reference``.
+	 * 
+	 * @param reference Class the type is resolved to.
+	 * @return Created type.
+	 */
+	private static TypeModel classType(final ClassReference reference) {
+		return new TypeModel(
+				TypeModel.Kind.CLASS,
+				reference.getSimpleTypeName(),
+				"",
+				reference,
+				Collections.emptyList(),
+				Collections.emptyList());
+	}
+
+	/**
+	 * Creates a reference to a synthetic class.
+	 * 
+	 * @param packageIndex Index of the class package.
+	 * @param classIndex Index of the class into its package.
+	 * @return Created reference.
+	 */
+	private static ClassReference reference(final int packageIndex, final int classIndex) {
+		final String packageName = PACKAGE_PREFIX + packageIndex;
+		final String name = CLASS_PREFIX + classIndex;
+		return new ClassReference(packageName + "." + name, name, name, packageName, true);
+	}
+
+	/**
+	 * Creates a comment made of the given number of ``words``,
+	 * wrapped into a HTML paragraph.
+	 * 
+	 * @param words Number of words of the comment.
+	 * @return Created comment.
+	 */
+	public static String comment(final int words) {
+		final StringBuilder builder = new StringBuilder("<p>");
+		for (int i = 0; i < words; i++) {
+			if (i > 0) {
+				builder.append(i % 8 == 0 ? ". " : " ");
+			}
+			builder.append(WORDS[i % WORDS.length]);
+		}
+		return builder.append(".</p>").toString();
+	}
+
+	/**
+	 * Creates inline tags of a comment which
+	 * links to the given ``target`` class.
+	 * 
+	 * @param target Class the comment links to.
+	 * @return Created inline tags.
+	 */
+	private List<TagModel> inlineTags(final ClassReference target) {
+		final List<TagModel> tags = new ArrayList<TagModel>();
+		final String text = comment(commentLength);
+		tags.add(TagModel.inline(TagModel.TEXT, text, null));
+		tags.add(TagModel.inline(TagModel.LINK, target.getName(), target));
+		tags.add(TagModel.inline(TagModel.TEXT, text, null));
+		return tags;
+	}
+
+	/**
+	 * Creates the members of a synthetic class, each third
+	 * one being a field, others methods which take and
+	 * return a type referencing the given ``target`` class.
+	 * 
+	 * @param owner Class the created members belong to.
+	 * @param target Class referenced by the created members.
+	 * @return Created members, with constructors first and then fields.
+	 */
+	private List<List<MemberModel>> members(final ClassReference owner, final ClassReference target) {
+		final TypeModel list = new TypeModel(
+				TypeModel.Kind.CLASS,
+				"List",
+				"",
+				external("java.util", "List"),
+				Collections.singletonList(classType(target)),
+				Collections.emptyList());
+		final List<MemberModel> constructors = new ArrayList<MemberModel>();
+		final List<MemberModel> fields = new ArrayList<MemberModel>();
+		final List<MemberModel> methods = new ArrayList<MemberModel>();
+		constructors.add(new MemberModel(
+				MemberModel.Kind.CONSTRUCTOR, owner.getSimpleTypeName(), "public", false, "()",
+				Collections.emptyList(), null, inlineTags(target),
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+		for (int i = 0; i < members; i++) {
+			if (i % 3 == 0) {
+				fields.add(new MemberModel(
+						MemberModel.Kind.FIELD, "field" + i, "private final", false, null,
+						Collections.emptyList(), i % 2 == 0 ? INT : list, inlineTags(target),
+						Collections.emptyList(), Collections.emptyList(), Collections.emptyList()));
+				continue;
+			}
+			final List<ParameterModel> parameters = new ArrayList<ParameterModel>();
+			parameters.add(new ParameterModel("name", STRING));
+			parameters.add(new ParameterModel("values", list));
+			final List<TagModel> paramTags = new ArrayList<TagModel>();
+			for (final ParameterModel parameter : parameters) {
+				paramTags.add(TagModel.parameter("@param", comment(commentLength), parameter.getName(), inlineTags(target)));
+			}
+			methods.add(new MemberModel(
+					MemberModel.Kind.METHOD, "method" + i, "public", i % 5 == 0, "(String, List)",
+					parameters, list, inlineTags(target), paramTags,
+					Collections.singletonList(TagModel.block("@return", comment(commentLength), inlineTags(target))),
+					Collections.singletonList(TagModel.exception("@throws", comment(commentLength), EXCEPTION, inlineTags(target)))));
+		}
+		final List<List<MemberModel>> all = new ArrayList<List<MemberModel>>();
+		all.add(constructors);
+		all.add(fields);
+		all.add(methods);
+		return all;
+	}
+
+	/**
+	 * Generates the synthetic documentation model.
+	 * 
+	 * @return Generated model.
+	 */
+	private DocumentationModel generate() {
+		final List<PackageModel> packageModels = new ArrayList<PackageModel>();
+		final List<ClassModel> classModels = new ArrayList<ClassModel>();
+		for (int p = 0; p < packages; p++) {
+			final List<ClassModel> packageClasses = new ArrayList<ClassModel>();
+			ClassModel superclass = OBJECT;
+			for (int c = 0; c < classes; c++) {
+				if (c % depth == 0) {
+					superclass = OBJECT;
+				}
+				final ClassReference reference = reference(p, c);
+				final ClassReference target = reference((p + 1) % packages, (c + 1) % classes);
+				final String comment = comment(commentLength);
+				final List<List<MemberModel>> members = members(reference, target);
+				final ClassModel classModel = new ClassModel(
+						reference,
+						ClassModel.Kind.CLASS,
+						Collections.emptyList(),
+						comment,
+						inlineTags(target),
+						superclass,
+						null,
+						Collections.emptyList(),
+						Collections.emptyList(),
+						members.get(0),
+						members.get(1),
+						members.get(2),
+						Collections.emptyList());
+				packageClasses.add(classModel);
+				superclass = classModel;
+			}
+			packageModels.add(new PackageModel(
+					PACKAGE_PREFIX + p,
+					inlineTags(reference(p, 0)),
+					Collections.emptyList(),
+					Collections.emptyList(),
+					Collections.emptyList(),
+					packageClasses));
+			classModels.addAll(packageClasses);
+		}
+		return new DocumentationModel(packageModels, classModels);
+	}
+
+	/**
+	 * Static factory that generates a synthetic documentation
+	 * model. Classes of each package are chained by inheritance
+	 * up to the given ``depth``, and each class refers to a class
+	 * of the next package through links and member types.
+	 * 
+	 * @param packages Number of packages to generate.
+	 * @param classes Number of classes to generate in each package.
+	 * @param members Number of members to generate in each class.
+	 * @param depth Depth of the class hierarchies to generate.
+	 * @param commentLength Number of words of each generated comment.
+	 * @return Generated model.
+	 */
+	public static DocumentationModel build(
+			final int packages,
+			final int classes,
+			final int members,
+			final int depth,
+			final int commentLength) {
+		return new SyntheticModel(packages, classes, members, depth, commentLength).generate();
+	}
+
+}
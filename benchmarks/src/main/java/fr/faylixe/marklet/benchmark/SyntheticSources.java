@@ -0,0 +1,313 @@
+package fr.faylixe.marklet.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generator of synthetic Java source trees, with tunable
+ * size, to be documented by the javadoc tool. Each package
+ * contains an enumeration, a generic interface, and classes
+ * chained by inheritance, whose members use nested generic
+ * types of classes from the next package.
+ * 
+ * @author fv
+ */
+public final class SyntheticSources {
+
+	/** Prefix of the generated package names. **/
+	private static final String PACKAGE_PREFIX = "fr.faylixe.synthetic.p";
+
+	/** Prefix of the generated class names. **/
+	private static final String CLASS_PREFIX = "Synthetic";
+
+	/** Name of the generated enumeration in each package. **/
+	private static final String ENUMERATION = "SyntheticKind";
+
+	/** Name of the generated interface in each package. **/
+	private static final String INTERFACE = "SyntheticService";
+
+	/** Number of packages to generate. **/
+	private final int packages;
+
+	/** Number of classes to generate in each package. **/
+	private final int classes;
+
+	/** Number of members to generate in each class. **/
+	private final int members;
+
+	/** Depth of the class hierarchies to generate. **/
+	private final int depth;
+
+	/** Number of words of each generated comment. **/
+	private final int commentLength;
+
+	/** Nesting level of the generic types used by members. **/
+	private final int genericDepth;
+
+	/** Number of constants of the generated enumerations. **/
+	private final int enumConstants;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param packages Number of packages to generate.
+	 * @param classes Number of classes to generate in each package.
+	 * @param members Number of members to generate in each class.
+	 * @param depth Depth of the class hierarchies to generate.
+	 * @param commentLength Number of words of each generated comment.
+	 * @param genericDepth Nesting level of the generic types used by members.
+	 * @param enumConstants Number of constants of the generated enumerations.
+	 */
+	public SyntheticSources(
+			final int packages,
+			final int classes,
+			final int members,
+			final int depth,
+			final int commentLength,
+			final int genericDepth,
+			final int enumConstants) {
+		this.packages = packages;
+		this.classes = classes;
+		this.members = members;
+		this.depth = Math.max(1, depth);
+		this.commentLength = commentLength;
+		this.genericDepth = genericDepth;
+		this.enumConstants = Math.max(1, enumConstants);
+	}
+
+	/**
+	 * Getter for the total number of generated types.
+	 * 
+	 * @return Number of generated types.
+	 */
+	public int getTypeCount() {
+		return packages * (classes + 2);
+	}
+
+	/**
+	 * Builds the name of the package of the given ``index``.
+	 * 
+	 * @param index Index of the package.
+	 * @return Name of the package.
+	 */
+	private static String packageName(final int index) {
+		return PACKAGE_PREFIX + index;
+	}
+
+	/**
+	 * Builds the type nested ``genericDepth`` times into maps
+	 * and lists, around the given ``target`` class.
+	 * 
+	 * @param target Qualified name of the class nested into the type.
+	 * @return Type declaration.
+	 */
+	private String genericType(final String target) {
+		String type = target;
+		for (int i = 0; i < genericDepth; i++) {
+			type = i % 2 == 0
+					? "java.util.List<? extends " + type + ">"
+					: "java.util.Map<java.lang.String, " + type + ">";
+		}
+		return type;
+	}
+
+	/**
+	 * Writes a javadoc comment, indented with the given
+	 * ``indent``, that links to the given ``target`` class
+	 * and ends with the given ``tags``.
+	 * 
+	 * @param writer Writer to write comment to.
+	 * @param indent Indentation of the comment.
+	 * @param target Qualified name of the linked class.
+	 * @param tags Block tags of the comment.
+	 * @throws IOException If any error occurs while writing.
+	 */
+	private void comment(
+			final BufferedWriter writer,
+			final String indent,
+			final String target,
+			final String ... tags) throws IOException {
+		writer.write(indent);
+		writer.write("/**");
+		writer.newLine();
+		writer.write(indent);
+		writer.write(" * ");
+		writer.write(SyntheticModel.comment(commentLength));
+		writer.write(" See {@link ");
+		writer.write(target);
+		writer.write("}.");
+		writer.newLine();
+		for (final String tag : tags) {
+			writer.write(indent);
+			writer.write(" * ");
+			writer.write(tag);
+			writer.newLine();
+		}
+		writer.write(indent);
+		writer.write(" */");
+		writer.newLine();
+	}
+
+	/**
+	 * Opens a writer to the source file of the given type.
+	 * 
+	 * @param directory Directory of the type package.
+	 * @param packageIndex Index of the type package.
+	 * @param name Simple name of the type.
+	 * @return Opened writer, with package declaration written.
+	 * @throws IOException If any error occurs while opening file.
+	 */
+	private static BufferedWriter open(
+			final Path directory,
+			final int packageIndex,
+			final String name) throws IOException {
+		final BufferedWriter writer = Files.newBufferedWriter(
+				directory.resolve(name + ".java"),
+				StandardCharsets.UTF_8);
+		writer.write("package ");
+		writer.write(packageName(packageIndex));
+		writer.write(";");
+		writer.newLine();
+		writer.newLine();
+		return writer;
+	}
+
+	/**
+	 * Writes the enumeration of the given package.
+	 * 
+	 * @param directory Directory of the package.
+	 * @param packageIndex Index of the package.
+	 * @throws IOException If any error occurs while writing.
+	 */
+	private void enumeration(final Path directory, final int packageIndex) throws IOException {
+		try (final BufferedWriter writer = open(directory, packageIndex, ENUMERATION)) {
+			comment(writer, "", INTERFACE);
+			writer.write("public enum " + ENUMERATION + " {");
+			writer.newLine();
+			for (int i = 0; i < enumConstants; i++) {
+				comment(writer, "\t", INTERFACE);
+				writer.write("\tKIND_" + i + (i < enumConstants - 1 ? "," : ";"));
+				writer.newLine();
+			}
+			writer.write("}");
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * Writes the generic interface of the given package.
+	 * 
+	 * @param directory Directory of the package.
+	 * @param packageIndex Index of the package.
+	 * @throws IOException If any error occurs while writing.
+	 */
+	private void service(final Path directory, final int packageIndex) throws IOException {
+		try (final BufferedWriter writer = open(directory, packageIndex, INTERFACE)) {
+			comment(writer, "", ENUMERATION, "@param <T> Type of the handled values.");
+			writer.write("public interface " + INTERFACE + "<T extends Comparable<? super T>> {");
+			writer.newLine();
+			comment(writer, "\t", ENUMERATION, "@param value Handled value.", "@return Kind of the value.");
+			writer.write("\t" + ENUMERATION + " handle(T value);");
+			writer.newLine();
+			writer.write("}");
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * Writes the class of the given index into the given package.
+	 * 
+	 * @param directory Directory of the package.
+	 * @param packageIndex Index of the package.
+	 * @param classIndex Index of the class into its package.
+	 * @throws IOException If any error occurs while writing.
+	 */
+	private void syntheticClass(
+			final Path directory,
+			final int packageIndex,
+			final int classIndex) throws IOException {
+		final String name = CLASS_PREFIX + classIndex;
+		final String target = packageName((packageIndex + 1) % packages) + "." + CLASS_PREFIX + ((classIndex + 1) % classes);
+		final String type = genericType(target);
+		try (final BufferedWriter writer = open(directory, packageIndex, name)) {
+			comment(writer, "", target);
+			writer.write("public class ");
+			writer.write(name);
+			if (classIndex % depth != 0) {
+				writer.write(" extends ");
+				writer.write(CLASS_PREFIX + (classIndex - 1));
+			}
+			writer.write(" implements " + INTERFACE + "<String> {");
+			writer.newLine();
+			writer.newLine();
+			comment(writer, "\t", target);
+			writer.write("\tpublic " + name + "() {");
+			writer.newLine();
+			writer.write("\t}");
+			writer.newLine();
+			for (int i = 0; i < members; i++) {
+				writer.newLine();
+				if (i % 3 == 0) {
+					comment(writer, "\t", target);
+					writer.write("\tprotected " + type + " field" + classIndex + "x" + i + ";");
+					writer.newLine();
+					continue;
+				}
+				comment(writer, "\t", target,
+						"@param name Name of the value.",
+						"@param values Values to process.",
+						"@return Processed values.",
+						"@throws java.io.IOException If values can not be processed.");
+				writer.write("\tpublic " + (i % 5 == 0 ? "static " : "") + type + " method" + i + "(");
+				writer.write("final String name, final " + type + " values) throws java.io.IOException {");
+				writer.newLine();
+				writer.write("\t\treturn values;");
+				writer.newLine();
+				writer.write("\t}");
+				writer.newLine();
+			}
+			writer.newLine();
+			writer.write("\t@Override");
+			writer.newLine();
+			writer.write("\tpublic " + ENUMERATION + " handle(final String value) {");
+			writer.newLine();
+			writer.write("\t\treturn " + ENUMERATION + ".values()[value.length() % " + ENUMERATION + ".values().length];");
+			writer.newLine();
+			writer.write("\t}");
+			writer.newLine();
+			writer.newLine();
+			writer.write("}");
+			writer.newLine();
+		}
+	}
+
+	/**
+	 * Writes the synthetic source tree into the given ``root``
+	 * directory.
+	 * 
+	 * @param root Source root directory.
+	 * @return Names of the generated packages.
+	 * @throws IOException If any error occurs while writing.
+	 */
+	public List<String> write(final Path root) throws IOException {
+		final List<String> names = new ArrayList<String>();
+		for (int p = 0; p < packages; p++) {
+			final String name = packageName(p);
+			final Path directory = root.resolve(name.replace('.', '/'));
+			Files.createDirectories(directory);
+			enumeration(directory, p);
+			service(directory, p);
+			for (int c = 0; c < classes; c++) {
+				syntheticClass(directory, p, c);
+			}
+			names.add(name);
+		}
+		return names;
+	}
+
+}
@@ -0,0 +1,6 @@
+/**
+ * JMH benchmarks for **Marklet** rendering, run against
+ * synthetic documentation so that results are comparable
+ * from one version to another.
+ */
+package fr.faylixe.marklet.benchmark;
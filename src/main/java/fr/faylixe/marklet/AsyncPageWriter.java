@@ -0,0 +1,237 @@
+package fr.faylixe.marklet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writer stage that decouples page rendering from disk
+ * I/O. Rendered pages are encoded by a {@link PageEncoder},
+ * then queued and written by a single dedicated thread
+ * through a {@link PageWriter}. Encoded content is bounded
+ * by a byte budget, which is taken before encoding and
+ * counts the capacity of each buffer : rendering blocks
+ * when the budget is exhausted, until enough pages
+ * have been written. Buffers of written pages are given
+ * back to the encoder {@link ByteBufferPool}.
+ * 
+ * @author fv
+ */
+public final class AsyncPageWriter implements Closeable {
+
+	/** Default number of bytes that can be queued. **/
+	public static final int DEFAULT_BUDGET = 16 * 1024 * 1024;
+
+	/** Name of the writer thread. **/
+	private static final String THREAD_NAME = "marklet-writer";
+
+	/** Delay in milliseconds between two checks of the writer thread while waiting for budget. **/
+	private static final long POLL_INTERVAL = 100;
+
+	/**
+	 * Page waiting to be written.
+	 * 
+	 * @author fv
+	 */
+	private static final class Page {
+
+		/** Path of the page to write. **/
+		private final Path path;
+
+		/** Content of the page. **/
+		private final ByteBuffer content;
+
+		/** Number of budget bytes held by this page. **/
+		private final int permits;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param path Path of the page to write.
+		 * @param content Content of the page.
+		 * @param permits Number of budget bytes held by this page.
+		 */
+		private Page(final Path path, final ByteBuffer content, final int permits) {
+			this.path = path;
+			this.content = content;
+			this.permits = permits;
+		}
+
+	}
+
+	/** Marker queued for stopping the writer thread. **/
+	private static final Page END = new Page(null, null, 0);
+
+	/** Writer used for writing pages. **/
+	private final PageWriter pageWriter;
+
+	/** Encoder pages are encoded with. **/
+	private final PageEncoder encoder;
+
+	/** Pool buffers of written pages are given back to. **/
+	private final ByteBufferPool pool;
+
+	/** Maximum number of bytes that can be queued. **/
+	private final int budget;
+
+	/** Budget bytes that are still available. **/
+	private final Semaphore permits;
+
+	/** Pages waiting to be written. **/
+	private final BlockingQueue<Page> queue;
+
+	/** Thread pages are written by. **/
+	private final Thread thread;
+
+	/** First error that occurs while writing a page, if any. **/
+	private volatile IOException error;
+
+	/** Indicates if this writer has been closed. **/
+	private boolean closed;
+
+	/**
+	 * Default constructor, which starts the writer thread.
+	 * 
+	 * @param pageWriter Writer used for writing pages.
+	 * @param encoder Encoder pages are encoded with, whose pool buffers of written pages are given back to.
+	 * @param budget Maximum number of bytes that can be queued.
+	 */
+	public AsyncPageWriter(final PageWriter pageWriter, final PageEncoder encoder, final int budget) {
+		this.pageWriter = pageWriter;
+		this.encoder = encoder;
+		this.pool = encoder.getPool();
+		this.budget = Math.max(1, budget);
+		this.permits = new Semaphore(this.budget, true);
+		this.queue = new LinkedBlockingQueue<Page>();
+		this.thread = new Thread(this::run, THREAD_NAME);
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Writer thread loop, which writes queued pages until
+	 * the {@link #END} marker is reached. Once an error
+	 * occurs, remaining pages are discarded. Unchecked errors
+	 * are recorded as well, so that the budget held by
+	 * queued pages is always given back.
+	 */
+	private void run() {
+		try {
+			Page page;
+			while ((page = queue.take()) != END) {
+				try {
+					if (error == null) {
+						pageWriter.write(page.path, page.content);
+					}
+				}
+				catch (final IOException e) {
+					error = e;
+				}
+				catch (final RuntimeException | Error e) {
+					error = new IOException("Unexpected error while writing " + page.path, e);
+				}
+				finally {
+					pool.release(page.content);
+					permits.release(page.permits);
+				}
+			}
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Throws the first error that occurs while writing
+	 * a page, if any.
+	 * 
+	 * @throws IOException Error that occurs while writing a page.
+	 */
+	private void checkError() throws IOException {
+		final IOException exception = error;
+		if (exception != null) {
+			throw exception;
+		}
+	}
+
+	/**
+	 * Throws the first error that occurs while writing a page,
+	 * if any, or an error if the writer thread has stopped,
+	 * as queued pages would never be written.
+	 * 
+	 * @throws IOException If pages can not be written anymore.
+	 */
+	private void checkWriter() throws IOException {
+		checkError();
+		if (!thread.isAlive()) {
+			throw new IOException("Writer thread " + THREAD_NAME + " has stopped");
+		}
+	}
+
+	/**
+	 * Encodes the given ``document`` and queues its content for
+	 * being written into the file denoted by the given ``path``.
+	 * Blocks until the byte budget allows the buffer the page is
+	 * encoded into to be held, before encoding it. A page larger
+	 * than the whole budget waits for the queue to be empty.
+	 * The document may be released once this method returns.
+	 * 
+	 * @param path Path of the page to write.
+	 * @param document Document to write, which is not streamed.
+	 * @return Number of bytes of the encoded page.
+	 * @throws IOException If any error occurred while writing a previous page, or if the writer thread has stopped.
+	 */
+	public int write(final Path path, final MarkdownDocumentBuilder document) throws IOException {
+		checkWriter();
+		final int length = PageEncoder.getEncodedLength(document.getContent());
+		final int size = Math.min(ByteBufferPool.getCapacity(length), budget);
+		try {
+			while (!permits.tryAcquire(size, POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+				checkWriter();
+			}
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while queuing " + path);
+		}
+		final ByteBuffer content;
+		try {
+			content = encoder.encode(document, length);
+		}
+		catch (final RuntimeException | Error e) {
+			permits.release(size);
+			throw e;
+		}
+		queue.add(new Page(path, content, size));
+		return content.remaining();
+	}
+
+	/**
+	 * Waits for every queued page to be written
+	 * and stops the writer thread.
+	 * 
+	 * @throws IOException If any error occurred while writing a page.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			queue.add(END);
+			try {
+				thread.join();
+			}
+			catch (final InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing pages");
+			}
+		}
+		checkError();
+	}
+
+}
@@ -0,0 +1,47 @@
+package fr.faylixe.marklet;
+
+/**
+ * Strategy that provides the buffers {@link MarkdownDocumentBuilder}
+ * instances store their content in. A buffer is acquired when
+ * a document is created, presized to the document expected
+ * length, and released once the document is built.
+ * 
+ * @author fv
+ */
+public interface BufferStrategy {
+
+	/** Strategy that allocates a new buffer for each document. **/
+	BufferStrategy UNPOOLED = new BufferStrategy() {
+
+		/** {@inheritDoc} **/
+		@Override
+		public StringBuilder acquire(final int capacity) {
+			return new StringBuilder(capacity);
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void release(final StringBuilder buffer) {
+			// Left to the garbage collector.
+		}
+
+	};
+
+	/**
+	 * Retrieves an empty buffer able to store at least
+	 * ``capacity`` characters without growing.
+	 * 
+	 * @param capacity Expected length of the document.
+	 * @return Acquired buffer.
+	 */
+	StringBuilder acquire(int capacity);
+
+	/**
+	 * Gives back the given ``buffer``, which must
+	 * not be used anymore by the caller.
+	 * 
+	 * @param buffer Buffer to release.
+	 */
+	void release(StringBuilder buffer);
+
+}
@@ -0,0 +1,145 @@
+package fr.faylixe.marklet;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe pool of direct {@link ByteBuffer} that pages are
+ * encoded into. Buffers are pooled by size classes, which are
+ * powers of two from {@link #MINIMUM_SIZE} to {@link #MAXIMUM_SIZE}.
+ * Larger requests are served by heap buffers which are not pooled.
+ * Pooled buffers do not retain more than a given number of bytes,
+ * extra released buffers being left to the garbage collector.
+ * 
+ * @author fv
+ */
+public final class ByteBufferPool {
+
+	/** Size of the smallest pooled buffers. **/
+	public static final int MINIMUM_SIZE = 64 * 1024;
+
+	/** Size of the largest pooled buffers. **/
+	public static final int MAXIMUM_SIZE = 4 * 1024 * 1024;
+
+	/** Available buffers, indexed by size class. **/
+	private final List<Queue<ByteBuffer>> classes;
+
+	/** Maximum number of bytes retained by available buffers. **/
+	private final long limit;
+
+	/** Number of bytes retained by available buffers. **/
+	private final AtomicLong retained;
+
+	/** Number of buffers that have been allocated. **/
+	private final LongAdder allocated;
+
+	/** Number of buffers that have been reused. **/
+	private final LongAdder reused;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param limit Maximum number of bytes retained by available buffers.
+	 */
+	public ByteBufferPool(final long limit) {
+		final int count = Integer.numberOfTrailingZeros(MAXIMUM_SIZE) - Integer.numberOfTrailingZeros(MINIMUM_SIZE) + 1;
+		this.classes = new ArrayList<Queue<ByteBuffer>>(count);
+		for (int i = 0; i < count; i++) {
+			classes.add(new ConcurrentLinkedQueue<ByteBuffer>());
+		}
+		this.limit = limit;
+		this.retained = new AtomicLong();
+		this.allocated = new LongAdder();
+		this.reused = new LongAdder();
+	}
+
+	/**
+	 * Retrieves the size class of buffers of at least ``size`` bytes.
+	 * 
+	 * @param size Minimum size of the buffer.
+	 * @return Index of the size class.
+	 */
+	private static int getSizeClass(final int size) {
+		final int rounded = size <= MINIMUM_SIZE ? MINIMUM_SIZE : Integer.highestOneBit(size - 1) << 1;
+		return Integer.numberOfTrailingZeros(rounded) - Integer.numberOfTrailingZeros(MINIMUM_SIZE);
+	}
+
+	/**
+	 * Retrieves the capacity of the buffer acquired for
+	 * ``size`` bytes, namely the size of its size class,
+	 * or ``size`` itself for heap buffers.
+	 * 
+	 * @param size Minimum size of the buffer.
+	 * @return Capacity of the acquired buffer.
+	 * @see #acquire(int)
+	 */
+	public static int getCapacity(final int size) {
+		return size > MAXIMUM_SIZE ? size : MINIMUM_SIZE << getSizeClass(size);
+	}
+
+	/**
+	 * Retrieves a cleared buffer of at least ``size`` bytes,
+	 * from the pool if available.
+	 * 
+	 * @param size Minimum size of the buffer.
+	 * @return Acquired buffer.
+	 */
+	public ByteBuffer acquire(final int size) {
+		if (size > MAXIMUM_SIZE) {
+			allocated.increment();
+			return ByteBuffer.allocate(size);
+		}
+		final int sizeClass = getSizeClass(size);
+		final ByteBuffer buffer = classes.get(sizeClass).poll();
+		if (buffer == null) {
+			allocated.increment();
+			return ByteBuffer.allocateDirect(MINIMUM_SIZE << sizeClass);
+		}
+		retained.addAndGet(-buffer.capacity());
+		reused.increment();
+		buffer.clear();
+		return buffer;
+	}
+
+	/**
+	 * Gives back the given ``buffer`` to the pool, which
+	 * must not be used anymore by the caller.
+	 * 
+	 * @param buffer Buffer to release.
+	 */
+	public void release(final ByteBuffer buffer) {
+		final int capacity = buffer.capacity();
+		if (!buffer.isDirect() || capacity > MAXIMUM_SIZE || Integer.bitCount(capacity) != 1 || capacity < MINIMUM_SIZE) {
+			return;
+		}
+		if (retained.addAndGet(capacity) > limit) {
+			retained.addAndGet(-capacity);
+			return;
+		}
+		classes.get(getSizeClass(capacity)).offer(buffer);
+	}
+
+	/**
+	 * Getter for the number of allocated buffers.
+	 * 
+	 * @return Number of buffers that have been allocated.
+	 */
+	public long getAllocated() {
+		return allocated.sum();
+	}
+
+	/**
+	 * Getter for the number of reused buffers.
+	 * 
+	 * @return Number of buffers that have been reused.
+	 */
+	public long getReused() {
+		return reused.sum();
+	}
+
+}
@@ -3,20 +3,17 @@ package fr.faylixe.marklet;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Set;
-import java.util.function.Supplier;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import com.sun.javadoc.ClassDoc;
-import com.sun.javadoc.Doc;
-import com.sun.javadoc.FieldDoc;
-import com.sun.javadoc.MethodDoc;
-import com.sun.javadoc.PackageDoc;
-import com.sun.javadoc.Type;
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.TypeModel;
 
 /**
  * Builder that aims to create documentation
@@ -32,17 +29,28 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	/** Separator used in the class hierarchy.**/
 	private static final String HIERARCHY_SEPARATOR = " > ";
 
+	/** Expected length of a class page, members excepted. **/
+	private static final int PAGE_CAPACITY = 1024;
+
+	/** Expected length of the sections of a member. **/
+	private static final int MEMBER_CAPACITY = 1024;
+
 	/** Target class that page is built from. **/
-	private final ClassDoc classDoc;
+	private final ClassModel classModel;
+
+	/** Indicates if the summary header has to be appended before the next summary table. **/
+	private boolean summaryPending;
 
 	/**
 	 * Default constructor. 
 	 * 
-	 * @param classDoc Target class that page is built from.
+	 * @param classModel Target class that page is built from.
+	 * @param context Context of the current execution.
+	 * @param capacity Expected length of the page.
 	 */
-	private ClassPageBuilder(final ClassDoc classDoc) {
-		super(classDoc.containingPackage());
-		this.classDoc = classDoc;
+	private ClassPageBuilder(final ClassModel classModel, final MarkletContext context, final int capacity) {
+		super(classModel.getPackageName(), context, capacity);
+		this.classModel = classModel;
 	}
 	
 	/**
@@ -51,7 +59,7 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	 * @return ``true`` if the target class exposes at least one method, ``false`` otherwise.
 	 */
 	private boolean hasMethod() {
-		return classDoc.methods().length > 0;
+		return !classModel.getMethods().isEmpty();
 	}
 	
 	/**
@@ -60,7 +68,7 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	 * @return ``true`` if the target class exposes at least one field, ``false`` otherwise.
 	 */
 	private boolean hasField() {
-		return classDoc.fields().length > 0;
+		return !classModel.getFields().isEmpty();
 	}
 	
 	/**
@@ -69,16 +77,19 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	 * @return ``true`` if the target class exposes at least one constructor, ``false`` otherwise.
 	 */
 	private boolean hasConstructor() {
-		return classDoc.constructors().length > 0;
+		return !classModel.getConstructors().isEmpty();
 	}
 
 	/**
+	 * Indicates if the given ``method`` does not
+	 * override any superclass method, according
+	 * to the context {@link OverrideIndex}.
 	 * 
-	 * @param methodDoc
-	 * @return
+	 * @param method Method to check.
+	 * @return ``true`` if the given method does not override any method, ``false`` otherwise.
 	 */
-	private boolean isNotInherited(final MethodDoc methodDoc) {
-		return methodDoc.overriddenMethod() == null;
+	private boolean isNotInherited(final MemberModel method) {
+		return !getContext().getOverrideIndex().isOverriding(method);
 	}
 
 	/**
@@ -87,16 +98,11 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	 * class inheritance path.
 	 */
 	private void classHierarchy() {
-		final List<ClassDoc> hierarchy = new ArrayList<ClassDoc>();
-		ClassDoc current = classDoc;
-		while (current != null) {
-			hierarchy.add(current);
-			current = current.superclass();
-		}
-
-		for (int i = hierarchy.size() - 1; i >= 0; i--) {
-			classLink(getSource(), hierarchy.get(i));
-			if (i > 0) {
+		final List<ClassModel> hierarchy = getContext().getHierarchyIndex().getAncestors(classModel);
+		final int limit = hierarchy.size() - 1;
+		for (int i = 0; i <= limit; i++) {
+			classLink(getSource(), hierarchy.get(i).getReference());
+			if (i < limit) {
 				text(HIERARCHY_SEPARATOR);
 			}
 		}
@@ -105,23 +111,18 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	/**
 	 * Appends to the current document the interface hierarchy
 	 * from the current class. Such hiearchy consists in all
-	 * implemented interface.
+	 * implemented interface, including superinterfaces, as
+	 * ordered by {@link HierarchyIndex#getInterfaces(ClassModel)}.
 	 */
 	private void interfaceHierarchy() {
-		final Set<Type> implementedInterfaces = new HashSet<Type>();
-		ClassDoc current = classDoc;
-		while (current != null) {
-			implementedInterfaces.addAll(Arrays.asList(current.interfaceTypes()));
-			current = current.superclass();
-		}
-		if (!implementedInterfaces.isEmpty()) {
+		final List<TypeModel> types = getContext().getHierarchyIndex().getInterfaces(classModel);
+		if (!types.isEmpty()) {
 			text(MarkletConstant.INTERFACE_HIEARCHY_HEADER);
 			newLine();
 			item();
-			final int limit = implementedInterfaces.size() - 1;
-			final Type [] types = implementedInterfaces.toArray(new Type[implementedInterfaces.size()]);
-			for (int i = 0; i < types.length; i++) {
-				typeLink(getSource(), types[i]);
+			final int limit = types.size() - 1;
+			for (int i = 0; i < types.size(); i++) {
+				typeLink(getSource(), types.get(i));
 				if (i < limit) {
 					character(',');
 					character(' ');
@@ -138,21 +139,23 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 	private void title() {
 		header(1);
 		final StringBuilder builder = new StringBuilder();
-		if (classDoc.isInterface()) {
-			builder.append(MarkletConstant.INTERFACE);
-		}
-		else if (classDoc.isEnum()) {
-			builder.append(MarkletConstant.ENUMERATION);
-		}
-		else if (classDoc.isAnnotationType()) {
-			builder.append(MarkletConstant.ANNOTATION);
-		}
-		else {
-			builder.append(MarkletConstant.CLASS);
+		switch (classModel.getKind()) {
+			case INTERFACE:
+				builder.append(MarkletConstant.INTERFACE);
+				break;
+			case ENUMERATION:
+				builder.append(MarkletConstant.ENUMERATION);
+				break;
+			case ANNOTATION:
+				builder.append(MarkletConstant.ANNOTATION);
+				break;
+			default:
+				builder.append(MarkletConstant.CLASS);
+				break;
 		}
 		builder
 			.append(' ')
-			.append(classDoc.name());
+			.append(classModel.getName());
 		text(builder.toString());
 	}
 
@@ -167,35 +170,34 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 		newLine();
 		newLine();
 
-		final PackageDoc packageDoc = classDoc.containingPackage();
-		final String packageName = packageDoc.name();
+		final String packageName = classModel.getPackageName();
 		item();
 		text(MarkletConstant.PACKAGE);
 		character(' ');
-		link(packageName, MarkletConstant.README_LINK);
+		link(packageName, MarkletConstant.README + '.' + getContext().getOptions().getLinkEnding());
 		newLine();
 		item();
 		classHierarchy();
 		interfaceHierarchy();
 		newLine();
 		newLine();
-		description(classDoc);
+		description(classModel.getInlineTags());
 		newLine();
 		newLine();
 	}
 
 	/**
-	 * Returns an ordered stream of element that are provided
-	 * by the given ``supplier``, using element name for sorting.
+	 * Returns an ordered stream of the given ``elements``,
+	 * using element name for sorting.
 	 * 
-	 * @param supplier Supplier that provides elements to stream.
+	 * @param elements Elements to stream.
 	 * @return Ordered stream.
 	 */
-	private <T extends Doc> Stream<T> getOrderedElements(final Supplier<T[]> supplier) {
-		return Arrays
-				.stream(supplier.get())
+	private Stream<MemberModel> getOrderedElements(final List<MemberModel> elements) {
+		return elements
+				.stream()
 				.sorted((a, b) -> {
-					return a.name().compareTo(b.name());
+					return a.getName().compareTo(b.getName());
 				});
 	}
 
@@ -209,28 +211,134 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			text(MarkletConstant.METHODS);
 			newLine();
 			tableHeader(MarkletConstant.METHODS_SUMMARY_HEADERS);
-			getOrderedElements(classDoc::methods)
+			getOrderedElements(classModel.getMethods())
 				.filter(this::isNotInherited)
 				.forEach(this::rowSignature);
 			newLine();
 		}
-		// TODO : Build inherited method hierarchy here.
+		inheritedMethodsSummary();
 	}
-	
+
+	/**
+	 * Indicates if the given ``member`` of the given
+	 * ``owner`` ancestor is visible from the target class.
+	 * 
+	 * @param member Member to check.
+	 * @param owner Ancestor the member belongs to.
+	 * @return ``true`` if the member is visible, ``false`` otherwise.
+	 */
+	private boolean isVisible(final MemberModel member, final ClassModel owner) {
+		return member.hasModifier(MemberModel.PUBLIC)
+				|| member.hasModifier(MemberModel.PROTECTED)
+				|| owner.getPackageName().equals(classModel.getPackageName());
+	}
+
 	/**
+	 * Appends to the current document the summary of the
+	 * members inherited from the given ``owner`` ancestor.
+	 * Rows are taken from the given pre-rendered ``fragment``,
+	 * skipping members that are not visible or rejected by
+	 * the given ``filter``. Nothing is appended if no row
+	 * remains.
 	 * 
+	 * @param label Label of the summary.
+	 * @param headers Header labels of the summary table.
+	 * @param owner Ancestor members are inherited from.
+	 * @param fragment Pre-rendered rows of the ancestor members.
+	 * @param filter Filter members have to pass to be appended.
 	 */
-	public void inheritedMethodSummary() {
-		ClassDoc current = classDoc.superclass();
-		while (current != null) {
-			header(5);
-			text("Inherited method from ");
-			classLink(getSource(), current);
+	private void inheritedSummary(
+			final String label,
+			final String [] headers,
+			final ClassModel owner,
+			final InheritedMemberCache.Fragment fragment,
+			final Predicate<MemberModel> filter) {
+		final List<MemberModel> members = fragment.getMembers();
+		boolean empty = true;
+		for (int i = 0; i < members.size(); i++) {
+			final MemberModel member = members.get(i);
+			if (isVisible(member, owner) && filter.test(member)) {
+				if (empty) {
+					summaryHeader();
+					header(5);
+					text(label);
+					classLink(getSource(), owner.getReference());
+					newLine();
+					tableHeader(headers);
+					empty = false;
+				}
+				fragment(fragment.getRows().get(i));
+			}
+		}
+		if (!empty) {
 			newLine();
-			for (final MethodDoc methodDoc : current.methods()) {
-				link(methodDoc.flatSignature(), ""); // TODO : Build method link ?.
+		}
+	}
+
+	/**
+	 * Appends to the current document the summary of the
+	 * methods inherited from each documented superclass,
+	 * from the nearest one. Methods overridden by the target
+	 * class or by a nearer superclass are not listed.
+	 */
+	private void inheritedMethodsSummary() {
+		final OverrideIndex overrideIndex = getContext().getOverrideIndex();
+		final List<ClassModel> ancestors = getContext().getHierarchyIndex().getAncestors(classModel);
+		final Set<MemberModel> overridden = Collections.newSetFromMap(new IdentityHashMap<MemberModel, Boolean>());
+		for (final ClassModel ancestor : ancestors) {
+			for (final MemberModel method : ancestor.getMethods()) {
+				if (overrideIndex.isOverriding(method)) {
+					overridden.add(overrideIndex.getOverriddenMethod(method));
+				}
+			}
+			for (final MemberModel method : ancestor.getHiddenMethods()) {
+				if (overrideIndex.isOverriding(method)) {
+					overridden.add(overrideIndex.getOverriddenMethod(method));
+				}
+			}
+		}
+		final InheritedMemberCache cache = getContext().getInheritedMemberCache();
+		for (int i = ancestors.size() - 2; i >= 0; i--) {
+			final ClassModel ancestor = ancestors.get(i);
+			if (ancestor.getReference().isIncluded()) {
+				inheritedSummary(
+						MarkletConstant.INHERITED_METHODS,
+						MarkletConstant.METHODS_SUMMARY_HEADERS,
+						ancestor,
+						cache.getMethods(ancestor, getSource(), getContext()),
+						method -> !overridden.contains(method));
+			}
+		}
+	}
+
+	/**
+	 * Appends to the current document the summary of the
+	 * fields inherited from each documented superclass,
+	 * from the nearest one. Fields hidden by a field with
+	 * the same name in the target class or in a nearer
+	 * superclass are not listed.
+	 */
+	private void inheritedFieldsSummary() {
+		final List<ClassModel> ancestors = getContext().getHierarchyIndex().getAncestors(classModel);
+		final Set<String> hidden = new HashSet<String>();
+		for (final MemberModel field : classModel.getFields()) {
+			hidden.add(field.getName());
+		}
+		final InheritedMemberCache cache = getContext().getInheritedMemberCache();
+		for (int i = ancestors.size() - 2; i >= 0; i--) {
+			final ClassModel ancestor = ancestors.get(i);
+			if (ancestor.getReference().isIncluded()) {
+				final Set<String> names = new HashSet<String>(hidden);
+				inheritedSummary(
+						MarkletConstant.INHERITED_FIELDS,
+						MarkletConstant.FIELDS_SUMMARY_HEADERS,
+						ancestor,
+						cache.getFields(ancestor, getSource(), getContext()),
+						field -> !names.contains(field.getName()));
+				for (final MemberModel field : ancestor.getFields()) {
+					hidden.add(field.getName());
+				}
 			}
-			current = current.superclass();
 		}
 	}
 	
@@ -244,14 +352,15 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			text(MarkletConstant.FIELDS);
 			newLine();
 			tableHeader(MarkletConstant.FIELDS_SUMMARY_HEADERS);
-			getOrderedElements(classDoc::fields)
-				.filter(FieldDoc::isStatic)
+			getOrderedElements(classModel.getFields())
+				.filter(MemberModel::isStatic)
 				.forEach(this::rowSignature);
-			getOrderedElements(classDoc::fields)
+			getOrderedElements(classModel.getFields())
 				.filter(field -> !field.isStatic())
 				.forEach(this::rowSignature);
 			newLine();
 		}
+		inheritedFieldsSummary();
 	}
 
 	/**
@@ -265,28 +374,46 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			text(MarkletConstant.CONSTRUCTORS);
 			newLine();
 			tableHeader(MarkletConstant.CONSTRUCTOR_SUMMARY_HEADERS);
-			getOrderedElements(classDoc::constructors)
+			getOrderedElements(classModel.getConstructors())
 				.forEach(this::rowSignature);
 			newLine();
 		}
 	}
 
 	/**
-	 * Appends to the current document the class
-	 * summary. Consists in an overview of available
-	 * constructor, method, and field, in a table form.
+	 * Appends to the current document the summary
+	 * header, if still pending.
 	 */
-	private void summary() {
-		if (hasField() || hasMethod() || hasConstructor()) {
+	private void summaryHeader() {
+		if (summaryPending) {
+			summaryPending = false;
 			newLine();
 			header(2);
 			text(MarkletConstant.SUMMARY);
 			newLine();
-			fieldsSummary();
-			constructorsSummary();
-			methodsSummary();
+		}
+	}
+
+	/**
+	 * Appends to the current document the class
+	 * summary. Consists in an overview of available
+	 * constructor, method, and field, in a table form,
+	 * including inherited ones. The summary is omitted
+	 * if the class neither declares nor inherits any member,
+	 * its header being appended before the first table.
+	 */
+	private void summary() {
+		summaryPending = true;
+		if (hasField() || hasMethod() || hasConstructor()) {
+			summaryHeader();
+		}
+		fieldsSummary();
+		constructorsSummary();
+		methodsSummary();
+		if (!summaryPending) {
 			newLine();
 		}
+		summaryPending = false;
 	}
 
 	/**
@@ -299,7 +426,7 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			header(1);
 			text(MarkletConstant.CONSTRUCTORS);
 			newLine();
-			getOrderedElements(classDoc::constructors).forEach(this::member);
+			getOrderedElements(classModel.getConstructors()).forEach(this::member);
 		}
 	}
 
@@ -313,11 +440,11 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			header(1);
 			text(MarkletConstant.FIELDS);
 			newLine();
-			getOrderedElements(classDoc::fields)
+			getOrderedElements(classModel.getFields())
 				.filter(field -> !field.isStatic())
 				.forEach(this::field);
-			getOrderedElements(classDoc::fields)
-				.filter(FieldDoc::isStatic)
+			getOrderedElements(classModel.getFields())
+				.filter(MemberModel::isStatic)
 				.forEach(this::field);
 		}
 	}
@@ -332,34 +459,70 @@ public final class ClassPageBuilder extends MarkletDocumentBuilder {
 			header(1);
 			text(MarkletConstant.METHODS);
 			newLine();
-			getOrderedElements(classDoc::methods)
+			getOrderedElements(classModel.getMethods())
 				.filter(this::isNotInherited)
 				.forEach(this::member);
 		}
 	}
 
+	/**
+	 * Builds and returns the path of the documentation file
+	 * associated to the given ``classModel`` into the directory
+	 * denoted by the given ``directoryPath``.
+	 * 
+	 * @param classModel Class to get documentation file path for.
+	 * @param directoryPath Path of the directory documentation is written in.
+	 * @param fileEnding Ending of the documentation file.
+	 * @return Path of the documentation file.
+	 */
+	public static Path getPath(final ClassModel classModel, final Path directoryPath, final String fileEnding) {
+		final Path classPath = Paths.get(
+				new StringBuffer()
+					.append(classModel.getSimpleTypeName())
+					.append('.')
+					.append(fileEnding)
+					.toString());
+		return directoryPath.resolve(classPath);
+	}
+
+	/**
+	 * Estimates the length of the page of the given ``classModel``
+	 * from its number of members.
+	 * 
+	 * @param classModel Class to estimate page length of.
+	 * @return Estimated page length.
+	 */
+	private static int estimateCapacity(final ClassModel classModel) {
+		final int members = classModel.getConstructors().size() + classModel.getFields().size() + classModel.getMethods().size();
+		return PAGE_CAPACITY + members * MEMBER_CAPACITY;
+	}
+
 	/**
 	 * Builds and writes the documentation file
-	 * associated to the given ``classDoc`` into
+	 * associated to the given ``classModel`` into
 	 * the directory denoted by the given ``directoryPath``.
+	 * A {@link MarkletEvents} class page event is emitted.
 	 * 
-	 * @param classDoc Class to generated documentation for.
+	 * @param classModel Class to generated documentation for.
 	 * @param directoryPath Path of the directory to write documentation in.
+	 * @param context Context of the current execution.
 	 * @throws IOException If any error occurs while writing documentation.
 	 */
-	public static void build(final ClassDoc classDoc, final Path directoryPath) throws IOException {
-		final Path classPath = Paths.get(
-				new StringBuffer()
-					.append(classDoc.simpleTypeName())
-					.append(MarkdownDocumentBuilder.FILE_EXTENSION)
-					.toString());
-		final ClassPageBuilder builder = new ClassPageBuilder(classDoc);
+	public static void build(
+			final ClassModel classModel,
+			final Path directoryPath,
+			final MarkletContext context) throws IOException {
+		final Object event = MarkletEvents.beginClassPage();
+		final Path path = getPath(classModel, directoryPath, context.getOptions().getFileEnding());
+		final ClassPageBuilder builder = new ClassPageBuilder(classModel, context, getCapacity(path, estimateCapacity(classModel)));
+		builder.open(path);
 		builder.header();
 		builder.summary();
 		builder.constructors();
 		builder.fields();
 		builder.methods();
-		builder.build(directoryPath.resolve(classPath));
+		builder.build(path);
+		MarkletEvents.commitClassPage(event, classModel, builder.getCharacters(), builder.getBytes());
 	}
 
 }
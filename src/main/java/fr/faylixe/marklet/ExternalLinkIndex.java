@@ -0,0 +1,174 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import fr.faylixe.marklet.model.ClassReference;
+
+/**
+ * Index of the packages documented by external documentation
+ * sets, such as the JDK one, built once from local ``element-list``
+ * or ``package-list`` files as given by ``-linkoffline`` options.
+ * It maps each external package to the URL of its documentation
+ * directory, so that linking a class which is not included is a
+ * single lookup on its package name, without any network access.
+ * When a package is listed by several documentation sets, the
+ * first one wins.
+ * 
+ * @author fv
+ */
+public final class ExternalLinkIndex {
+
+	/** Name of the file that lists modules and packages of a documentation set. **/
+	public static final String ELEMENT_LIST = "element-list";
+
+	/** Name of the file that lists packages of a documentation set, before modules. **/
+	public static final String PACKAGE_LIST = "package-list";
+
+	/** Extension of the external class pages. **/
+	private static final String PAGE_EXTENSION = ".html";
+
+	/** Prefix of a module line in an element list. **/
+	private static final String MODULE_PREFIX = "module:";
+
+	/** Digest algorithm the signature is computed with. **/
+	private static final String ALGORITHM = "SHA-1";
+
+	/** URL of the documentation directory of each external package, indexed by package name. **/
+	private final Map<String, String> packages;
+
+	/**
+	 * Default constructor.
+	 */
+	private ExternalLinkIndex() {
+		this.packages = new HashMap<String, String>();
+	}
+
+	/**
+	 * Retrieves the list file of the documentation set
+	 * denoted by the given ``location``, which is either
+	 * such file or the directory that contains it. An
+	 * ``element-list`` file is preferred to a ``package-list`` one.
+	 * 
+	 * @param location Location of the documentation set list file.
+	 * @return Path of the list file, ``null`` if not found.
+	 */
+	public static Path getListFile(final String location) {
+		final Path path = Paths.get(location);
+		if (Files.isRegularFile(path)) {
+			return path;
+		}
+		if (Files.isDirectory(path)) {
+			for (final String name : new String[] {ELEMENT_LIST, PACKAGE_LIST}) {
+				final Path file = path.resolve(name);
+				if (Files.isRegularFile(file)) {
+					return file;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Indexes the packages listed by the given ``file``, documented
+	 * at the given ``url``. Packages that follow a module line are
+	 * documented into the directory of such module.
+	 * 
+	 * @param url Base URL of the documentation set.
+	 * @param file List file of the documentation set.
+	 * @throws IOException If any error occurs while reading the list file.
+	 */
+	private void add(final String url, final Path file) throws IOException {
+		final String base = url.endsWith("/") ? url : url + '/';
+		String module = "";
+		for (final String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+			final String name = line.trim();
+			if (name.startsWith(MODULE_PREFIX)) {
+				module = name.substring(MODULE_PREFIX.length()) + '/';
+			}
+			else if (!name.isEmpty() && !packages.containsKey(name)) {
+				packages.put(name, base + module + name.replace('.', '/') + '/');
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the URL of the external page of the given ``target``
+	 * class, made of the documentation directory of its package
+	 * followed by its name, which includes enclosing classes if any.
+	 * 
+	 * @param target Target class to get URL for.
+	 * @return External URL, ``null`` if the class package is not externally documented.
+	 */
+	public String getURL(final ClassReference target) {
+		final String directory = packages.get(target.getPackageName());
+		if (directory == null) {
+			return null;
+		}
+		return directory + target.getName() + PAGE_EXTENSION;
+	}
+
+	/**
+	 * Getter for the number of indexed packages.
+	 * 
+	 * @return Number of externally documented packages.
+	 */
+	public int getPackageCount() {
+		return packages.size();
+	}
+
+	/**
+	 * Builds the signature of this index, which changes along
+	 * with indexed packages and their URL, so that pages linking
+	 * to external documentation are not considered up to date
+	 * once the external documentation sets changed. Such signature
+	 * is a digest of the packages and URL, in package name order.
+	 * 
+	 * @return Signature of this index.
+	 */
+	public String getSignature() {
+		final MessageDigest digest;
+		try {
+			digest = MessageDigest.getInstance(ALGORITHM);
+		}
+		catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+		for (final Map.Entry<String, String> entry : new TreeMap<String, String>(packages).entrySet()) {
+			digest.update(entry.getKey().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+			digest.update(entry.getValue().getBytes(StandardCharsets.UTF_8));
+			digest.update((byte) 0);
+		}
+		return String.format("%040x", new BigInteger(1, digest.digest()));
+	}
+
+	/**
+	 * Static factory that builds the index of the given ``links``.
+	 * 
+	 * @param links Location of the list file of each documentation set, indexed by base URL.
+	 * @return Built index.
+	 * @throws IOException If any list file can not be found or read.
+	 */
+	public static ExternalLinkIndex load(final Map<String, String> links) throws IOException {
+		final ExternalLinkIndex index = new ExternalLinkIndex();
+		for (final Map.Entry<String, String> link : links.entrySet()) {
+			final Path file = getListFile(link.getValue());
+			if (file == null) {
+				throw new IOException("No " + ELEMENT_LIST + " or " + PACKAGE_LIST + " file found at " + link.getValue());
+			}
+			index.add(link.getKey(), file);
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,134 @@
+package fr.faylixe.marklet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Index of the class hierarchies, computed once from the
+ * documentation model. For each class it memoizes the
+ * ancestor chain and the transitive set of implemented
+ * interfaces, so hierarchies shared by many classes are
+ * only walked once. Index is read only once built, and
+ * can therefore be shared across threads.
+ * 
+ * @author fv
+ */
+public final class HierarchyIndex {
+
+	/** Ancestor chains, indexed by class qualified name. **/
+	private final Map<String, List<ClassModel>> ancestors;
+
+	/** Transitive interfaces, indexed by class qualified name. **/
+	private final Map<String, List<TypeModel>> interfaces;
+
+	/**
+	 * Default constructor.
+	 */
+	private HierarchyIndex() {
+		this.ancestors = new HashMap<String, List<ClassModel>>();
+		this.interfaces = new HashMap<String, List<TypeModel>>();
+	}
+
+	/**
+	 * Computes the ancestor chain of the given ``classModel``,
+	 * reusing the memoized chain of its superclass.
+	 * 
+	 * @param classModel Class to compute ancestor chain for.
+	 * @return Computed ancestor chain.
+	 */
+	private List<ClassModel> computeAncestors(final ClassModel classModel) {
+		final List<ClassModel> memoized = ancestors.get(classModel.getQualifiedName());
+		if (memoized != null) {
+			return memoized;
+		}
+		final ClassModel superclass = classModel.getSuperclass();
+		final List<ClassModel> chain = new ArrayList<ClassModel>();
+		if (superclass != null) {
+			chain.addAll(computeAncestors(superclass));
+		}
+		chain.add(classModel);
+		final List<ClassModel> result = Collections.unmodifiableList(chain);
+		ancestors.put(classModel.getQualifiedName(), result);
+		return result;
+	}
+
+	/**
+	 * Computes the transitive interfaces of the given
+	 * ``classModel``, reusing the memoized interfaces
+	 * of its direct interfaces and superclass.
+	 * 
+	 * @param classModel Class to compute interfaces for.
+	 * @return Computed interfaces.
+	 */
+	private List<TypeModel> computeInterfaces(final ClassModel classModel) {
+		final List<TypeModel> memoized = interfaces.get(classModel.getQualifiedName());
+		if (memoized != null) {
+			return memoized;
+		}
+		final Set<TypeModel> types = new LinkedHashSet<TypeModel>(classModel.getInterfaceTypes());
+		for (final ClassModel superinterface : classModel.getInterfaces()) {
+			types.addAll(computeInterfaces(superinterface));
+		}
+		final ClassModel superclass = classModel.getSuperclass();
+		if (superclass != null) {
+			types.addAll(computeInterfaces(superclass));
+		}
+		final List<TypeModel> result = Collections.unmodifiableList(new ArrayList<TypeModel>(types));
+		interfaces.put(classModel.getQualifiedName(), result);
+		return result;
+	}
+
+	/**
+	 * Retrieves the ancestor chain of the given ``classModel``,
+	 * from its furthest ancestor to the class itself.
+	 * 
+	 * @param classModel Class to get ancestor chain for.
+	 * @return Ancestor chain of the class.
+	 */
+	public List<ClassModel> getAncestors(final ClassModel classModel) {
+		final List<ClassModel> chain = ancestors.get(classModel.getQualifiedName());
+		return chain == null ? new HierarchyIndex().computeAncestors(classModel) : chain;
+	}
+
+	/**
+	 * Retrieves every interface implemented by the given
+	 * ``classModel``, including superinterfaces and interfaces
+	 * of its ancestors. Directly implemented interfaces come
+	 * first in declaration order, followed by the transitive
+	 * superinterfaces of each of them, and then by the
+	 * interfaces of the superclass.
+	 * 
+	 * @param classModel Class to get interfaces for.
+	 * @return Implemented interfaces.
+	 */
+	public List<TypeModel> getInterfaces(final ClassModel classModel) {
+		final List<TypeModel> types = interfaces.get(classModel.getQualifiedName());
+		return types == null ? new HierarchyIndex().computeInterfaces(classModel) : types;
+	}
+
+	/**
+	 * Static factory that builds the index
+	 * of the given documentation ``model``.
+	 * 
+	 * @param model Documentation model to index.
+	 * @return Built index.
+	 */
+	public static HierarchyIndex build(final DocumentationModel model) {
+		final HierarchyIndex index = new HierarchyIndex();
+		for (final ClassModel classModel : model.getClasses()) {
+			index.computeAncestors(classModel);
+			index.computeInterfaces(classModel);
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,207 @@
+package fr.faylixe.marklet;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.MemberModel;
+
+/**
+ * Cache of the summary table rows of the members a class
+ * gives to its subclasses. As such rows contain links that
+ * are relative to the page they are written in, they are
+ * rendered once per class and per source package, and then
+ * spliced into the page of every subclass of this package.
+ * 
+ * @author fv
+ */
+public final class InheritedMemberCache {
+
+	/**
+	 * Pre-rendered summary rows of the members of a class.
+	 * 
+	 * @author fv
+	 */
+	public static final class Fragment {
+
+		/** Members that can be inherited, ordered by name. **/
+		private final List<MemberModel> members;
+
+		/** Summary row of each member, in the same order. **/
+		private final List<String> rows;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param members Members that can be inherited, ordered by name.
+		 * @param rows Summary row of each member, in the same order.
+		 */
+		private Fragment(final List<MemberModel> members, final List<String> rows) {
+			this.members = Collections.unmodifiableList(members);
+			this.rows = Collections.unmodifiableList(rows);
+		}
+
+		/**
+		 * Getter for the members.
+		 * 
+		 * @return Members that can be inherited, ordered by name.
+		 */
+		public List<MemberModel> getMembers() {
+			return members;
+		}
+
+		/**
+		 * Getter for the rows.
+		 * 
+		 * @return Summary row of each member, in the same order as members.
+		 */
+		public List<String> getRows() {
+			return rows;
+		}
+
+	}
+
+	/** Cached method fragments, indexed by source package name then by class qualified name. **/
+	private final ConcurrentMap<String, ConcurrentMap<String, Fragment>> methods;
+
+	/** Cached field fragments, indexed by source package name then by class qualified name. **/
+	private final ConcurrentMap<String, ConcurrentMap<String, Fragment>> fields;
+
+	/** Number of fragments that have been retrieved from the cache. **/
+	private final LongAdder hits;
+
+	/** Number of fragments that have been rendered. **/
+	private final LongAdder misses;
+
+	/**
+	 * Default constructor.
+	 */
+	public InheritedMemberCache() {
+		this.methods = new ConcurrentHashMap<String, ConcurrentMap<String, Fragment>>();
+		this.fields = new ConcurrentHashMap<String, ConcurrentMap<String, Fragment>>();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+
+	/**
+	 * Renders the fragment of the given ``members``
+	 * of the given ``owner`` class.
+	 * 
+	 * @param owner Class members belong to.
+	 * @param members Members to render.
+	 * @param source Package of the page fragment is written in.
+	 * @param context Context of the current execution.
+	 * @return Rendered fragment.
+	 */
+	private static Fragment render(
+			final ClassModel owner,
+			final List<MemberModel> members,
+			final String source,
+			final MarkletContext context) {
+		final List<MemberModel> inheritable = new ArrayList<MemberModel>();
+		for (final MemberModel member : members) {
+			if (!member.hasModifier(MemberModel.PRIVATE)) {
+				inheritable.add(member);
+			}
+		}
+		inheritable.sort((a, b) -> a.getName().compareTo(b.getName()));
+		final List<String> rows = new ArrayList<String>(inheritable.size());
+		for (final MemberModel member : inheritable) {
+			final MarkletDocumentBuilder builder = new MarkletDocumentBuilder(source, context);
+			builder.inheritedRowSignature(member, owner.getReference());
+			rows.add(builder.build());
+			builder.release();
+		}
+		return new Fragment(inheritable, rows);
+	}
+
+	/**
+	 * Retrieves the fragment of the given ``owner`` class
+	 * members from the given ``cache``, rendering it if
+	 * it has not been cached already.
+	 * 
+	 * @param cache Cache to retrieve fragment from.
+	 * @param owner Class to get fragment for.
+	 * @param members Members of the class to render.
+	 * @param source Package of the page fragment is written in.
+	 * @param context Context of the current execution.
+	 * @return Retrieved fragment.
+	 */
+	private Fragment getFragment(
+			final ConcurrentMap<String, ConcurrentMap<String, Fragment>> cache,
+			final ClassModel owner,
+			final List<MemberModel> members,
+			final String source,
+			final MarkletContext context) {
+		ConcurrentMap<String, Fragment> fragments = cache.get(source);
+		if (fragments == null) {
+			fragments = new ConcurrentHashMap<String, Fragment>();
+			final ConcurrentMap<String, Fragment> existing = cache.putIfAbsent(source, fragments);
+			if (existing != null) {
+				fragments = existing;
+			}
+		}
+		Fragment fragment = fragments.get(owner.getQualifiedName());
+		if (fragment == null) {
+			misses.increment();
+			fragment = render(owner, members, source, context);
+			final Fragment existing = fragments.putIfAbsent(owner.getQualifiedName(), fragment);
+			if (existing != null) {
+				fragment = existing;
+			}
+		}
+		else {
+			hits.increment();
+		}
+		return fragment;
+	}
+
+	/**
+	 * Retrieves the method fragment of the given ``owner`` class,
+	 * for a page of the given ``source`` package.
+	 * 
+	 * @param owner Class to get fragment for.
+	 * @param source Package of the page fragment is written in.
+	 * @param context Context of the current execution.
+	 * @return Method fragment of the class.
+	 */
+	public Fragment getMethods(final ClassModel owner, final String source, final MarkletContext context) {
+		return getFragment(methods, owner, owner.getMethods(), source, context);
+	}
+
+	/**
+	 * Retrieves the field fragment of the given ``owner`` class,
+	 * for a page of the given ``source`` package.
+	 * 
+	 * @param owner Class to get fragment for.
+	 * @param source Package of the page fragment is written in.
+	 * @param context Context of the current execution.
+	 * @return Field fragment of the class.
+	 */
+	public Fragment getFields(final ClassModel owner, final String source, final MarkletContext context) {
+		return getFragment(fields, owner, owner.getFields(), source, context);
+	}
+
+	/**
+	 * Getter for the number of cache hits.
+	 * 
+	 * @return Number of fragments that have been retrieved from the cache.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Getter for the number of cache misses.
+	 * 
+	 * @return Number of fragments that have been rendered.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+}
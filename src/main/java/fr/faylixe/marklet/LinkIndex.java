@@ -0,0 +1,140 @@
+package fr.faylixe.marklet;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.DocumentationModel;
+
+/**
+ * Index of link targets, built once from the documentation
+ * model. It maps each documented class to its page file name,
+ * which is appended to the relative path of its package as
+ * retrieved from a {@link RelativePathCache}, so that emitting
+ * a link only takes two lookups.
+ * 
+ * @author fv
+ */
+public final class LinkIndex {
+
+	/** Documented classes, indexed by qualified name. **/
+	private final Map<String, ClassReference> classes;
+
+	/** Documented classes, indexed by name, ``null`` if such name is ambiguous. **/
+	private final Map<String, ClassReference> names;
+
+	/** Page file of each documented class relative to its package directory, indexed by qualified name. **/
+	private final Map<String, String> files;
+
+	/** Cache used for computing relative paths between packages. **/
+	private final RelativePathCache pathCache;
+
+	/** File ending used in internal links. **/
+	private final String linkEnding;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param pathCache Cache used for computing relative paths between packages.
+	 * @param linkEnding File ending used in internal links.
+	 */
+	private LinkIndex(final RelativePathCache pathCache, final String linkEnding) {
+		this.classes = new HashMap<String, ClassReference>();
+		this.names = new HashMap<String, ClassReference>();
+		this.files = new HashMap<String, String>();
+		this.pathCache = pathCache;
+		this.linkEnding = linkEnding;
+	}
+
+	/**
+	 * Indexes the given ``reference``.
+	 * 
+	 * @param reference Reference of the documented class to index.
+	 */
+	private void add(final ClassReference reference) {
+		final String qualifiedName = reference.getQualifiedName();
+		classes.put(qualifiedName, reference);
+		files.put(qualifiedName, reference.getSimpleTypeName() + '.' + linkEnding);
+		addName(reference.getName(), reference);
+		addName(reference.getSimpleTypeName(), reference);
+	}
+
+	/**
+	 * Indexes the given ``reference`` with the given
+	 * ``name``, marking such name as ambiguous if it
+	 * is already used by another class.
+	 * 
+	 * @param name Name to index reference with.
+	 * @param reference Reference to index.
+	 */
+	private void addName(final String name, final ClassReference reference) {
+		if (names.containsKey(name) && names.get(name) != reference) {
+			names.put(name, null);
+		}
+		else {
+			names.put(name, reference);
+		}
+	}
+
+	/**
+	 * Retrieves the relative URL of the page of the given
+	 * ``target`` class from the given ``source`` package.
+	 * 
+	 * @param source Source package to start URL from.
+	 * @param target Target class to reach from this package.
+	 * @return Relative URL, ``null`` if the target class is not documented.
+	 */
+	public String getURL(final String source, final ClassReference target) {
+		final String file = files.get(target.getQualifiedName());
+		if (file == null) {
+			return null;
+		}
+		return pathCache.getPath(source, target.getPackageName()) + file;
+	}
+
+	/**
+	 * Resolves the documented class referenced by the given
+	 * link ``signature``, such as ``Foo``, ``Foo#bar()`` or
+	 * ``fr.faylixe.Foo label``. Class part is looked up by
+	 * qualified name first, then by name if not ambiguous.
+	 * 
+	 * @param signature Link signature to resolve.
+	 * @return Referenced class, ``null`` if not found.
+	 */
+	public ClassReference resolve(final String signature) {
+		String name = signature.trim();
+		for (int i = 0; i < name.length(); i++) {
+			final char character = name.charAt(i);
+			if (character == '#' || Character.isWhitespace(character)) {
+				name = name.substring(0, i);
+				break;
+			}
+		}
+		if (name.isEmpty()) {
+			return null;
+		}
+		final ClassReference reference = classes.get(name);
+		return reference == null ? names.get(name) : reference;
+	}
+
+	/**
+	 * Static factory that builds the index
+	 * of the given documentation ``model``.
+	 * 
+	 * @param model Documentation model to index.
+	 * @param pathCache Cache used for computing relative paths between packages.
+	 * @param linkEnding File ending used in internal links.
+	 * @return Built index.
+	 */
+	public static LinkIndex build(final DocumentationModel model, final RelativePathCache pathCache, final String linkEnding) {
+		final LinkIndex index = new LinkIndex(pathCache, linkEnding);
+		for (final ClassModel classModel : model.getClasses()) {
+			if (classModel.getReference().isIncluded()) {
+				index.add(classModel.getReference());
+			}
+		}
+		return index;
+	}
+
+}
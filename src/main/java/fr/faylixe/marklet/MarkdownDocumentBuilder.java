@@ -1,21 +1,22 @@
 package fr.faylixe.marklet;
 
+import java.io.IOException;
+import java.io.Writer;
+
 /**
  * This class aims to build Markdown document.
- * It is built in a top of a {@link StringBuffer}
+ * It is built in a top of a {@link StringBuilder}
  * instance which will contains our document
- * content.
+ * content, provided by a {@link BufferStrategy}
+ * and presized to the expected document length. When a sink is provided through
+ * {@link #stream(Writer)}, such buffer is regularly
+ * flushed to the sink so it only contains the
+ * latest lines of the document.
  * 
  * @author fv
  */
 public class MarkdownDocumentBuilder {
 
-	/** Extension used for linked file. **/
-	public static final String LINK_EXTENSION = ".html";
-
-	/** Extension used for generated markdown file. **/
-	public static final String FILE_EXTENSION = ".html.md";
-
 	/** Bold text decoration. **/
 	private static final String BOLD = "**";
 
@@ -58,35 +59,160 @@ public class MarkdownDocumentBuilder {
 	/** HTML paragraph closing tag. **/
 	private static final String PARAGRAPH_CLOSE = "</p>";
 
-	/** Buffer in which markdown document is stored. **/
-	private final StringBuffer buffer;
+	/** Buffer size from which content is flushed to the sink if any. **/
+	protected static final int FLUSH_THRESHOLD = 8192;
+
+	/** Initial buffer capacity of documents whose length is unknown. **/
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/** Strategy the buffer is acquired from. **/
+	private final BufferStrategy strategy;
+
+	/** Buffer in which markdown document is stored, ``null`` once released. **/
+	private StringBuilder buffer;
+
+	/** Sink buffered content is flushed to, ``null`` if not streaming. **/
+	private Writer sink;
+
+	/** Reusable array used for copying buffered content to the sink. **/
+	private char [] chunk;
+
+	/** First error that occurs while flushing to the sink, if any. **/
+	private IOException sinkError;
+
+	/** Number of characters that have been flushed to the sink. **/
+	private long flushed;
+
+	/**
+	 * Constructor which acquires the internal buffer
+	 * from the given ``strategy``.
+	 * 
+	 * @param strategy Strategy the buffer is acquired from.
+	 * @param capacity Expected length of the document.
+	 */
+	public MarkdownDocumentBuilder(final BufferStrategy strategy, final int capacity) {
+		this.strategy = strategy;
+		this.buffer = strategy.acquire(capacity);
+	}
 
 	/**
 	 * Default constructor.
 	 * Initializes internal buffer.
 	 */
 	public MarkdownDocumentBuilder() {
-		this.buffer = new StringBuffer();
+		this(BufferStrategy.UNPOOLED, DEFAULT_CAPACITY);
 	}
 	
 	/**
-	 * Filters and returns the given ``text``
-	 * freed from HTML paragraph.
+	 * Appends the given ``text`` freed from HTML
+	 * paragraph to the current document. Text is
+	 * scanned once, and the ranges between paragraph
+	 * tags are appended directly from it, without
+	 * any copy.
 	 * 
 	 * @param text Text to remove paragraph tag from.
-	 * @return Filtered text.
 	 */
-	private final String filterParagraph(final String text) {
-		return text
-				.replaceAll(PARAGRAPH_OPEN, "")
-				.replaceAll(PARAGRAPH_CLOSE, "");
+	private void filterParagraph(final String text) {
+		int tag = text.indexOf('<');
+		if (tag < 0) {
+			buffer.append(text);
+			return;
+		}
+		int start = 0;
+		while (tag >= 0) {
+			int end = tag + 1;
+			if (text.startsWith(PARAGRAPH_OPEN, tag)) {
+				end = tag + PARAGRAPH_OPEN.length();
+			}
+			else if (text.startsWith(PARAGRAPH_CLOSE, tag)) {
+				end = tag + PARAGRAPH_CLOSE.length();
+			}
+			else {
+				tag = text.indexOf('<', end);
+				continue;
+			}
+			buffer.append(text, start, tag);
+			start = end;
+			tag = text.indexOf('<', end);
+		}
+		buffer.append(text, start, text.length());
 	}
 	
+	/**
+	 * Starts streaming the current document to the
+	 * given ``sink``. Content already appended, as well
+	 * as further content is written to the sink, which is
+	 * closed by {@link #close()}.
+	 * 
+	 * @param sink Writer to stream document content to.
+	 */
+	public final void stream(final Writer sink) {
+		this.sink = sink;
+		this.chunk = new char[FLUSH_THRESHOLD];
+	}
+
+	/**
+	 * Indicates if the current document is streamed.
+	 * 
+	 * @return ``true`` if the document is streamed to a sink, ``false`` otherwise.
+	 */
+	public final boolean isStreaming() {
+		return sink != null;
+	}
+
+	/**
+	 * Writes the buffered content to the sink and clears
+	 * the buffer. Any error is kept and will be thrown
+	 * by {@link #close()}.
+	 */
+	private void flush() {
+		final int length = buffer.length();
+		if (sinkError == null) {
+			if (chunk.length < length) {
+				chunk = new char[length];
+			}
+			buffer.getChars(0, length, chunk, 0);
+			try {
+				sink.write(chunk, 0, length);
+				flushed += length;
+			}
+			catch (final IOException e) {
+				sinkError = e;
+			}
+		}
+		buffer.setLength(0);
+	}
+
+	/**
+	 * Flushes the remaining content to the sink
+	 * and closes it. Does nothing if the current
+	 * document is not streamed.
+	 * 
+	 * @throws IOException If any error occurs while writing to the sink.
+	 */
+	protected final void close() throws IOException {
+		if (sink != null) {
+			flush();
+			try {
+				sink.close();
+			}
+			finally {
+				sink = null;
+			}
+			if (sinkError != null) {
+				throw sinkError;
+			}
+		}
+	}
+
 	/**
 	 * Appends a new line to the current document.
 	 */
 	public final void newLine() {
 		buffer.append("\n");
+		if (sink != null && buffer.length() >= FLUSH_THRESHOLD) {
+			flush();
+		}
 	}
 
 	/**
@@ -96,9 +222,23 @@ public class MarkdownDocumentBuilder {
 	 * @param text Text to append to the document.
 	 */
 	public final void text(final String text) {
-		buffer.append(filterParagraph(text));
+		filterParagraph(text);
 	}
 	
+	/**
+	 * Appends the given ``fragment``, which has already
+	 * been formatted by another builder, to the current
+	 * document without any filtering.
+	 * 
+	 * @param fragment Formatted fragment to append to the document.
+	 */
+	public final void fragment(final String fragment) {
+		buffer.append(fragment);
+		if (sink != null && buffer.length() >= FLUSH_THRESHOLD) {
+			flush();
+		}
+	}
+
 	/**
 	 * Appends the given ``character`` to the current
 	 * document.
@@ -286,13 +426,64 @@ public class MarkdownDocumentBuilder {
 	}
 
 	/**
-	 * Builds and returns the document content.
+	 * Getter for the document length.
+	 * 
+	 * @return Number of characters of the document, flushed ones included.
+	 */
+	public final long getLength() {
+		return flushed + buffer.length();
+	}
+
+	/**
+	 * Getter for the document content that has not been
+	 * flushed, as a view of the internal buffer which must
+	 * not be used once the document is released.
+	 * 
+	 * @return Document content that has not been flushed.
+	 */
+	public final CharSequence getContent() {
+		return buffer;
+	}
+
+	/**
+	 * Copies the document content that has not been flushed
+	 * into the given ``destination`` array, or into a new
+	 * array if it is too small.
+	 * 
+	 * @param destination Array to copy content into.
+	 * @return Array content has been copied into.
+	 */
+	public final char [] getChars(final char [] destination) {
+		final int length = buffer.length();
+		final char [] target = destination.length < length
+			? new char[Math.max(length, destination.length * 2)]
+			: destination;
+		buffer.getChars(0, length, target, 0);
+		return target;
+	}
+
+	/**
+	 * Builds and returns the document content. If the
+	 * document is streamed, only the content that has not
+	 * been flushed yet is returned.
 	 * 
 	 * @return Built document content.
-	 * @see StringBuffer#toString()
+	 * @see StringBuilder#toString()
 	 */
 	public final String build() {
 		return buffer.toString();
 	}
 
+	/**
+	 * Gives back the internal buffer to the strategy it
+	 * has been acquired from. The document can not be
+	 * used anymore once released.
+	 */
+	public final void release() {
+		if (buffer != null) {
+			strategy.release(buffer);
+			buffer = null;
+		}
+	}
+
 }
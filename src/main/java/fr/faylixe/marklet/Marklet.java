@@ -1,14 +1,19 @@
 package fr.faylixe.marklet;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.function.Supplier;
 
 import com.sun.javadoc.*;
 
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationExtractor;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.PackageModel;
+
 /**
  * Marklet entry point. This class declares
  * the {@link #start(RootDoc)} method required
@@ -22,9 +27,27 @@ public final class Marklet {
 	/** Command line options that have been parsed. **/
 	private final MarkletOptions options;
 
+	/** Context shared with page builders. **/
+	private MarkletContext context;
+
 	/** Documentation root provided by the doclet API. **/
 	private final RootDoc root;
 
+	/** Documentation model extracted from the {@link #root}. **/
+	private DocumentationModel model;
+
+	/** Manifest of the previous execution, ``null`` if incremental mode is disabled. **/
+	private PageManifest manifest;
+
+	/** Timings of this execution. **/
+	private final RunStatistics statistics;
+
+	/** Reporter of the generation progress. **/
+	private ProgressReporter progress;
+
+	/** Expected cost of each page, ``null`` unless pages are generated by a pool of workers. **/
+	private PageCosts costs;
+
 	/**
 	 * Default constructor.
 	 * 
@@ -34,6 +57,7 @@ public final class Marklet {
 	private Marklet(final MarkletOptions options, final RootDoc root) {
 		this.root = root;
 		this.options = options;
+		this.statistics = new RunStatistics();
 	}
 
 	/**
@@ -53,22 +77,44 @@ public final class Marklet {
 		return Paths.get(path);
 	}
 
+	/**
+	 * Indicates if the given ``page`` is up to date
+	 * according to the manifest of the previous execution,
+	 * and thus could be skipped.
+	 * 
+	 * @param page Path of the page to check.
+	 * @param fingerprint Supplier of the fingerprint of the page to generate.
+	 * @return ``true`` if the page generation can be skipped, ``false`` otherwise.
+	 */
+	private boolean isUpToDate(final Path page, final Supplier<String> fingerprint) {
+		return manifest != null && manifest.isUpToDate(page, fingerprint.get());
+	}
+
 	/**
 	 * Generates package documentation for the given
-	 * ``packageDoc``.
+	 * ``packageModel``.
 	 * 
-	 * @param packageDoc Package to generate documentation for.
+	 * @param packageModel Package to generate documentation for.
 	 * @throws IOException If any error occurs while creating file or directories.
 	 */
-	private Path generatePackage(final PackageDoc packageDoc) throws IOException {
-		final String name = packageDoc.name();
-		root.printNotice("Generates package documentation for " + name);
+	private Path generatePackage(final PackageModel packageModel) throws IOException {
+		final String name = packageModel.getName();
 		if (!name.isEmpty()) {
 			final Path directoryPath = getPackageDirectory(name);
 			if (!Files.exists(directoryPath)) {
 				Files.createDirectories(directoryPath);
 			}
-			PackagePageBuilder.build(packageDoc, directoryPath);
+			final Path path = PackagePageBuilder.getPath(directoryPath, options.getFileEnding());
+			if (!isUpToDate(path, () -> PageFingerprint.of(packageModel, context))) {
+				progress.starting("package " + name);
+				final long start = System.nanoTime();
+				PackagePageBuilder.build(packageModel, directoryPath, context);
+				final long duration = statistics.page(start);
+				if (costs != null) {
+					costs.record(packageModel, duration);
+				}
+			}
+			progress.completed();
 			return directoryPath;
 		}
 		return Paths.get(".");
@@ -81,14 +127,46 @@ public final class Marklet {
 	 */
 	private void buildPackages() throws IOException {
 		// TODO : Consider method root.specifiedPackages();
-		final Set<PackageDoc> packages = new HashSet<PackageDoc>(); // TODO : Ensures 
-		for (final ClassDoc classDoc : root.classes()) {
-			final PackageDoc packageDoc = classDoc.containingPackage();
-			if (!packages.contains(packageDoc)) {
-				packages.add(packageDoc);
-				generatePackage(packageDoc);
+		for (final PackageModel packageModel : model.getPackages()) {
+			generatePackage(packageModel);
+		}
+	}
+
+	/**
+	 * Computes the number of pages to generate, which is one
+	 * per named package and one per class.
+	 * 
+	 * @return Number of pages to generate.
+	 */
+	private int getPageCount() {
+		int count = model.getClasses().size();
+		for (final PackageModel packageModel : model.getPackages()) {
+			if (!packageModel.getName().isEmpty()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Generates documentation file for the given ``classModel``.
+	 * 
+	 * @param classModel Class to generate documentation for.
+	 * @throws IOException If any error occurs while writing documentation.
+	 */
+	private void generateClass(final ClassModel classModel) throws IOException {
+		final Path packageDirectory = getPackageDirectory(classModel.getPackageName());
+		final Path path = ClassPageBuilder.getPath(classModel, packageDirectory, options.getFileEnding());
+		if (!isUpToDate(path, () -> PageFingerprint.of(classModel, context))) {
+			progress.starting(classModel.getName());
+			final long start = System.nanoTime();
+			ClassPageBuilder.build(classModel, packageDirectory, context);
+			final long duration = statistics.page(start);
+			if (costs != null) {
+				costs.record(classModel, duration);
 			}
 		}
+		progress.completed();
 	}
 
 	/**
@@ -98,12 +176,33 @@ public final class Marklet {
 	 * @throws IOException If any error occurs during generation process.
 	 */
 	private void buildClasses() throws IOException {
-		for (final ClassDoc classDoc : root.classes()) {
-			final PackageDoc packageDoc = classDoc.containingPackage();
-			final String packageName = packageDoc.name();
-			final Path packageDirectory = getPackageDirectory(packageName);
-			root.printNotice("Generates documentation for " + classDoc.name());
-			ClassPageBuilder.build(classDoc, packageDirectory);				
+		for (final ClassModel classModel : model.getClasses()) {
+			generateClass(classModel);
+		}
+	}
+
+	/**
+	 * Prints a notice for the written pages and
+	 * for each cache and pool of the execution.
+	 * 
+	 * @param pageWriter Writer pages have been written with.
+	 */
+	private void printStatistics(final PageWriter pageWriter) {
+		root.printNotice(pageWriter.getWritten() + " pages written, " + pageWriter.getSkipped() + " pages unchanged");
+		final RelativePathCache pathCache = context.getPathCache();
+		root.printNotice("Relative path cache : " + pathCache.getHits() + " hits, " + pathCache.getMisses() + " misses");
+		final InheritedMemberCache inheritedMemberCache = context.getInheritedMemberCache();
+		root.printNotice("Inherited member cache : " + inheritedMemberCache.getHits() + " hits, " + inheritedMemberCache.getMisses() + " misses");
+		final TypeFragmentCache typeFragmentCache = context.getTypeFragmentCache();
+		root.printNotice(String.format(
+				"Type fragment cache : %d hits, %d misses (%.1f%% hit rate)",
+				typeFragmentCache.getHits(),
+				typeFragmentCache.getMisses(),
+				typeFragmentCache.getHitRate() * 100));
+		final ByteBufferPool bufferPool = context.getPageEncoder().getPool();
+		root.printNotice("Page buffer pool : " + bufferPool.getAllocated() + " allocated, " + bufferPool.getReused() + " reused");
+		if (manifest != null) {
+			root.printNotice("Skipped " + manifest.getSkipped() + " unchanged pages");
 		}
 	}
 
@@ -118,8 +217,61 @@ public final class Marklet {
 			if (!Files.exists(outputDirectory)) {
 				Files.createDirectories(outputDirectory);
 			}
-			buildPackages();
-			buildClasses();
+			long start = System.nanoTime();
+			model = DocumentationExtractor.extract(root);
+			statistics.phase(RunStatistics.EXTRACTION, start);
+			start = System.nanoTime();
+			context = new MarkletContext(options, model);
+			statistics.phase(RunStatistics.INDEXING, start);
+			if (!options.getExternalLinks().isEmpty()) {
+				root.printNotice("External links : " + context.getExternalLinkIndex().getPackageCount() + " packages from " + options.getExternalLinks().size() + " documentation sets");
+			}
+			if (options.isIncremental()) {
+				final String cacheDirectory = options.getCacheDirectory();
+				manifest = PageManifest.load(
+						outputDirectory,
+						cacheDirectory == null ? outputDirectory : Paths.get(cacheDirectory),
+						StandardCharsets.UTF_8.name() + ' ' + options.getLinkEnding() + ' ' + context.getExternalLinkIndex().getSignature());
+			}
+			progress = new ProgressReporter(root, getPageCount(), options.isVerbosePages(), options.getProgressInterval());
+			try {
+				if (options.getThreads() > 1) {
+					start = System.nanoTime();
+					costs = PageCosts.load(outputDirectory, model, context.getHierarchyIndex());
+					new PackageScheduler(options.getThreads(), costs, this::generatePackage, this::generateClass)
+						.schedule(model.getPackages(), model.getClasses());
+					statistics.phase(RunStatistics.PAGES, start);
+				}
+				else {
+					start = System.nanoTime();
+					buildPackages();
+					statistics.phase(RunStatistics.PACKAGES, start);
+					start = System.nanoTime();
+					buildClasses();
+					statistics.phase(RunStatistics.CLASSES, start);
+				}
+			}
+			finally {
+				start = System.nanoTime();
+				context.getAsyncPageWriter().close();
+				statistics.phase(RunStatistics.WRITING, start);
+			}
+			progress.finish();
+			if (costs != null) {
+				costs.store();
+			}
+			final PageWriter pageWriter = context.getPageWriter();
+			if (manifest != null) {
+				manifest.store();
+			}
+			if (options.isVerbosePages()) {
+				printStatistics(pageWriter);
+			}
+			final String timingReport = options.getTimingReport();
+			if (timingReport != null) {
+				statistics.store(Paths.get(timingReport), pageWriter);
+			}
+			root.printNotice(statistics.getSummary(pageWriter));
 		}
 		catch (final IOException e) {
 			root.printError(e.getMessage());
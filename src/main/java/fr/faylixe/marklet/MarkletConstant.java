@@ -44,11 +44,8 @@ public final class MarkletConstant {
 	/** Label for fields. **/
 	public static final String FIELDS = "Fields";
 
-	/** Package index filename. **/
-	public static final String README_LINK = "README.html";
-
-	/** Package index filename. **/
-	public static final String README_FILE = "README.html.md";
+	/** Package index filename, without its ending. **/
+	public static final String README = "README";
 
 	/** Label for name. **/
 	public static final String NAME = "Name";
@@ -65,6 +62,9 @@ public final class MarkletConstant {
 	/** Label for parameters. **/
 	public static final String PARAMETERS = "Parameters";
 
+	/** Label for see also references. **/
+	public static final String SEE_ALSO = "See also";
+
 	/** Label for summary. **/
 	public static final String SUMMARY = "Summary";
 
@@ -92,6 +92,12 @@ public final class MarkletConstant {
 	/** Markdown sequence for cell separator. **/
 	public static final String TABLE_SEPARATOR = " | ";
 
+	/** Header label for methods inherited from a superclass. **/
+	public static final String INHERITED_METHODS = "Methods inherited from ";
+
+	/** Header label for fields inherited from a superclass. **/
+	public static final String INHERITED_FIELDS = "Fields inherited from ";
+
 	/** Header label for the interface hierachy. **/
 	public static final String INTERFACE_HIEARCHY_HEADER = "All implemented interfaces :";
 
@@ -0,0 +1,196 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+
+import fr.faylixe.marklet.model.DocumentationModel;
+
+/**
+ * Shared state of a **Marklet** execution, which is
+ * provided to each page builder.
+ * 
+ * @author fv
+ */
+public final class MarkletContext {
+
+	/** Command line options that have been parsed. **/
+	private final MarkletOptions options;
+
+	/** Writer used for writing generated pages. **/
+	private final PageWriter pageWriter;
+
+	/** Writer stage rendered pages are queued to. **/
+	private final AsyncPageWriter asyncPageWriter;
+
+	/** Encoder of rendered pages. **/
+	private final PageEncoder pageEncoder;
+
+	/** Strategy document buffers are acquired from. **/
+	private final BufferStrategy bufferStrategy;
+
+	/** Cache of the relative paths between packages. **/
+	private final RelativePathCache pathCache;
+
+	/** Index of the link targets. **/
+	private final LinkIndex linkIndex;
+
+	/** Index of the packages documented by external documentation sets. **/
+	private final ExternalLinkIndex externalLinkIndex;
+
+	/** Index of the members link targets. **/
+	private final MemberIndex memberIndex;
+
+	/** Index of the class hierarchies. **/
+	private final HierarchyIndex hierarchyIndex;
+
+	/** Index of the overriding methods. **/
+	private final OverrideIndex overrideIndex;
+
+	/** Cache of the rows of the inherited members summaries. **/
+	private final InheritedMemberCache inheritedMemberCache;
+
+	/** Cache of the rendered type signatures. **/
+	private final TypeFragmentCache typeFragmentCache;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param options Command line options that have been parsed.
+	 * @param model Documentation model pages are built from.
+	 * @throws IOException If any error occurs while loading external documentation sets.
+	 */
+	public MarkletContext(final MarkletOptions options, final DocumentationModel model) throws IOException {
+		this.options = options;
+		this.externalLinkIndex = ExternalLinkIndex.load(options.getExternalLinks());
+		this.pageWriter = new PageWriter(options.isWriteIfChanged());
+		final int memoryBudget = options.getMemoryBudget();
+		final ByteBufferPool pool = new ByteBufferPool(memoryBudget / 2);
+		this.pageEncoder = new PageEncoder(pool);
+		this.bufferStrategy = new PooledBufferStrategy();
+		this.asyncPageWriter = new AsyncPageWriter(pageWriter, pageEncoder, memoryBudget - memoryBudget / 2);
+		this.pathCache = new RelativePathCache();
+		this.linkIndex = LinkIndex.build(model, pathCache, options.getLinkEnding());
+		this.memberIndex = MemberIndex.build(model);
+		this.hierarchyIndex = HierarchyIndex.build(model);
+		this.overrideIndex = OverrideIndex.build(model);
+		this.inheritedMemberCache = new InheritedMemberCache();
+		this.typeFragmentCache = new TypeFragmentCache(TypeFragmentCache.DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Getter for the options.
+	 * 
+	 * @return Command line options that have been parsed.
+	 */
+	public MarkletOptions getOptions() {
+		return options;
+	}
+
+	/**
+	 * Getter for the page writer.
+	 * 
+	 * @return Writer used for writing generated pages.
+	 */
+	public PageWriter getPageWriter() {
+		return pageWriter;
+	}
+
+	/**
+	 * Getter for the writer stage.
+	 * 
+	 * @return Writer stage rendered pages are queued to.
+	 */
+	public AsyncPageWriter getAsyncPageWriter() {
+		return asyncPageWriter;
+	}
+
+	/**
+	 * Getter for the page encoder.
+	 * 
+	 * @return Encoder of rendered pages.
+	 */
+	public PageEncoder getPageEncoder() {
+		return pageEncoder;
+	}
+
+	/**
+	 * Getter for the buffer strategy.
+	 * 
+	 * @return Strategy document buffers are acquired from.
+	 */
+	public BufferStrategy getBufferStrategy() {
+		return bufferStrategy;
+	}
+
+	/**
+	 * Getter for the path cache.
+	 * 
+	 * @return Cache of the relative paths between packages.
+	 */
+	public RelativePathCache getPathCache() {
+		return pathCache;
+	}
+
+	/**
+	 * Getter for the link index.
+	 * 
+	 * @return Index of the link targets.
+	 */
+	public LinkIndex getLinkIndex() {
+		return linkIndex;
+	}
+
+	/**
+	 * Getter for the external link index.
+	 * 
+	 * @return Index of the packages documented by external documentation sets.
+	 */
+	public ExternalLinkIndex getExternalLinkIndex() {
+		return externalLinkIndex;
+	}
+
+	/**
+	 * Getter for the member index.
+	 * 
+	 * @return Index of the members link targets.
+	 */
+	public MemberIndex getMemberIndex() {
+		return memberIndex;
+	}
+
+	/**
+	 * Getter for the hierarchy index.
+	 * 
+	 * @return Index of the class hierarchies.
+	 */
+	public HierarchyIndex getHierarchyIndex() {
+		return hierarchyIndex;
+	}
+
+	/**
+	 * Getter for the override index.
+	 * 
+	 * @return Index of the overriding methods.
+	 */
+	public OverrideIndex getOverrideIndex() {
+		return overrideIndex;
+	}
+
+	/**
+	 * Getter for the inherited member cache.
+	 * 
+	 * @return Cache of the rows of the inherited members summaries.
+	 */
+	public InheritedMemberCache getInheritedMemberCache() {
+		return inheritedMemberCache;
+	}
+
+	/**
+	 * Getter for the type fragment cache.
+	 * 
+	 * @return Cache of the rendered type signatures.
+	 */
+	public TypeFragmentCache getTypeFragmentCache() {
+		return typeFragmentCache;
+	}
+
+}
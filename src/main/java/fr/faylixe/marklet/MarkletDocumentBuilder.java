@@ -1,30 +1,18 @@
 package fr.faylixe.marklet;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
+
+import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
 
-import com.sun.javadoc.ClassDoc;
-import com.sun.javadoc.Doc;
-import com.sun.javadoc.ExecutableMemberDoc;
-import com.sun.javadoc.FieldDoc;
-import com.sun.javadoc.MethodDoc;
-import com.sun.javadoc.PackageDoc;
-import com.sun.javadoc.ParamTag;
-import com.sun.javadoc.Parameter;
-import com.sun.javadoc.ParameterizedType;
-import com.sun.javadoc.ProgramElementDoc;
-import com.sun.javadoc.SeeTag;
-import com.sun.javadoc.Tag;
-import com.sun.javadoc.ThrowsTag;
-import com.sun.javadoc.Type;
-import com.sun.javadoc.TypeVariable;
-import com.sun.javadoc.WildcardType;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TagModel;
+import fr.faylixe.marklet.model.TypeModel;
 
 /**
  * Custom {@link MarkdownDocumentBuilder} implementation
@@ -36,60 +24,149 @@ import com.sun.javadoc.WildcardType;
  */
 public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 
-	/** Identifier of the return tag. **/
-	private static final String RETURN_TAG = "return";
-
 	/** Directory separator used for building a *up to parent* directory path. **/
 	private static final String UP_DIRECTORY = "../";
 
 	/** Separator used between parameter name and description. **/
 	private static final String PARAMETER_DETAIL_SEPARATOR = ": ";
 
-	/** Target source package from which document will be written. **/
-	private final PackageDoc source;
+	/** Initial buffer capacity of documents built outside of a page, such as type fragments. **/
+	private static final int FRAGMENT_CAPACITY = 128;
+
+	/** Maximum initial buffer capacity of a document. **/
+	private static final int MAXIMUM_CAPACITY = 1024 * 1024;
+
+	/** Name of the target source package from which document will be written. **/
+	private final String source;
+
+	/** Context of the current execution. **/
+	private final MarkletContext context;
+
+	/** Number of characters of the built document, -1 until built. **/
+	private long characters;
+
+	/** Number of bytes of the built document, -1 until built or if unknown. **/
+	private long bytes;
 
 	/**
-	 * Default constructor. 
+	 * Constructor which acquires a buffer of the given ``capacity``
+	 * from the context {@link BufferStrategy}. When streaming,
+	 * the buffer does not need to be larger than the flushed chunks.
 	 * 
-	 * @param source Target source package from which document will be written. 
+	 * @param source Name of the target source package from which document will be written. 
+	 * @param context Context of the current execution.
+	 * @param capacity Expected length of the document.
 	 */
-	public MarkletDocumentBuilder(final PackageDoc source) {
+	public MarkletDocumentBuilder(final String source, final MarkletContext context, final int capacity) {
+		super(context.getBufferStrategy(), context.getOptions().isStreaming() ? Math.min(capacity, FLUSH_THRESHOLD * 2) : capacity);
 		this.source = source;
+		this.context = context;
+		this.characters = -1;
+		this.bytes = -1;
+	}
+
+	/**
+	 * Default constructor, for documents built outside of a page.
+	 * 
+	 * @param source Name of the target source package from which document will be written. 
+	 * @param context Context of the current execution.
+	 */
+	public MarkletDocumentBuilder(final String source, final MarkletContext context) {
+		this(source, context, FRAGMENT_CAPACITY);
+	}
+
+	/**
+	 * Computes the initial buffer capacity of the document denoted
+	 * by the given ``path``. The size of the page written by the
+	 * previous execution is used if any, as pages rarely change
+	 * from one execution to another, otherwise the given ``estimate``.
+	 * 
+	 * @param path Path of the document to write.
+	 * @param estimate Expected length of a new document.
+	 * @return Initial buffer capacity.
+	 */
+	protected static int getCapacity(final Path path, final int estimate) {
+		final long previous = path.toFile().length();
+		if (previous > 0) {
+			return (int) Math.min(previous + (previous >>> 4), MAXIMUM_CAPACITY);
+		}
+		return Math.min(estimate, MAXIMUM_CAPACITY);
 	}
 
 	/**
 	 * Source getter.
 	 * 
-	 * @return Target source package from which document will be written.
+	 * @return Name of the target source package from which document will be written.
 	 */
-	public final PackageDoc getSource() {
+	public final String getSource() {
 		return source;
 	}
 
+	/**
+	 * Context getter.
+	 * 
+	 * @return Context of the current execution.
+	 */
+	public final MarkletContext getContext() {
+		return context;
+	}
+
+	/**
+	 * Getter for the number of characters.
+	 * 
+	 * @return Number of characters of the built document, -1 until built.
+	 */
+	public final long getCharacters() {
+		return characters;
+	}
+
+	/**
+	 * Getter for the number of bytes.
+	 * 
+	 * @return Number of bytes of the built document, -1 until built or if unknown.
+	 */
+	public final long getBytes() {
+		return bytes;
+	}
+
+	/**
+	 * Prepares the writing of the document denoted by the
+	 * given ``path``. If streaming mode is enabled, the
+	 * document is streamed to this path, UTF-8 encoded,
+	 * while being built.
+	 * 
+	 * @param path Path of the document to write.
+	 * @throws IOException If any error occurs while opening the document.
+	 */
+	public void open(final Path path) throws IOException {
+		if (context.getOptions().isStreaming()) {
+			stream(context.getPageWriter().open(path));
+		}
+	}
+
 	/**
 	 * Appends to the current document a valid markdown link
-	 * that aims to be the shortest one, by using the
-	 * {@link #getPath(String, String)} method. The
-	 * built URL will start from the given ``source``
-	 * package to the given ``target`` class.
+	 * that aims to be the shortest one, as provided by the
+	 * context {@link LinkIndex}. The built URL will start
+	 * from the given ``source`` package to the given
+	 * ``target`` class. A class which is not documented is
+	 * linked to its external documentation if provided by the
+	 * context {@link ExternalLinkIndex}, or else appended as
+	 * its qualified name.
 	 *  
 	 * @param source Source package to start URL from.
 	 * @param target Target class to reach from this package.
 	 */
-	public void classLink(final PackageDoc source, final ClassDoc target) {
-		if (target.isIncluded()) {
-			final String path = getPath(source.name(), target.containingPackage().name());
-			final StringBuffer urlBuilder = new StringBuffer();
-			urlBuilder
-				.append(path)
-				.append(target.simpleTypeName())
-				.append(MarkdownDocumentBuilder.LINK_EXTENSION);
-			link(target.simpleTypeName(), urlBuilder.toString());
+	public void classLink(final String source, final ClassReference target) {
+		String url = context.getLinkIndex().getURL(source, target);
+		if (url == null) {
+			url = context.getExternalLinkIndex().getURL(target);
+		}
+		if (url != null) {
+			link(target.getSimpleTypeName(), url);
 		}
 		else {
-			// TODO : Process external link here.
-			// TODO : Use marklet-directory project when done.
-			italic(target.qualifiedName());
+			italic(target.getQualifiedName());
 		}
 	}
 
@@ -98,22 +175,35 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * link for the given ``type``. If this ``type``
 	 * is a primitive one, then only a bold label
 	 * is produced. Otherwise it return a link
-	 * created by the {@link #classLink(PackageDoc, ClassDoc)}
-	 * method.
+	 * created by the {@link #classLink(String, ClassReference)}
+	 * method, followed by its type arguments, which is
+	 * retrieved from the context {@link TypeFragmentCache}.
 	 * 
 	 * @param source Source package to start URL from.
 	 * @param type Target type to reach from this package.
 	 */
-	public void typeLink(final PackageDoc source, final Type type) {
-		if (type.isPrimitive()) {
-			code(type.simpleTypeName());
+	public void typeLink(final String source, final TypeModel type) {
+		final ClassReference reference = type.getClassReference();
+		if (type.isPrimitive() || reference == null) {
+			code(type.getSimpleTypeName());
 		}
 		else {
-			final ClassDoc classDoc = type.asClassDoc();
-			classLink(source, classDoc);
-			parameterLinks(source, type);
+			fragment(context.getTypeFragmentCache().get(source, type, context));
 		}
 	}
+
+	/**
+	 * Appends to the current document the link of the
+	 * given non primitive ``type``, followed by its type
+	 * arguments, from this document source package.
+	 * 
+	 * @param type Target type to reach from this package.
+	 * @see TypeFragmentCache
+	 */
+	void renderType(final TypeModel type) {
+		classLink(source, type.getClassReference());
+		parameterLinks(source, type);
+	}
 	
 	/**
 	 * Appends to the current document the list of parameters
@@ -122,20 +212,17 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * @param source Source package to start URL from.
 	 * @param type Target type to append parameters from.
 	 */
-	private void parameterLinks(final PackageDoc source, final Type type) {
-		final ParameterizedType invocation = type.asParameterizedType();
-		if (invocation != null) {
-			final Type [] types = invocation.typeArguments();
-			if (types.length > 0) {
-				character('<');
-				for (int i = 0; i < types.length; i++) {
-					parameterLink(source, types[i]);
-					if (i < types.length - 1) {
-						text(", ");
-					}
+	private void parameterLinks(final String source, final TypeModel type) {
+		final List<TypeModel> types = type.getTypeArguments();
+		if (!types.isEmpty()) {
+			character('<');
+			for (int i = 0; i < types.size(); i++) {
+				parameterLink(source, types.get(i));
+				if (i < types.size() - 1) {
+					text(", ");
 				}
-				character('>');
 			}
+			character('>');
 		}
 	}
 	
@@ -146,50 +233,107 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * @param source Source package to start URL from.
 	 * @param type Target type parameter to reach from this package.
 	 */
-	private void parameterLink(final PackageDoc source, final Type type) {
-		final WildcardType wildcard = type.asWildcardType();
-		if (wildcard != null) {
+	private void parameterLink(final String source, final TypeModel type) {
+		if (type.getKind() == TypeModel.Kind.WILDCARD) {
 			character('?');
 		}
-		else {
-			final TypeVariable variableType = type.asTypeVariable();
-			if (variableType != null) {
-				final Type [] bounds = variableType.bounds();
-				if (bounds.length > 0) {
-					text("? extends ");
-					for (int i = 0; i < bounds.length; i++) {
-						typeLink(source, bounds[i]);
-						if (i < bounds.length - 1) {
-							text(" & ");
-						}
+		else if (type.getKind() == TypeModel.Kind.VARIABLE) {
+			final List<TypeModel> bounds = type.getBounds();
+			if (!bounds.isEmpty()) {
+				text("? extends ");
+				for (int i = 0; i < bounds.size(); i++) {
+					typeLink(source, bounds.get(i));
+					if (i < bounds.size() - 1) {
+						text(" & ");
 					}
 				}
 			}
-			else {
-				typeLink(source, type);
-			}
+		}
+		else {
+			typeLink(source, type);
 		}
 	}
 	
 	/**
-	 * To document.
+	 * Appends to the current document a link to the section
+	 * of the given member ``target`` into its class document,
+	 * from the given ``source`` package. If such class is not
+	 * documented, only the member name is appended.
 	 * 
-	 * @param source
-	 * @param method
+	 * @param source Source package to start URL from.
+	 * @param target Target member to reach from this package.
 	 */
-	public void methodLink(final PackageDoc source, final MethodDoc method) {
-		// TODO : Add method linking method here.
+	public void memberLink(final String source, final MemberIndex.Target target) {
+		final String url = context.getLinkIndex().getURL(source, target.getOwner());
+		if (url == null) {
+			text(target.getMember().getName());
+		}
+		else {
+			link(target.getMember().getName(), url + target.getAnchor());
+		}
 	}
 
 	/**
-	 * This methods will process the given ``doc``
-	 * comment text, by replacing each link tags
-	 * by effective markdown link.
+	 * Appends to the current document a link to the target
+	 * of the given link or see ``tag``. A member target is
+	 * retrieved from the context {@link MemberIndex}, by the key
+	 * resolved by the doclet API or else by the tag signature.
+	 * A class target that has not been resolved by the doclet API
+	 * is looked up into the context {@link LinkIndex}. The tag text
+	 * is appended as is if its target could not be resolved.
 	 * 
-	 * @param doc Documentation element to process description from.
+	 * @param tag Tag to append link for.
 	 */
-	public void description(final Doc doc) {
-		description(doc.inlineTags());
+	public void referenceLink(final TagModel tag) {
+		final ClassReference reference = resolveClass(tag, context);
+		final MemberIndex.Target target = resolveMember(tag, reference, context);
+		if (target != null) {
+			memberLink(source, target);
+		}
+		else if (reference != null) {
+			classLink(source, reference);
+		}
+		else {
+			text(tag.getText());
+		}
+	}
+
+	/**
+	 * Resolves the class targeted by the given link or see ``tag``,
+	 * as resolved by the doclet API or else by looking up the tag
+	 * signature into the given ``context`` {@link LinkIndex}.
+	 * 
+	 * @param tag Tag to resolve class target of.
+	 * @param context Context of the current execution.
+	 * @return Targeted class, ``null`` if not resolved.
+	 */
+	public static ClassReference resolveClass(final TagModel tag, final MarkletContext context) {
+		final ClassReference reference = tag.getReferencedClass();
+		return reference == null ? context.getLinkIndex().resolve(tag.getText()) : reference;
+	}
+
+	/**
+	 * Resolves the member targeted by the given link or see ``tag``
+	 * from the given ``context`` {@link MemberIndex}, by the key
+	 * resolved by the doclet API or else by the tag signature.
+	 * 
+	 * @param tag Tag to resolve member target of.
+	 * @param reference Class targeted by the tag, ``null`` if not resolved.
+	 * @param context Context of the current execution.
+	 * @return Targeted member, ``null`` if the tag does not target a member or if not resolved.
+	 * @see #resolveClass(TagModel, MarkletContext)
+	 */
+	public static MemberIndex.Target resolveMember(
+			final TagModel tag,
+			final ClassReference reference,
+			final MarkletContext context) {
+		if (tag.getReferencedMember() != null) {
+			return context.getMemberIndex().get(tag.getReferencedMember());
+		}
+		if (reference != null) {
+			return context.getMemberIndex().resolve(tag.getText(), reference);
+		}
+		return null;
 	}
 
 	/**
@@ -198,22 +342,15 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * by effective markdown link.
 	 * 
 	 * @param inlineTags Inline tags to generate description from.
+	 * @see #referenceLink(TagModel)
 	 */
-	public void description(final Tag [] inlineTags) {
-		for (final Tag tag : inlineTags) {
-			if (("Text").equals(tag.name())) {
-				text(tag.text());
+	public void description(final List<TagModel> inlineTags) {
+		for (final TagModel tag : inlineTags) {
+			if (TagModel.TEXT.equals(tag.getName())) {
+				text(tag.getText());
 			}
-			else if (("@link").equals(tag.name())) {
-				final SeeTag seeTag = (SeeTag) tag;
-				final ClassDoc classDoc = seeTag.referencedClass();
-				if (classDoc != null) {
-					classLink(source, classDoc);
-				}
-				else {
-					// TODO : Process other link type here.
-					text(tag.text());
-				}
+			else if (TagModel.LINK.equals(tag.getName())) {
+				referenceLink(tag);
 			}
 		}
 	}
@@ -225,15 +362,18 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * return type link, if the given ``member`` is
 	 * a method, 
 	 * 
+	 * The return type link is relative to the ``source``
+	 * package of the document, which is the package of
+	 * the class declaring its own members, and the only
+	 * valid base for members inherited from another package.
+	 * 
 	 * @param element Member to build return label for.
 	 */
-	public void returnSignature(final ProgramElementDoc element) {
-		code(element.modifiers());
+	public void returnSignature(final MemberModel element) {
+		code(element.getModifiers());
 		if (element.isMethod()) {
-			final MethodDoc method = (MethodDoc) element;
 			character(' ');
-			// TODO : Consider using source instance instead.
-			typeLink(method.containingPackage(), method.returnType());
+			typeLink(source, element.getType());
 		}
 	}
 	
@@ -245,25 +385,8 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param element Element to build link from.
 	 */
-	public void linkedName(final ProgramElementDoc element) {
-		final StringBuffer anchorBuilder = new StringBuffer()
-			.append('#')
-			.append(element.name());
-		if (element instanceof ExecutableMemberDoc) {
-			final ExecutableMemberDoc member = (ExecutableMemberDoc) element;
-			final Parameter[] parameters = member.parameters();
-			if (parameters.length == 0) { // Empty constructor case.
-				
-			}
-			for (int i = 0; i < parameters.length; i++) {
-				anchorBuilder.append(parameters[i].type().simpleTypeName());
-				if (i < parameters.length - 1) {
-					anchorBuilder.append('-');
-				}
-			}
-		}
-		final String url = anchorBuilder.toString().toLowerCase();
-		link(element.name(), url);
+	public void linkedName(final MemberModel element) {
+		link(element.getName(), getAnchor(element));
 	}
 
 	/**
@@ -273,13 +396,14 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param parameters Parameters to append inline.
 	 */
-	private void inlineParameters(final Parameter[] parameters) {
+	private void inlineParameters(final List<ParameterModel> parameters) {
 		character('(');
-		for (int i = 0; i < parameters.length; i++) {
-			typeLink(source, parameters[i].type());
+		for (int i = 0; i < parameters.size(); i++) {
+			final ParameterModel parameter = parameters.get(i);
+			typeLink(source, parameter.getType());
 			character(' ');
-			text(parameters[i].name());
-			if (i < parameters.length - 1) {
+			text(parameter.getName());
+			if (i < parameters.size() - 1) {
 				character(',');
 				character(' ');
 			}
@@ -293,10 +417,10 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param member Member to write signature from.
 	 */
-	private void headerSignature(final ExecutableMemberDoc member) {
+	private void headerSignature(final MemberModel member) {
 		header(2);
-		text(member.name());
-		text(member.flatSignature());
+		text(member.getName());
+		text(member.getFlatSignature());
 	}
 
 	/**
@@ -305,14 +429,40 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param element Member to write signature from.
 	 */
-	public void rowSignature(final ProgramElementDoc element) {
+	public void rowSignature(final MemberModel element) {
 		startTableRow();
 		returnSignature(element);
 		cell();
 		linkedName(element);
-		if (element instanceof ExecutableMemberDoc) {
-			final ExecutableMemberDoc member = (ExecutableMemberDoc) element;
-			inlineParameters(member.parameters());
+		if (element.isExecutable()) {
+			inlineParameters(element.getParameters());
+		}
+		endTableRow();
+		newLine();
+	}
+
+	/**
+	 * Appends to the current document the signature
+	 * of the given ``member``, inherited from the given
+	 * ``owner`` class, as a table row. Member name links
+	 * to its section into the owner class document.
+	 * 
+	 * @param element Inherited member to write signature from.
+	 * @param owner Class the member is inherited from.
+	 */
+	public void inheritedRowSignature(final MemberModel element, final ClassReference owner) {
+		startTableRow();
+		returnSignature(element);
+		cell();
+		final MemberIndex.Target target = context.getMemberIndex().get(owner, element);
+		if (target == null) {
+			text(element.getName());
+		}
+		else {
+			memberLink(source, target);
+		}
+		if (element.isExecutable()) {
+			inlineParameters(element.getParameters());
 		}
 		endTableRow();
 		newLine();
@@ -324,41 +474,42 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param element Member to write signature from.
 	 */
-	public void itemSignature(final ProgramElementDoc element) {
+	public void itemSignature(final MemberModel element) {
 		item();
 		returnSignature(element);
 		character(' ');
 		linkedName(element);
-		if (element instanceof ExecutableMemberDoc) {
-			final ExecutableMemberDoc member = (ExecutableMemberDoc) element;
-			inlineParameters(member.parameters());
+		if (element.isExecutable()) {
+			inlineParameters(element.getParameters());
 		}
 		newLine();
 	}
 
 	/**
 	 * Appends to the current document the detail
-	 * about the given ``fieldDoc``. Using the
+	 * about the given ``field``. Using the
 	 * following format :
 	 * 
 	 * * Field name (as header)
 	 * * Field signature (as quoted text)
 	 * * Field description (as quoted text)
+	 * * Field references (as list)
 	 * 
-	 * @param fieldDoc Field documentation to append.
+	 * @param field Field documentation to append.
 	 */
-	public void field(final FieldDoc fieldDoc) {
+	public void field(final MemberModel field) {
 		header(2);
-		text(fieldDoc.name());
+		text(field.getName());
 		newLine();
-		code(fieldDoc.modifiers());
+		code(field.getModifiers());
 		character(' ');
-		typeLink(source, fieldDoc.type());
+		typeLink(source, field.getType());
 		newLine();
 		newLine();
-		description(fieldDoc);
+		description(field.getInlineTags());
 		newLine();
 		newLine();
+		seeAlso(field.getSeeTags());
 		newLine();
 	}
 
@@ -371,21 +522,22 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * * method parameters (as list)
 	 * * method return type (as single item list)
 	 * * method exception (as list)
+	 * * method references (as list)
 	 * 
 	 * @param member Method documentation to append.
 	 */
-	public void member(final ExecutableMemberDoc member) {
+	public void member(final MemberModel member) {
 		headerSignature(member);
 		newLine();
-		description(member);
+		description(member.getInlineTags());
 		newLine();
 		newLine();
-		parameters(member.paramTags());
+		parameters(member.getParamTags());
 		if (member.isMethod()) {
-			final MethodDoc methodDoc = (MethodDoc) member;
-			returnType(methodDoc.tags(RETURN_TAG));
+			returnType(member.getReturnTags());
 		}
-		exceptions(member.throwsTags());
+		exceptions(member.getThrowsTags());
+		seeAlso(member.getSeeTags());
 		newLine();
 		newLine();
 	}
@@ -399,17 +551,17 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param parameters Parameter documentation to append.
 	 */
-	private void parameters(final ParamTag[] parameters) {
-		if (parameters.length > 0) {
+	private void parameters(final List<TagModel> parameters) {
+		if (!parameters.isEmpty()) {
 			header(3);
 			bold(MarkletConstant.PARAMETERS);
 			newLine();
-			for (final ParamTag parameter : parameters) {
+			for (final TagModel parameter : parameters) {
 				item();
 				// TODO : Think about including parameter Type here.
-				code(parameter.parameterName());
+				code(parameter.getParameterName());
 				text(PARAMETER_DETAIL_SEPARATOR);
-				description(parameter.inlineTags());
+				description(parameter.getInlineTags());
 				//text(parameter.parameterComment()); // TODO : Convert to Doc / for linked tag ? 
 				newLine();
 			}
@@ -426,13 +578,13 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * @param tag Return type tag to use.
 	 */
-	private void returnType(final Tag[] tag) {
-		if (tag.length > 0) {
+	private void returnType(final List<TagModel> tag) {
+		if (!tag.isEmpty()) {
 			header(3);
 			bold(MarkletConstant.RETURNS);
 			newLine();
 			// text(tag[0].text());
-			description(tag[0].inlineTags());
+			description(tag.get(0).getInlineTags());
 			newLine();
 			newLine();
 		}
@@ -444,16 +596,16 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 	 * 
 	 * * ``Type : Description``
 	 */
-	private void exceptions(final ThrowsTag[] exceptions) {
-		if (exceptions.length > 0) {
+	private void exceptions(final List<TagModel> exceptions) {
+		if (!exceptions.isEmpty()) {
 			header(3);
 			bold(MarkletConstant.THROWS);
 			newLine();
-			for (final ThrowsTag exception : exceptions) {
+			for (final TagModel exception : exceptions) {
 				item();
-				classLink(source, exception.exception());
+				classLink(source, exception.getReferencedClass());
 				character(' ');
-				description(exception.inlineTags());
+				description(exception.getInlineTags());
 				//text(exception.exceptionComment());
 				newLine();
 			}
@@ -461,20 +613,85 @@ public class MarkletDocumentBuilder extends MarkdownDocumentBuilder {
 		}
 	}
 
+	/**
+	 * Appends the targets of the given ``seeTags`` to the
+	 * current document, as a markdown list.
+	 * 
+	 * @param seeTags See tags to append.
+	 * @see #referenceLink(TagModel)
+	 */
+	private void seeAlso(final List<TagModel> seeTags) {
+		if (!seeTags.isEmpty()) {
+			header(3);
+			bold(MarkletConstant.SEE_ALSO);
+			newLine();
+			for (final TagModel seeTag : seeTags) {
+				item();
+				referenceLink(seeTag);
+				newLine();
+			}
+			newLine();
+		}
+	}
+
 	/**
 	 * Finalizes document building by adding a
 	 * horizontal rule, the **marklet** generation
-	 * badge, and closing the internal writer.
+	 * badge, and writing the document through the
+	 * context {@link PageWriter}. Unless streamed, the
+	 * document is encoded as UTF-8 by the context {@link PageEncoder}
+	 * and queued to the context {@link AsyncPageWriter}.
+	 * A {@link MarkletEvents} page write event is emitted. The
+	 * size of a streamed page is only known if such event is
+	 * recorded. The document buffer is released once written.
 	 * 
 	 * @param path Path of the document to write.
 	 * @throws IOException If any error occurs while closing document.
 	 */
 	public void build(final Path path) throws IOException {
+		final Object event = MarkletEvents.beginPageWrite();
 		newLine();
 		text(MarkletConstant.BADGE);
-		final String content = super.build();
-		final InputStream stream = new ByteArrayInputStream(content.getBytes());
-		Files.copy(stream, path, StandardCopyOption.REPLACE_EXISTING);
+		final boolean streaming = isStreaming();
+		characters = getLength();
+		try {
+			if (streaming) {
+				close();
+				context.getPageWriter().commit(path);
+				if (event != null) {
+					bytes = Files.size(path);
+				}
+			}
+			else {
+				bytes = context.getAsyncPageWriter().write(path, this);
+			}
+		}
+		finally {
+			release();
+		}
+		MarkletEvents.commitPageWrite(event, path, streaming, characters, bytes);
+	}
+
+	/**
+	 * Builds the anchor of the section of the given ``element``
+	 * into its class document, made of the element name followed
+	 * by its parameter types simple name, separated by ``-``.
+	 * 
+	 * @param element Element to build anchor for.
+	 * @return Built anchor, starting with ``#``.
+	 */
+	public static String getAnchor(final MemberModel element) {
+		final StringBuffer anchorBuilder = new StringBuffer()
+			.append('#')
+			.append(element.getName());
+		final List<ParameterModel> parameters = element.getParameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			anchorBuilder.append(parameters.get(i).getType().getSimpleTypeName());
+			if (i < parameters.size() - 1) {
+				anchorBuilder.append('-');
+			}
+		}
+		return anchorBuilder.toString().toLowerCase();
 	}
 
 	/**
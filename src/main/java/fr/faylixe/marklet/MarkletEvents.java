@@ -0,0 +1,304 @@
+package fr.faylixe.marklet;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.PackageModel;
+
+/**
+ * Java Flight Recorder events emitted while generating pages,
+ * allowing to spot the most expensive pages of a documentation
+ * from a recording. Events are only created if the running virtual
+ * machine provides flight recorder and if they are enabled by the
+ * current recording, otherwise each call only costs a null check.
+ * Event classes are only loaded when flight recorder is available,
+ * as callers refer to events as plain objects.
+ * 
+ * @author fv
+ */
+public final class MarkletEvents {
+
+	/**
+	 * Event emitted for the rendering of a class page.
+	 * 
+	 * @author fv
+	 */
+	@Name("fr.faylixe.marklet.ClassPage")
+	@Label("Class Page")
+	@Category({"Marklet", "Rendering"})
+	@Description("Rendering of a class page")
+	static final class ClassPageEvent extends Event {
+
+		/** Qualified name of the documented class. **/
+		@Label("Class")
+		String className;
+
+		/** Number of documented constructors. **/
+		@Label("Constructors")
+		int constructors;
+
+		/** Number of documented fields. **/
+		@Label("Fields")
+		int fields;
+
+		/** Number of documented methods. **/
+		@Label("Methods")
+		int methods;
+
+		/** Number of rendered characters. **/
+		@Label("Characters")
+		long characters;
+
+		/** Number of bytes of the page. **/
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		/**
+		 * Creates and begins an event if enabled.
+		 * 
+		 * @return Created event, ``null`` if not enabled.
+		 */
+		static Object start() {
+			final ClassPageEvent event = new ClassPageEvent();
+			if (!event.isEnabled()) {
+				return null;
+			}
+			event.begin();
+			return event;
+		}
+
+	}
+
+	/**
+	 * Event emitted for the rendering of a package page.
+	 * 
+	 * @author fv
+	 */
+	@Name("fr.faylixe.marklet.PackagePage")
+	@Label("Package Page")
+	@Category({"Marklet", "Rendering"})
+	@Description("Rendering of a package page")
+	static final class PackagePageEvent extends Event {
+
+		/** Name of the documented package. **/
+		@Label("Package")
+		String packageName;
+
+		/** Number of classes indexed by the page. **/
+		@Label("Classes")
+		int classes;
+
+		/** Number of rendered characters. **/
+		@Label("Characters")
+		long characters;
+
+		/** Number of bytes of the page. **/
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		/**
+		 * Creates and begins an event if enabled.
+		 * 
+		 * @return Created event, ``null`` if not enabled.
+		 */
+		static Object start() {
+			final PackagePageEvent event = new PackagePageEvent();
+			if (!event.isEnabled()) {
+				return null;
+			}
+			event.begin();
+			return event;
+		}
+
+	}
+
+	/**
+	 * Event emitted when a built page is written, or queued
+	 * for writing if the page is not streamed.
+	 * 
+	 * @author fv
+	 */
+	@Name("fr.faylixe.marklet.PageWrite")
+	@Label("Page Write")
+	@Category({"Marklet", "Writing"})
+	@Description("Encoding and writing, or queuing, of a built page")
+	static final class PageWriteEvent extends Event {
+
+		/** Path of the written page. **/
+		@Label("Path")
+		String path;
+
+		/** Indicates if the page has been streamed to its file. **/
+		@Label("Streamed")
+		boolean streamed;
+
+		/** Number of characters of the page. **/
+		@Label("Characters")
+		long characters;
+
+		/** Number of bytes of the page. **/
+		@Label("Bytes")
+		@DataAmount
+		long bytes;
+
+		/**
+		 * Creates and begins an event if enabled.
+		 * 
+		 * @return Created event, ``null`` if not enabled.
+		 */
+		static Object start() {
+			final PageWriteEvent event = new PageWriteEvent();
+			if (!event.isEnabled()) {
+				return null;
+			}
+			event.begin();
+			return event;
+		}
+
+	}
+
+	/** Indicates if the running virtual machine provides flight recorder. **/
+	private static final boolean AVAILABLE = isAvailable();
+
+	/**
+	 * Private constructor for avoiding instantiation.
+	 */
+	private MarkletEvents() {
+		// Do nothing.
+	}
+
+	/**
+	 * Indicates if the flight recorder API is available
+	 * into the running virtual machine.
+	 * 
+	 * @return ``true`` if events can be emitted, ``false`` otherwise.
+	 */
+	private static boolean isAvailable() {
+		try {
+			Class.forName("jdk.jfr.Event", false, MarkletEvents.class.getClassLoader());
+			return true;
+		}
+		catch (final ClassNotFoundException | LinkageError e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Begins a class page event.
+	 * 
+	 * @return Begun event, ``null`` if events are not recorded.
+	 */
+	public static Object beginClassPage() {
+		return AVAILABLE ? ClassPageEvent.start() : null;
+	}
+
+	/**
+	 * Ends and commits the given class page ``event``.
+	 * 
+	 * @param event Event to commit, as returned by {@link #beginClassPage()}.
+	 * @param classModel Documented class.
+	 * @param characters Number of rendered characters.
+	 * @param bytes Number of bytes of the page.
+	 */
+	public static void commitClassPage(
+			final Object event,
+			final ClassModel classModel,
+			final long characters,
+			final long bytes) {
+		if (event != null) {
+			final ClassPageEvent classPageEvent = (ClassPageEvent) event;
+			classPageEvent.end();
+			if (classPageEvent.shouldCommit()) {
+				classPageEvent.className = classModel.getQualifiedName();
+				classPageEvent.constructors = classModel.getConstructors().size();
+				classPageEvent.fields = classModel.getFields().size();
+				classPageEvent.methods = classModel.getMethods().size();
+				classPageEvent.characters = characters;
+				classPageEvent.bytes = bytes;
+				classPageEvent.commit();
+			}
+		}
+	}
+
+	/**
+	 * Begins a package page event.
+	 * 
+	 * @return Begun event, ``null`` if events are not recorded.
+	 */
+	public static Object beginPackagePage() {
+		return AVAILABLE ? PackagePageEvent.start() : null;
+	}
+
+	/**
+	 * Ends and commits the given package page ``event``.
+	 * 
+	 * @param event Event to commit, as returned by {@link #beginPackagePage()}.
+	 * @param packageModel Documented package.
+	 * @param characters Number of rendered characters.
+	 * @param bytes Number of bytes of the page.
+	 */
+	public static void commitPackagePage(
+			final Object event,
+			final PackageModel packageModel,
+			final long characters,
+			final long bytes) {
+		if (event != null) {
+			final PackagePageEvent packagePageEvent = (PackagePageEvent) event;
+			packagePageEvent.end();
+			if (packagePageEvent.shouldCommit()) {
+				packagePageEvent.packageName = packageModel.getName();
+				packagePageEvent.classes = packageModel.getAllClasses().size();
+				packagePageEvent.characters = characters;
+				packagePageEvent.bytes = bytes;
+				packagePageEvent.commit();
+			}
+		}
+	}
+
+	/**
+	 * Begins a page write event.
+	 * 
+	 * @return Begun event, ``null`` if events are not recorded.
+	 */
+	public static Object beginPageWrite() {
+		return AVAILABLE ? PageWriteEvent.start() : null;
+	}
+
+	/**
+	 * Ends and commits the given page write ``event``.
+	 * 
+	 * @param event Event to commit, as returned by {@link #beginPageWrite()}.
+	 * @param path Path of the written page.
+	 * @param streamed Indicates if the page has been streamed to its file.
+	 * @param characters Number of characters of the page.
+	 * @param bytes Number of bytes of the page.
+	 */
+	public static void commitPageWrite(
+			final Object event,
+			final Path path,
+			final boolean streamed,
+			final long characters,
+			final long bytes) {
+		if (event != null) {
+			final PageWriteEvent pageWriteEvent = (PageWriteEvent) event;
+			pageWriteEvent.end();
+			if (pageWriteEvent.shouldCommit()) {
+				pageWriteEvent.path = path.toString();
+				pageWriteEvent.streamed = streamed;
+				pageWriteEvent.characters = characters;
+				pageWriteEvent.bytes = bytes;
+				pageWriteEvent.commit();
+			}
+		}
+	}
+
+}
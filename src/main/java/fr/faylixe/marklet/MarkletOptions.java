@@ -1,5 +1,14 @@
 package fr.faylixe.marklet;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
 import com.sun.javadoc.DocErrorReporter;
 
 /**
@@ -7,44 +16,183 @@ import com.sun.javadoc.DocErrorReporter;
  * for javadoc execution. Options that we care about are :
  * 
  * * `-d` specifies the output directory (default: `javadocs`)
- * * `-e` specifies the file ending for files to be created (default `md`)
- * * `-l` specifies the file ending used in internal links (default `md`)
- *
- * > The default options are ideal if you want to serve the documentation using GitHub's
- * > built-in README rendering. If you are using a tool like Slate, change the options as follows:
+ * * `-e` specifies the file ending for files to be created (default `html.md`)
+ * * `-l` specifies the file ending used in internal links (default `html`)
+ * * `-threads` specifies the number of workers generating pages, package by package (default `1`)
+ * * `-streaming` writes pages to their file while being built, instead of building them in memory first
+ * * `-incremental` only generates pages whose content changed since the previous execution
+ * * `-incrementalcache` specifies the directory the incremental manifest is stored in (default: output directory)
+ * * `-writeifchanged` only writes pages whose content differs from the existing file
+ * * `-verbosepages` prints a notice for each generated page, instead of a periodic progress notice, and the cache statistics once done
+ * * `-progressinterval` specifies the number of seconds between two progress notices (default `5`)
+ * * `-timingreport` writes the timing report to the given file
+ * * `-memorybudget` specifies the size of the page buffers, shared evenly between rendered pages waiting to be written and buffers kept for reuse, such as `64m` (default `16m`)
+ * * `-linkoffline` links classes of an external documentation, given its URL and the directory of its `element-list` or `package-list` file
+ * 
+ * Options are registered with their validation, so that invalid
+ * values are reported before any documentation is generated.
+ * 
+ * > The default options are ideal if you are using a tool like Slate. If you want to serve
+ * > the documentation using GitHub's built-in README rendering, change the options as follows:
  * ```
- * $ javadoc -doclet fr.faylixe.marklet.Marklet -e html.md -l html …
+ * $ javadoc -doclet fr.faylixe.marklet.Marklet -e md -l md …
  * ```
  * 
  * @author fv
  */
 public final class MarkletOptions {
 
+	/**
+	 * Registered option, made of its name, the number
+	 * of values it expects, how such values are validated
+	 * and how they are applied to the options.
+	 * 
+	 * @author fv
+	 */
+	private static final class Option {
+
+		/** Name of this option, such as ``-d``. **/
+		private final String name;
+
+		/** Number of elements of this option, its name included. **/
+		private final int length;
+
+		/** Validator that returns an error message for invalid values, ``null`` otherwise. **/
+		private final Function<String [], String> validator;
+
+		/** Setter that applies valid values to the options. **/
+		private final BiConsumer<MarkletOptions, String []> setter;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param name Name of this option, such as ``-d``.
+		 * @param length Number of elements of this option, its name included.
+		 * @param validator Validator that returns an error message for invalid values, ``null`` otherwise.
+		 * @param setter Setter that applies valid values to the options.
+		 */
+		private Option(
+				final String name,
+				final int length,
+				final Function<String [], String> validator,
+				final BiConsumer<MarkletOptions, String []> setter) {
+			this.name = name;
+			this.length = length;
+			this.validator = validator;
+			this.setter = setter;
+		}
+
+	}
+
 	/** Default output directory to use. **/
 	private static final String DEFAULT_OUTPUT_DIRECTORY = "javadoc/";
 
 	/** Option name for the target output directory. **/
 	private static final String OUTPUT_DIRECTORY_OPTION = "-d";
 
-	/** Default output file ending (`md`) **/
-	private static final String DEFAULT_FILE_ENDING = "md";
+	/** Default output file ending (`html.md`) **/
+	private static final String DEFAULT_FILE_ENDING = "html.md";
 
 	/** Option name for the file ending (`-e`) **/
 	private static final String FILE_ENDING_OPTION = "-e";
 
-	/** Default ending for internal links (`md`). **/
-	private static final String DEFAULT_LINK_ENDING = "md";
+	/** Default ending for internal links (`html`). **/
+	private static final String DEFAULT_LINK_ENDING = "html";
 
 	/** Option name for the link ending (`-l`) **/
 	private static final String LINK_ENDING_OPTION = "-l";
 
+	/** Default number of workers used for generating class pages. **/
+	private static final int DEFAULT_THREADS = 1;
+
+	/** Option name for the number of workers (`-threads`) **/
+	private static final String THREADS_OPTION = "-threads";
+
+	/** Option name for the streaming mode (`-streaming`) **/
+	private static final String STREAMING_OPTION = "-streaming";
+
+	/** Option name for the incremental mode (`-incremental`) **/
+	private static final String INCREMENTAL_OPTION = "-incremental";
+
+	/** Option name for the incremental manifest directory (`-incrementalcache`) **/
+	private static final String CACHE_DIRECTORY_OPTION = "-incrementalcache";
+
+	/** Option name for the write if changed mode (`-writeifchanged`) **/
+	private static final String WRITE_IF_CHANGED_OPTION = "-writeifchanged";
+
+	/** Option name for the verbose pages mode (`-verbosepages`) **/
+	private static final String VERBOSE_PAGES_OPTION = "-verbosepages";
+
+	/** Option name for the progress interval in seconds (`-progressinterval`) **/
+	private static final String PROGRESS_INTERVAL_OPTION = "-progressinterval";
+
+	/** Option name for the timing report file (`-timingreport`) **/
+	private static final String TIMING_REPORT_OPTION = "-timingreport";
+
+	/** Option name for the memory budget of the page buffers (`-memorybudget`) **/
+	private static final String MEMORY_BUDGET_OPTION = "-memorybudget";
+
+	/** Option name for an external documentation set (`-linkoffline`) **/
+	private static final String LINK_OFFLINE_OPTION = "-linkoffline";
+
+	/** Registered options, indexed by name. **/
+	private static final Map<String, Option> OPTIONS = new LinkedHashMap<String, Option>();
+
+	static {
+		register(OUTPUT_DIRECTORY_OPTION, MarkletOptions::validatePath, MarkletOptions::setOutputDirectory);
+		register(FILE_ENDING_OPTION, MarkletOptions::validateEnding, MarkletOptions::setFileEnding);
+		register(LINK_ENDING_OPTION, MarkletOptions::validateEnding, MarkletOptions::setLinkEnding);
+		register(THREADS_OPTION, MarkletOptions::validatePositive, (options, value) -> options.setThreads(Integer.parseInt(value)));
+		register(STREAMING_OPTION, options -> options.setStreaming(true));
+		register(INCREMENTAL_OPTION, options -> options.setIncremental(true));
+		register(CACHE_DIRECTORY_OPTION, MarkletOptions::validatePath, MarkletOptions::setCacheDirectory);
+		register(WRITE_IF_CHANGED_OPTION, options -> options.setWriteIfChanged(true));
+		register(VERBOSE_PAGES_OPTION, options -> options.setVerbosePages(true));
+		register(PROGRESS_INTERVAL_OPTION, MarkletOptions::validatePositive, (options, value) -> options.setProgressInterval(TimeUnit.SECONDS.toNanos(Integer.parseInt(value))));
+		register(TIMING_REPORT_OPTION, MarkletOptions::validatePath, MarkletOptions::setTimingReport);
+		register(MEMORY_BUDGET_OPTION, MarkletOptions::validateSize, (options, value) -> options.setMemoryBudget((int) parseSize(value)));
+		register(LINK_OFFLINE_OPTION, 3, MarkletOptions::validateLink, (options, values) -> options.addExternalLink(values[1], values[2]));
+	}
+
 	/** Output directory file are generated in. **/
 	private String outputDirectory;
 
+	/** File ending for files to be created. **/
 	private String fileEnding;
 
+	/** File ending used in internal links. **/
 	private String linkEnding;
 
+	/** Number of workers used for generating pages. **/
+	private int threads;
+
+	/** Indicates if pages are written while being built. **/
+	private boolean streaming;
+
+	/** Indicates if unchanged pages are skipped. **/
+	private boolean incremental;
+
+	/** Directory the incremental manifest is stored in, ``null`` for the output directory. **/
+	private String cacheDirectory;
+
+	/** Indicates if pages identical to the existing file are not written. **/
+	private boolean writeIfChanged;
+
+	/** Indicates if a notice is printed for each generated page, and for cache statistics once done. **/
+	private boolean verbosePages;
+
+	/** Interval between two progress notices, in nanoseconds. **/
+	private long progressInterval;
+
+	/** File the timing report is written to, ``null`` if no report is written. **/
+	private String timingReport;
+
+	/** Maximum number of bytes of the page buffers, either waiting to be written or kept for reuse. **/
+	private int memoryBudget;
+
+	/** Location of the list file of each external documentation set, indexed by base URL. **/
+	private final Map<String, String> externalLinks;
+
 	/**
 	 * Default constructor.
 	 * Sets options with their default parameters if available.
@@ -53,6 +201,164 @@ public final class MarkletOptions {
 		this.outputDirectory = DEFAULT_OUTPUT_DIRECTORY;
 		this.fileEnding = DEFAULT_FILE_ENDING;
 		this.linkEnding = DEFAULT_LINK_ENDING;
+		this.threads = DEFAULT_THREADS;
+		this.progressInterval = ProgressReporter.DEFAULT_INTERVAL;
+		this.memoryBudget = AsyncPageWriter.DEFAULT_BUDGET;
+		this.externalLinks = new LinkedHashMap<String, String>();
+	}
+
+	/**
+	 * Registers an option that expects a value.
+	 * 
+	 * @param name Name of the option.
+	 * @param validator Validator that returns an error message for an invalid value, ``null`` otherwise.
+	 * @param setter Setter that applies a valid value to the options.
+	 */
+	private static void register(
+			final String name,
+			final Function<String, String> validator,
+			final BiConsumer<MarkletOptions, String> setter) {
+		register(name, 2, values -> validator.apply(values[1]), (options, values) -> setter.accept(options, values[1]));
+	}
+
+	/**
+	 * Registers an option that expects several values.
+	 * Validator and setter are given the whole option,
+	 * its name being the first element.
+	 * 
+	 * @param name Name of the option.
+	 * @param length Number of elements of the option, its name included.
+	 * @param validator Validator that returns an error message for invalid values, ``null`` otherwise.
+	 * @param setter Setter that applies valid values to the options.
+	 */
+	private static void register(
+			final String name,
+			final int length,
+			final Function<String [], String> validator,
+			final BiConsumer<MarkletOptions, String []> setter) {
+		OPTIONS.put(name, new Option(name, length, validator, setter));
+	}
+
+	/**
+	 * Registers a flag option, which does not expect any value.
+	 * 
+	 * @param name Name of the option.
+	 * @param setter Setter that enables the option.
+	 */
+	private static void register(final String name, final Consumer<MarkletOptions> setter) {
+		register(name, 1, values -> null, (options, values) -> setter.accept(options));
+	}
+
+	/**
+	 * Validates a path value.
+	 * 
+	 * @param value Value to validate.
+	 * @return Error message if the value is empty, ``null`` otherwise.
+	 */
+	private static String validatePath(final String value) {
+		return value.trim().isEmpty() ? "expects a non empty path" : null;
+	}
+
+	/**
+	 * Validates a file ending value.
+	 * 
+	 * @param value Value to validate.
+	 * @return Error message if the value is empty or contains a path separator, ``null`` otherwise.
+	 */
+	private static String validateEnding(final String value) {
+		if (value.isEmpty() || value.indexOf('/') >= 0 || value.indexOf('\\') >= 0) {
+			return "expects a non empty file ending without path separator, such as md";
+		}
+		return null;
+	}
+
+	/**
+	 * Validates a positive integer value.
+	 * 
+	 * @param value Value to validate.
+	 * @return Error message if the value is not a positive integer, ``null`` otherwise.
+	 */
+	private static String validatePositive(final String value) {
+		try {
+			if (Integer.parseInt(value) > 0) {
+				return null;
+			}
+		}
+		catch (final NumberFormatException e) {
+			// Reported below.
+		}
+		return "expects a positive integer";
+	}
+
+	/**
+	 * Validates an external documentation set, made
+	 * of its base URL and the location of its list file.
+	 * 
+	 * @param values Option to validate, its name included.
+	 * @return Error message if the URL is empty or no list file is found, ``null`` otherwise.
+	 * @see ExternalLinkIndex#getListFile(String)
+	 */
+	private static String validateLink(final String [] values) {
+		if (values[1].trim().isEmpty() || ExternalLinkIndex.getListFile(values[2]) == null) {
+			return "expects a documentation URL and the directory of its "
+					+ ExternalLinkIndex.ELEMENT_LIST + " or "
+					+ ExternalLinkIndex.PACKAGE_LIST + " file";
+		}
+		return null;
+	}
+
+	/**
+	 * Validates a size value.
+	 * 
+	 * @param value Value to validate.
+	 * @return Error message if the value is not a valid size, ``null`` otherwise.
+	 * @see #parseSize(String)
+	 */
+	private static String validateSize(final String value) {
+		final long size = parseSize(value);
+		if (size <= 0 || size > Integer.MAX_VALUE) {
+			return "expects a positive size less than 2g, in bytes or with a k, m or g suffix, such as 64m";
+		}
+		return null;
+	}
+
+	/**
+	 * Parses the given size ``value``, which is a number of
+	 * bytes optionally followed by a ``k``, ``m`` or ``g`` suffix.
+	 * 
+	 * @param value Value to parse.
+	 * @return Parsed size in bytes, -1 if the value is not a valid size.
+	 */
+	private static long parseSize(final String value) {
+		final String size = value.trim().toLowerCase();
+		if (size.isEmpty()) {
+			return -1;
+		}
+		long unit = 1;
+		String digits = size;
+		switch (size.charAt(size.length() - 1)) {
+		case 'k':
+			unit = 1L << 10;
+			break;
+		case 'm':
+			unit = 1L << 20;
+			break;
+		case 'g':
+			unit = 1L << 30;
+			break;
+		default:
+			break;
+		}
+		if (unit > 1) {
+			digits = size.substring(0, size.length() - 1);
+		}
+		try {
+			final long count = Long.parseLong(digits);
+			return count < 0 || count > Integer.MAX_VALUE ? -1 : count * unit;
+		}
+		catch (final NumberFormatException e) {
+			return -1;
+		}
 	}
 
 	/**
@@ -64,7 +370,7 @@ public final class MarkletOptions {
 	public String getOutputDirectory() {
 		return outputDirectory;
 	}
-	
+
 	/**
 	 * Private setter that sets the output directory option.
 	 * 
@@ -76,30 +382,294 @@ public final class MarkletOptions {
 	}
 
 	/**
-	 * TODO : Perform validation.
+	 * Getter for the file ending option.
+	 * 
+	 * @return File ending for files to be created.
+	 * @see #fileEnding
+	 */
+	public String getFileEnding() {
+		return fileEnding;
+	}
+
+	/**
+	 * Private setter that sets the file ending option.
+	 * 
+	 * @param fileEnding File ending for files to be created.
+	 * @see #fileEnding
+	 */
+	private void setFileEnding(final String fileEnding) {
+		this.fileEnding = fileEnding;
+	}
+
+	/**
+	 * Getter for the link ending option.
+	 * 
+	 * @return File ending used in internal links.
+	 * @see #linkEnding
+	 */
+	public String getLinkEnding() {
+		return linkEnding;
+	}
+
+	/**
+	 * Private setter that sets the link ending option.
+	 * 
+	 * @param linkEnding File ending used in internal links.
+	 * @see #linkEnding
+	 */
+	private void setLinkEnding(final String linkEnding) {
+		this.linkEnding = linkEnding;
+	}
+
+	/**
+	 * Getter for the number of workers option.
+	 * 
+	 * @return Number of workers used for generating pages.
+	 * @see #threads
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Private setter that sets the number of workers option.
+	 * 
+	 * @param threads Number of workers used for generating pages.
+	 * @see #threads
+	 */
+	private void setThreads(final int threads) {
+		this.threads = threads;
+	}
+
+	/**
+	 * Getter for the streaming mode option.
+	 * 
+	 * @return ``true`` if pages are written while being built, ``false`` otherwise.
+	 * @see #streaming
+	 */
+	public boolean isStreaming() {
+		return streaming;
+	}
+
+	/**
+	 * Private setter that sets the streaming mode option.
+	 * 
+	 * @param streaming Indicates if pages are written while being built.
+	 * @see #streaming
+	 */
+	private void setStreaming(final boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Getter for the incremental mode option.
+	 * 
+	 * @return ``true`` if unchanged pages are skipped, ``false`` otherwise.
+	 * @see #incremental
+	 */
+	public boolean isIncremental() {
+		return incremental;
+	}
+
+	/**
+	 * Private setter that sets the incremental mode option.
+	 * 
+	 * @param incremental Indicates if unchanged pages are skipped.
+	 * @see #incremental
+	 */
+	private void setIncremental(final boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Getter for the incremental manifest directory option.
+	 * 
+	 * @return Directory the incremental manifest is stored in, ``null`` for the output directory.
+	 * @see #cacheDirectory
+	 */
+	public String getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	/**
+	 * Private setter that sets the incremental manifest directory option.
+	 * 
+	 * @param cacheDirectory Directory the incremental manifest is stored in.
+	 * @see #cacheDirectory
+	 */
+	private void setCacheDirectory(final String cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+	}
+
+	/**
+	 * Getter for the write if changed mode option.
+	 * 
+	 * @return ``true`` if pages identical to the existing file are not written, ``false`` otherwise.
+	 * @see #writeIfChanged
+	 */
+	public boolean isWriteIfChanged() {
+		return writeIfChanged;
+	}
+
+	/**
+	 * Private setter that sets the write if changed mode option.
+	 * 
+	 * @param writeIfChanged Indicates if pages identical to the existing file are not written.
+	 * @see #writeIfChanged
+	 */
+	private void setWriteIfChanged(final boolean writeIfChanged) {
+		this.writeIfChanged = writeIfChanged;
+	}
+
+	/**
+	 * Getter for the verbose pages mode option.
+	 * 
+	 * @return ``true`` if a notice is printed for each generated page, ``false`` otherwise.
+	 * @see #verbosePages
+	 */
+	public boolean isVerbosePages() {
+		return verbosePages;
+	}
+
+	/**
+	 * Private setter that sets the verbose pages mode option.
+	 * 
+	 * @param verbosePages Indicates if a notice is printed for each generated page, and for cache statistics once done.
+	 * @see #verbosePages
+	 */
+	private void setVerbosePages(final boolean verbosePages) {
+		this.verbosePages = verbosePages;
+	}
+
+	/**
+	 * Getter for the progress interval option.
 	 * 
-	 * @param options
-	 * @param reporter
-	 * @return
+	 * @return Interval between two progress notices, in nanoseconds.
+	 * @see #progressInterval
+	 */
+	public long getProgressInterval() {
+		return progressInterval;
+	}
+
+	/**
+	 * Private setter that sets the progress interval option.
+	 * 
+	 * @param progressInterval Interval between two progress notices, in nanoseconds.
+	 * @see #progressInterval
+	 */
+	private void setProgressInterval(final long progressInterval) {
+		this.progressInterval = progressInterval;
+	}
+
+	/**
+	 * Getter for the timing report option.
+	 * 
+	 * @return File the timing report is written to, ``null`` if no report is written.
+	 * @see #timingReport
+	 */
+	public String getTimingReport() {
+		return timingReport;
+	}
+
+	/**
+	 * Private setter that sets the timing report option.
+	 * 
+	 * @param timingReport File the timing report is written to.
+	 * @see #timingReport
+	 */
+	private void setTimingReport(final String timingReport) {
+		this.timingReport = timingReport;
+	}
+
+	/**
+	 * Getter for the memory budget option.
+	 * 
+	 * @return Maximum number of bytes of the page buffers, either waiting to be written or kept for reuse.
+	 * @see #memoryBudget
+	 */
+	public int getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Private setter that sets the memory budget option.
+	 * 
+	 * @param memoryBudget Maximum number of bytes of the page buffers, either waiting to be written or kept for reuse.
+	 * @see #memoryBudget
+	 */
+	private void setMemoryBudget(final int memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Getter for the external links option.
+	 * 
+	 * @return Location of the list file of each external documentation set, indexed by base URL.
+	 * @see #externalLinks
+	 */
+	public Map<String, String> getExternalLinks() {
+		return Collections.unmodifiableMap(externalLinks);
+	}
+
+	/**
+	 * Private method that adds an external documentation set.
+	 * 
+	 * @param url Base URL of the documentation set.
+	 * @param location Location of the list file of the documentation set.
+	 * @see #externalLinks
+	 */
+	private void addExternalLink(final String url, final String location) {
+		externalLinks.put(url, location);
+	}
+
+	/**
+	 * Validates the given ``options`` before any generation. Each
+	 * value of a registered option is checked, and every invalid
+	 * one is reported through the given ``reporter``.
+	 * 
+	 * @param options Raw options array to validate.
+	 * @param reporter Reporter invalid options are reported to.
+	 * @return ``true`` if all options are valid, ``false`` otherwise.
 	 */
 	public static boolean validOptions(final String options[][], final DocErrorReporter reporter) {
-		return true;
+		boolean valid = true;
+		boolean incremental = false;
+		boolean cacheDirectory = false;
+		for (final String [] option : options) {
+			final Option registered = OPTIONS.get(option[0]);
+			if (registered == null) {
+				continue;
+			}
+			final String error = registered.validator.apply(option);
+			if (error != null) {
+				final String value = String.join(" ", Arrays.asList(option).subList(1, option.length));
+				reporter.printError("Invalid value '" + value + "' for option " + registered.name + " : " + error);
+				valid = false;
+			}
+			incremental |= INCREMENTAL_OPTION.equals(registered.name);
+			cacheDirectory |= CACHE_DIRECTORY_OPTION.equals(registered.name);
+		}
+		if (cacheDirectory && !incremental) {
+			reporter.printWarning("Option " + CACHE_DIRECTORY_OPTION + " is ignored without " + INCREMENTAL_OPTION);
+		}
+		return valid;
 	}
-	
+
 	/**
-	 * TODO : Process other option.
-	 * @param option
-	 * @return
+	 * Retrieves the number of elements of the given ``option``,
+	 * the option name included.
+	 * 
+	 * @param option Name of the option to get length of.
+	 * @return Number of elements of the option, 1 for a flag, 0 if the option is unknown.
 	 */
 	public static int optionLength(final String option) {
-		if (option.equals(OUTPUT_DIRECTORY_OPTION)) {
-			return 2;
-		}
-		return 0;
+		final Option registered = OPTIONS.get(option);
+		return registered == null ? 0 : registered.length;
 	}
 
 	/**
-	 * Static factory.
+	 * Static factory. Options are expected to
+	 * have been validated by {@link #validOptions(String[][], DocErrorReporter)}.
 	 * 
 	 * @param rawOptions Raw options array to parse.
 	 * @return Built options instance.
@@ -107,35 +677,12 @@ public final class MarkletOptions {
 	public static MarkletOptions parse(final String [][] rawOptions) {
 		final MarkletOptions options = new MarkletOptions();
 		for (final String [] option : rawOptions) {
-			final String name = option[0];
-			System.out.println("Checking option : " + name);
-			if (name.equals(OUTPUT_DIRECTORY_OPTION)) {
-				System.out.println("Matching output directory : " + option[1]);
-				options.setOutputDirectory(option[1]);
-			} else if (name.equals(LINK_ENDING_OPTION)) {
-				System.out.println("Matching link ending : " + option[1]);
-				options.setLinkEnding(option[1]);
-			} else if (name.equals(FILE_ENDING_OPTION)) {
-				System.out.println("Matching file ending : " + option[1]);
-				options.setFileEnding(option[1]);
+			final Option registered = OPTIONS.get(option[0]);
+			if (registered != null) {
+				registered.setter.accept(options, option);
 			}
 		}
 		return options;
 	}
 
-	public String getFileEnding() {
-		return fileEnding;
-	}
-
-	public void setFileEnding(String fileEnding) {
-		this.fileEnding = fileEnding;
-	}
-
-	public String getLinkEnding() {
-		return linkEnding;
-	}
-
-	public void setLinkEnding(String linkEnding) {
-		this.linkEnding = linkEnding;
-	}
 }
@@ -0,0 +1,199 @@
+package fr.faylixe.marklet;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.MemberModel;
+
+/**
+ * Index of the members link targets, built once from the
+ * documentation model. It maps each constructor, field and
+ * method to its class and to the anchor of its section into
+ * the class page, as built by {@link MarkletDocumentBuilder#getAnchor(MemberModel)},
+ * so that resolving a member link is a single lookup.
+ * 
+ * @author fv
+ */
+public final class MemberIndex {
+
+	/**
+	 * Link target of a member.
+	 * 
+	 * @author fv
+	 */
+	public static final class Target {
+
+		/** Class the member belongs to. **/
+		private final ClassReference owner;
+
+		/** Indexed member. **/
+		private final MemberModel member;
+
+		/** Anchor of the member section into its class page. **/
+		private final String anchor;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param owner Class the member belongs to.
+		 * @param member Indexed member.
+		 */
+		private Target(final ClassReference owner, final MemberModel member) {
+			this.owner = owner;
+			this.member = member;
+			this.anchor = MarkletDocumentBuilder.getAnchor(member);
+		}
+
+		/**
+		 * Getter for the owner class.
+		 * 
+		 * @return Class the member belongs to.
+		 */
+		public ClassReference getOwner() {
+			return owner;
+		}
+
+		/**
+		 * Getter for the member.
+		 * 
+		 * @return Indexed member.
+		 */
+		public MemberModel getMember() {
+			return member;
+		}
+
+		/**
+		 * Getter for the anchor.
+		 * 
+		 * @return Anchor of the member section into its class page, starting with ``#``.
+		 */
+		public String getAnchor() {
+			return anchor;
+		}
+
+	}
+
+	/** Members, indexed by key. **/
+	private final Map<String, Target> members;
+
+	/** Members, indexed by key without signature, ``null`` if such member is overloaded. **/
+	private final Map<String, Target> names;
+
+	/**
+	 * Default constructor.
+	 */
+	private MemberIndex() {
+		this.members = new HashMap<String, Target>();
+		this.names = new HashMap<String, Target>();
+	}
+
+	/**
+	 * Indexes the given ``members`` of the given ``owner`` class.
+	 * 
+	 * @param owner Class members belong to.
+	 * @param members Members to index.
+	 */
+	private void add(final ClassReference owner, final List<MemberModel> members) {
+		final String qualifiedName = owner.getQualifiedName();
+		for (final MemberModel member : members) {
+			final Target target = new Target(owner, member);
+			this.members.put(MemberModel.getKey(qualifiedName, member.getName(), member.getFlatSignature()), target);
+			final String name = MemberModel.getKey(qualifiedName, member.getName(), null);
+			if (names.containsKey(name) && names.get(name) != target) {
+				names.put(name, null);
+			}
+			else {
+				names.put(name, target);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the target of the member denoted by the given ``key``.
+	 * 
+	 * @param key Key of the member to retrieve.
+	 * @return Member target, ``null`` if the member is not indexed.
+	 * @see MemberModel#getKey(String, String, String)
+	 */
+	public Target get(final String key) {
+		return members.get(key);
+	}
+
+	/**
+	 * Retrieves the target of the given ``member``
+	 * that belongs to the given ``owner`` class.
+	 * 
+	 * @param owner Class the member belongs to.
+	 * @param member Member to retrieve.
+	 * @return Member target, ``null`` if the member is not indexed.
+	 */
+	public Target get(final ClassReference owner, final MemberModel member) {
+		return members.get(MemberModel.getKey(owner.getQualifiedName(), member.getName(), member.getFlatSignature()));
+	}
+
+	/**
+	 * Resolves the member of the given ``owner`` class referenced
+	 * by the given link ``signature``, such as ``Foo#bar``,
+	 * ``Foo#bar(int)`` or ``#bar label``. Member is looked up
+	 * by name and signature first, then by name only if it
+	 * is not overloaded.
+	 * 
+	 * @param signature Link signature to resolve.
+	 * @param owner Class the member belongs to.
+	 * @return Referenced member target, ``null`` if not found.
+	 */
+	public Target resolve(final String signature, final ClassReference owner) {
+		final String text = signature.trim();
+		final int start = text.indexOf('#');
+		if (start < 0) {
+			return null;
+		}
+		for (int i = 0; i < start; i++) {
+			if (Character.isWhitespace(text.charAt(i))) {
+				return null;
+			}
+		}
+		int end = start + 1;
+		while (end < text.length() && text.charAt(end) != '(' && !Character.isWhitespace(text.charAt(end))) {
+			end++;
+		}
+		final String name = text.substring(start + 1, end);
+		if (name.isEmpty()) {
+			return null;
+		}
+		if (end < text.length() && text.charAt(end) == '(') {
+			final int close = text.indexOf(')', end);
+			if (close > 0) {
+				final Target target = members.get(MemberModel.getKey(owner.getQualifiedName(), name, text.substring(end, close + 1)));
+				if (target != null) {
+					return target;
+				}
+			}
+		}
+		return names.get(MemberModel.getKey(owner.getQualifiedName(), name, null));
+	}
+
+	/**
+	 * Static factory that builds the index
+	 * of the given documentation ``model``.
+	 * 
+	 * @param model Documentation model to index.
+	 * @return Built index.
+	 */
+	public static MemberIndex build(final DocumentationModel model) {
+		final MemberIndex index = new MemberIndex();
+		for (final ClassModel classModel : model.getClasses()) {
+			if (classModel.getReference().isIncluded()) {
+				index.add(classModel.getReference(), classModel.getConstructors());
+				index.add(classModel.getReference(), classModel.getFields());
+				index.add(classModel.getReference(), classModel.getMethods());
+			}
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,289 @@
+package fr.faylixe.marklet;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Index of the overriding methods, computed once from the
+ * documentation model, for documented classes as well as
+ * their ancestors. As the doclet API does, a method
+ * overrides the nearest method of its superclass chain with
+ * the same name and erased parameter types, once superclass
+ * type arguments are substituted. Static methods, private
+ * methods, and package private methods from another package
+ * are not overridden. Index is read only once built, and can
+ * therefore be shared across threads.
+ * 
+ * @author fv
+ */
+public final class OverrideIndex {
+
+	/** Root class, and erasure of type variables without bound. **/
+	private static final String OBJECT = "java.lang.Object";
+
+	/** Varargs dimension, erased as an array. **/
+	private static final String VARARGS = "...";
+
+	/** Array dimension. **/
+	private static final String ARRAY = "[]";
+
+	/** Overridden method, indexed by overriding method. **/
+	private final Map<MemberModel, MemberModel> overridden;
+
+	/** Class declaring the overridden method, indexed by overriding method. **/
+	private final Map<MemberModel, ClassModel> declaringClasses;
+
+	/** Root class, considered as the superclass of interfaces, ``null`` if not extracted. **/
+	private final ClassModel root;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param root Root class, ``null`` if not extracted.
+	 */
+	private OverrideIndex(final ClassModel root) {
+		this.overridden = new IdentityHashMap<MemberModel, MemberModel>();
+		this.declaringClasses = new IdentityHashMap<MemberModel, ClassModel>();
+		this.root = root;
+	}
+
+	/**
+	 * Indicates if the given ``method`` of the given ``owner``
+	 * class is inherited by classes of the given ``packageName``.
+	 * 
+	 * @param method Method to check.
+	 * @param owner Class declaring the method.
+	 * @param packageName Name of the package of the inheriting class.
+	 * @return ``true`` if the method is inherited, ``false`` otherwise.
+	 */
+	private static boolean isInherited(final MemberModel method, final ClassModel owner, final String packageName) {
+		if (method.isStatic() || method.hasModifier(MemberModel.PRIVATE)) {
+			return false;
+		}
+		return method.hasModifier(MemberModel.PUBLIC)
+				|| method.hasModifier(MemberModel.PROTECTED)
+				|| owner.getPackageName().equals(packageName);
+	}
+
+	/**
+	 * Computes the erasure of the given ``type``, using
+	 * the given ``arguments`` for substituting type variables.
+	 * 
+	 * @param type Type to erase.
+	 * @param arguments Substituted type variables, indexed by name.
+	 * @return Erased type name.
+	 */
+	private static String erasure(final TypeModel type, final Map<String, TypeModel> arguments) {
+		final String dimension = type.getDimension().replace(VARARGS, ARRAY);
+		switch (type.getKind()) {
+			case VARIABLE:
+				final TypeModel argument = arguments.get(type.getSimpleTypeName());
+				if (argument != null) {
+					return erasure(argument, Collections.emptyMap()) + dimension;
+				}
+				final List<TypeModel> bounds = type.getBounds();
+				return (bounds.isEmpty() ? OBJECT : erasure(bounds.get(0), Collections.emptyMap())) + dimension;
+			case CLASS:
+				if (type.getClassReference() != null) {
+					return type.getClassReference().getQualifiedName() + dimension;
+				}
+				return type.getSimpleTypeName() + dimension;
+			default:
+				return type.getSimpleTypeName() + dimension;
+		}
+	}
+
+	/**
+	 * Computes the key of the given ``method``, made of its
+	 * name and its erased parameter types.
+	 * 
+	 * @param method Method to compute key for.
+	 * @param arguments Substituted type variables, indexed by name.
+	 * @return Computed key.
+	 */
+	private static String key(final MemberModel method, final Map<String, TypeModel> arguments) {
+		final StringBuilder builder = new StringBuilder(method.getName()).append('(');
+		final List<ParameterModel> parameters = method.getParameters();
+		for (int i = 0; i < parameters.size(); i++) {
+			if (i > 0) {
+				builder.append(',');
+			}
+			builder.append(erasure(parameters.get(i).getType(), arguments));
+		}
+		return builder.append(')').toString();
+	}
+
+	/**
+	 * Computes the type variables of the given ``superclass``
+	 * substituted by the given superclass ``type`` arguments,
+	 * themselves substituted by the given ``arguments``.
+	 * Raw superclass type leads to an empty substitution,
+	 * so that variables are erased to their bound.
+	 * 
+	 * @param superclass Superclass to substitute type variables for.
+	 * @param type Superclass type, with type arguments if any.
+	 * @param arguments Substituted type variables of the subclass.
+	 * @return Substituted type variables of the superclass, indexed by name.
+	 */
+	private static Map<String, TypeModel> substitute(
+			final ClassModel superclass,
+			final TypeModel type,
+			final Map<String, TypeModel> arguments) {
+		final List<TypeModel> parameters = superclass.getTypeParameters();
+		final List<TypeModel> typeArguments = type == null ? Collections.emptyList() : type.getTypeArguments();
+		if (typeArguments.size() != parameters.size()) {
+			return Collections.emptyMap();
+		}
+		final Map<String, TypeModel> substitution = new HashMap<String, TypeModel>();
+		for (int i = 0; i < parameters.size(); i++) {
+			TypeModel argument = typeArguments.get(i);
+			if (argument.getKind() == TypeModel.Kind.VARIABLE && arguments.containsKey(argument.getSimpleTypeName())) {
+				argument = arguments.get(argument.getSimpleTypeName());
+			}
+			substitution.put(parameters.get(i).getSimpleTypeName(), argument);
+		}
+		return substitution;
+	}
+
+	/**
+	 * Indexes the given overridable ``method`` of the given
+	 * ``superclass``, if it is overridden by one of the given
+	 * ``pending`` methods of the given ``classModel``.
+	 * 
+	 * @param classModel Class the pending methods belong to.
+	 * @param pending Methods not yet matched, indexed by key.
+	 * @param superclass Superclass declaring the method.
+	 * @param method Method to index.
+	 * @param arguments Substituted type variables of the superclass.
+	 */
+	private void match(
+			final ClassModel classModel,
+			final Map<String, MemberModel> pending,
+			final ClassModel superclass,
+			final MemberModel method,
+			final Map<String, TypeModel> arguments) {
+		final boolean inherited = classModel.getKind() == ClassModel.Kind.INTERFACE
+				? method.hasModifier(MemberModel.PUBLIC) && !method.isStatic()
+				: isInherited(method, superclass, classModel.getPackageName());
+		if (inherited) {
+			final MemberModel overriding = pending.remove(key(method, arguments));
+			if (overriding != null) {
+				overridden.put(overriding, method);
+				declaringClasses.put(overriding, superclass);
+			}
+		}
+	}
+
+	/**
+	 * Indexes the methods of the given ``classModel`` that
+	 * override a method of its superclass chain. Interfaces
+	 * are considered as direct subclasses of the root class,
+	 * which only inherit its public methods.
+	 * 
+	 * @param classModel Class to index methods for.
+	 */
+	private void add(final ClassModel classModel) {
+		final Map<String, MemberModel> pending = new HashMap<String, MemberModel>();
+		for (final MemberModel method : classModel.getMethods()) {
+			if (!method.isStatic()) {
+				pending.put(key(method, Collections.emptyMap()), method);
+			}
+		}
+		for (final MemberModel method : classModel.getHiddenMethods()) {
+			if (!method.isStatic()) {
+				pending.put(key(method, Collections.emptyMap()), method);
+			}
+		}
+		Map<String, TypeModel> arguments = Collections.emptyMap();
+		TypeModel superclassType = classModel.getSuperclassType();
+		ClassModel superclass = classModel.getSuperclass();
+		if (classModel.getKind() == ClassModel.Kind.INTERFACE) {
+			superclass = root;
+		}
+		while (superclass != null && !pending.isEmpty()) {
+			arguments = substitute(superclass, superclassType, arguments);
+			for (final MemberModel method : superclass.getMethods()) {
+				match(classModel, pending, superclass, method, arguments);
+			}
+			for (final MemberModel method : superclass.getHiddenMethods()) {
+				match(classModel, pending, superclass, method, arguments);
+			}
+			superclassType = superclass.getSuperclassType();
+			superclass = superclass.getSuperclass();
+		}
+	}
+
+	/**
+	 * Indicates if the given ``method`` overrides
+	 * a method of its superclass chain.
+	 * 
+	 * @param method Method to check.
+	 * @return ``true`` if the method overrides a method, ``false`` otherwise.
+	 */
+	public boolean isOverriding(final MemberModel method) {
+		return overridden.containsKey(method);
+	}
+
+	/**
+	 * Retrieves the method overridden by the given ``method``.
+	 * 
+	 * @param method Method to get overridden method for.
+	 * @return Overridden method, ``null`` if the method does not override any method.
+	 */
+	public MemberModel getOverriddenMethod(final MemberModel method) {
+		return overridden.get(method);
+	}
+
+	/**
+	 * Retrieves the class that declares the method
+	 * overridden by the given ``method``.
+	 * 
+	 * @param method Method to get overridden method declaring class for.
+	 * @return Declaring class, ``null`` if the method does not override any method.
+	 */
+	public ClassModel getOverriddenClass(final MemberModel method) {
+		return declaringClasses.get(method);
+	}
+
+	/**
+	 * Static factory that builds the index
+	 * of the given documentation ``model``.
+	 * 
+	 * @param model Documentation model to index.
+	 * @return Built index.
+	 */
+	public static OverrideIndex build(final DocumentationModel model) {
+		ClassModel root = null;
+		for (final ClassModel classModel : model.getClasses()) {
+			ClassModel current = classModel;
+			while (current.getSuperclass() != null) {
+				current = current.getSuperclass();
+			}
+			if (OBJECT.equals(current.getQualifiedName())) {
+				root = current;
+				break;
+			}
+		}
+		final OverrideIndex index = new OverrideIndex(root);
+		final Set<ClassModel> indexed = Collections.newSetFromMap(new IdentityHashMap<ClassModel, Boolean>());
+		for (final ClassModel classModel : model.getClasses()) {
+			ClassModel current = classModel;
+			while (current != null && indexed.add(current)) {
+				index.add(current);
+				current = current.getSuperclass();
+			}
+		}
+		return index;
+	}
+
+}
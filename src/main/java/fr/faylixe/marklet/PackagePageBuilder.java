@@ -2,11 +2,10 @@ package fr.faylixe.marklet;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.function.Supplier;
+import java.util.List;
 
-import com.sun.javadoc.ClassDoc;
-import com.sun.javadoc.PackageDoc;
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.PackageModel;
 
 /**
  * Builder that aims to create documentation
@@ -23,17 +22,25 @@ import com.sun.javadoc.PackageDoc;
  */
 public final class PackagePageBuilder extends MarkletDocumentBuilder {
 
+	/** Expected length of a package page, class indexes excepted. **/
+	private static final int PAGE_CAPACITY = 512;
+
+	/** Expected length of the index entry of a class. **/
+	private static final int CLASS_CAPACITY = 192;
+
 	/** Target package that page is built from. **/
-	private final PackageDoc packageDoc;
+	private final PackageModel packageModel;
 
 	/**
 	 * Default constructor.
 	 * 
-	 * @param packageDoc Target package that page is built from.
+	 * @param packageModel Target package that page is built from.
+	 * @param context Context of the current execution.
+	 * @param capacity Expected length of the page.
 	 */
-	private PackagePageBuilder(final PackageDoc packageDoc) {
-		super(packageDoc);
-		this.packageDoc = packageDoc;
+	private PackagePageBuilder(final PackageModel packageModel, final MarkletContext context, final int capacity) {
+		super(packageModel.getName(), context, capacity);
+		this.packageModel = packageModel;
 	}
 
 	/**
@@ -45,9 +52,9 @@ public final class PackagePageBuilder extends MarkletDocumentBuilder {
 		header(1);
 		text(MarkletConstant.PACKAGE);
 		character(' ');
-		text(packageDoc.name());
+		text(packageModel.getName());
 		newLine();
-		description(packageDoc);
+		description(packageModel.getInlineTags());
 		newLine();
 	}
 
@@ -58,18 +65,15 @@ public final class PackagePageBuilder extends MarkletDocumentBuilder {
 	 * interface, or enumeration.
 	 * 
 	 * @param label Label of the type categories.
-	 * @param classSupplier Type supplier.
+	 * @param classModels Types to list.
 	 */
-	private void classIndex(final String label, final Supplier<ClassDoc[]> classSupplier) {
-		final ClassDoc [] classDocs = classSupplier.get();
-		if (classDocs.length > 0) {
+	private void classIndex(final String label, final List<ClassModel> classModels) {
+		if (!classModels.isEmpty()) {
 			header(2);
 			text(label);
 			newLine();
 			tableHeader(MarkletConstant.NAME, "Description");
-			Arrays
-				.stream(classDocs)
-				.forEach(this::classRow);
+			classModels.forEach(this::classRow);
 			newLine();
 		}
 	}
@@ -78,13 +82,13 @@ public final class PackagePageBuilder extends MarkletDocumentBuilder {
 	 * Appends a class link row to the current
 	 * index built in the current document.
 	 * 
-	 * @param classDoc Class to append link from.
+	 * @param classModel Class to append link from.
 	 */
-	private void classRow(final ClassDoc classDoc) {
+	private void classRow(final ClassModel classModel) {
 		startTableRow();
-		classLink(packageDoc, classDoc);
+		classLink(getSource(), classModel.getReference());
 		cell();
-		text(classDoc.commentText().replaceAll("\\n"," ").replaceFirst("\\..*","."));
+		text(classModel.getCommentText().replaceAll("\\n"," ").replaceFirst("\\..*","."));
 		endTableRow();
 		newLine();
 	}
@@ -99,27 +103,49 @@ public final class PackagePageBuilder extends MarkletDocumentBuilder {
 	 * * Annotations
 	 */
 	private void indexes() {
-		classIndex(MarkletConstant.ANNOTATIONS, packageDoc::annotationTypes);
-		classIndex(MarkletConstant.ENUMERATIONS, packageDoc::enums);
-		classIndex(MarkletConstant.INTERFACES, packageDoc::interfaces);
-		classIndex(MarkletConstant.CLASSES, packageDoc::allClasses);
+		classIndex(MarkletConstant.ANNOTATIONS, packageModel.getAnnotationTypes());
+		classIndex(MarkletConstant.ENUMERATIONS, packageModel.getEnums());
+		classIndex(MarkletConstant.INTERFACES, packageModel.getInterfaces());
+		classIndex(MarkletConstant.CLASSES, packageModel.getAllClasses());
+	}
+
+	/**
+	 * Builds and returns the path of the documentation file
+	 * of a package into the directory denoted by the given
+	 * ``directoryPath``.
+	 * 
+	 * @param directoryPath Path of the directory documentation is written in.
+	 * @param fileEnding Ending of the documentation file.
+	 * @return Path of the documentation file.
+	 */
+	public static Path getPath(final Path directoryPath, final String fileEnding) {
+		return directoryPath.resolve(MarkletConstant.README + '.' + fileEnding);
 	}
 
 	/**
 	 * Builds and writes the documentation file associated
-	 * to the given ``packageDoc`` into the directory denoted
-	 * by the given ``directoryPath``.
+	 * to the given ``packageModel`` into the directory denoted
+	 * by the given ``directoryPath``. A {@link MarkletEvents}
+	 * package page event is emitted.
 	 * 
-	 * @param packageDoc Package to generated documentation for.
+	 * @param packageModel Package to generated documentation for.
 	 * @param directoryPath Path of the directory to write documentation in.
+	 * @param context Context of the current execution.
 	 * @throws IOException If any error occurs while writing package page.
 	 */
-	public static void build(final PackageDoc packageDoc, final Path directoryPath) throws IOException {
-		final PackagePageBuilder packageBuilder = new PackagePageBuilder( packageDoc);
+	public static void build(
+			final PackageModel packageModel,
+			final Path directoryPath,
+			final MarkletContext context) throws IOException {
+		final Object event = MarkletEvents.beginPackagePage();
+		final Path path = getPath(directoryPath, context.getOptions().getFileEnding());
+		final int estimate = PAGE_CAPACITY + packageModel.getAllClasses().size() * CLASS_CAPACITY;
+		final PackagePageBuilder packageBuilder = new PackagePageBuilder(packageModel, context, getCapacity(path, estimate));
+		packageBuilder.open(path);
 		packageBuilder.header();
 		packageBuilder.indexes();
-		final Path path = directoryPath.resolve(MarkletConstant.README_FILE);
 		packageBuilder.build(path);
+		MarkletEvents.commitPackagePage(event, packageModel, packageBuilder.getCharacters(), packageBuilder.getBytes());
 	}
 
 }
@@ -0,0 +1,294 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.PackageModel;
+
+/**
+ * Schedules the generation of pages over a pool of workers,
+ * package by package. A worker takes a whole package, namely
+ * its page and the pages of all its classes, so that pages of
+ * a package are mostly rendered by the same worker, one after
+ * another. Caches remain shared by all workers, as their reads
+ * do not lock. Packages with many classes are split into ranges
+ * of classes that idle workers steal, so a large package does
+ * not delay the end of the generation. Packages are handed out by
+ * decreasing {@link PageCosts}, as are classes of a package,
+ * so the most expensive pages do not end up last.
+ * 
+ * @author fv
+ */
+public final class PackageScheduler {
+
+	/**
+	 * Generator of the page of an element.
+	 * 
+	 * @author fv
+	 * @param <T> Type of the element to generate page for.
+	 */
+	@FunctionalInterface
+	public interface Generator<T> {
+
+		/**
+		 * Generates the page of the given ``element``.
+		 * 
+		 * @param element Element to generate page for.
+		 * @throws IOException If any error occurs during generation.
+		 */
+		void generate(T element) throws IOException;
+
+	}
+
+	/** Number of classes from which a range of classes is split. **/
+	private static final int SPLIT_THRESHOLD = 16;
+
+	/** Number of workers to use. **/
+	private final int threads;
+
+	/** Expected cost of each page. **/
+	private final PageCosts costs;
+
+	/** Generator of package pages. **/
+	private final Generator<PackageModel> packageGenerator;
+
+	/** Generator of class pages. **/
+	private final Generator<ClassModel> classGenerator;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param threads Number of workers to use.
+	 * @param costs Expected cost of each page.
+	 * @param packageGenerator Generator of package pages.
+	 * @param classGenerator Generator of class pages.
+	 */
+	public PackageScheduler(
+			final int threads,
+			final PageCosts costs,
+			final Generator<PackageModel> packageGenerator,
+			final Generator<ClassModel> classGenerator) {
+		this.threads = threads;
+		this.costs = costs;
+		this.packageGenerator = packageGenerator;
+		this.classGenerator = classGenerator;
+	}
+
+	/**
+	 * Generates the given ``element`` page, rethrowing
+	 * any error as unchecked so it crosses the pool.
+	 * 
+	 * @param generator Generator to use.
+	 * @param element Element to generate page for.
+	 * @param <T> Type of the element to generate page for.
+	 */
+	private static <T> void generate(final Generator<T> generator, final T element) {
+		try {
+			generator.generate(element);
+		}
+		catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Task that generates the pages of a range of classes,
+	 * split in halves while larger than {@link #SPLIT_THRESHOLD}.
+	 * 
+	 * @author fv
+	 */
+	private final class ClassesTask extends RecursiveAction {
+
+		/** Serialization version. **/
+		private static final long serialVersionUID = 1L;
+
+		/** Classes the range is taken from. **/
+		private final List<ClassModel> classes;
+
+		/** Index of the first class of the range. **/
+		private final int from;
+
+		/** Index following the last class of the range. **/
+		private final int to;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param classes Classes the range is taken from.
+		 * @param from Index of the first class of the range.
+		 * @param to Index following the last class of the range.
+		 */
+		private ClassesTask(final List<ClassModel> classes, final int from, final int to) {
+			this.classes = classes;
+			this.from = from;
+			this.to = to;
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		protected void compute() {
+			if (to - from > SPLIT_THRESHOLD) {
+				final int middle = (from + to) >>> 1;
+				invokeAll(new ClassesTask(classes, from, middle), new ClassesTask(classes, middle, to));
+			}
+			else {
+				for (int i = from; i < to; i++) {
+					generate(classGenerator, classes.get(i));
+				}
+			}
+		}
+
+	}
+
+	/**
+	 * Task that generates the page of a package, then
+	 * the pages of its classes.
+	 * 
+	 * @author fv
+	 */
+	private final class PackageTask extends RecursiveAction {
+
+		/** Serialization version. **/
+		private static final long serialVersionUID = 1L;
+
+		/** Package to generate page for, ``null`` if classes have no package page. **/
+		private final PackageModel packageModel;
+
+		/** Classes of the package, by decreasing cost. **/
+		private final List<ClassModel> classes;
+
+		/** Expected cost of the package page and of its class pages. **/
+		private final long cost;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param packageModel Package to generate page for, ``null`` if classes have no package page.
+		 * @param classes Classes of the package.
+		 */
+		private PackageTask(final PackageModel packageModel, final List<ClassModel> classes) {
+			this.packageModel = packageModel;
+			this.classes = classes;
+			Collections.sort(classes, Comparator.comparingLong((ClassModel classModel) -> costs.getCost(classModel)).reversed());
+			long total = packageModel == null ? 0 : costs.getCost(packageModel);
+			for (final ClassModel classModel : classes) {
+				total += costs.getCost(classModel);
+			}
+			this.cost = total;
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		protected void compute() {
+			if (packageModel != null) {
+				generate(packageGenerator, packageModel);
+			}
+			new ClassesTask(classes, 0, classes.size()).compute();
+		}
+
+	}
+
+	/**
+	 * Groups the given ``classes`` by package, keeping their order.
+	 * 
+	 * @param classes Classes to group.
+	 * @return Classes indexed by package name.
+	 */
+	private static Map<String, List<ClassModel>> group(final List<ClassModel> classes) {
+		final Map<String, List<ClassModel>> groups = new LinkedHashMap<String, List<ClassModel>>();
+		for (final ClassModel classModel : classes) {
+			List<ClassModel> group = groups.get(classModel.getPackageName());
+			if (group == null) {
+				group = new ArrayList<ClassModel>();
+				groups.put(classModel.getPackageName(), group);
+			}
+			group.add(classModel);
+		}
+		return groups;
+	}
+
+	/**
+	 * Builds one task per package, and one task per group of
+	 * classes whose package is not part of the given ``packages``,
+	 * ordered by decreasing cost.
+	 * 
+	 * @param packages Packages to generate pages for.
+	 * @param classes Classes to generate pages for.
+	 * @return Built tasks.
+	 */
+	private List<PackageTask> getTasks(final List<PackageModel> packages, final List<ClassModel> classes) {
+		final Map<String, List<ClassModel>> groups = group(classes);
+		final List<PackageTask> tasks = new ArrayList<PackageTask>(packages.size() + 1);
+		for (final PackageModel packageModel : packages) {
+			final List<ClassModel> group = groups.remove(packageModel.getName());
+			tasks.add(new PackageTask(packageModel, group == null ? new ArrayList<ClassModel>() : group));
+		}
+		for (final List<ClassModel> group : groups.values()) {
+			tasks.add(new PackageTask(null, group));
+		}
+		Collections.sort(tasks, Comparator.comparingLong((PackageTask task) -> task.cost).reversed());
+		return tasks;
+	}
+
+	/**
+	 * Generates the pages of the given ``packages`` and ``classes``
+	 * and waits for their completion. The page of a package is
+	 * generated before the pages of its classes. Package tasks
+	 * are submitted to the pool, whose workers take them in
+	 * submission order, most expensive first. Once a task failed,
+	 * pending tasks are cancelled and running ones are awaited, so
+	 * no page is generated after this method returned.
+	 * 
+	 * @param packages Packages to generate pages for.
+	 * @param classes Classes to generate pages for.
+	 * @throws IOException If any error occurs during generation process.
+	 */
+	public void schedule(final List<PackageModel> packages, final List<ClassModel> classes) throws IOException {
+		final List<PackageTask> tasks = getTasks(packages, classes);
+		final ForkJoinPool pool = new ForkJoinPool(threads);
+		try {
+			for (final PackageTask task : tasks) {
+				pool.execute(task);
+			}
+			for (final PackageTask task : tasks) {
+				task.join();
+			}
+		}
+		catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+		finally {
+			terminate(pool);
+		}
+	}
+
+	/**
+	 * Cancels the pending tasks of the given ``pool``
+	 * and waits for the running ones to complete.
+	 * 
+	 * @param pool Pool to terminate.
+	 * @throws IOException If interrupted while waiting for running tasks.
+	 */
+	private static void terminate(final ForkJoinPool pool) throws IOException {
+		pool.shutdownNow();
+		try {
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.SECONDS);
+		}
+		catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while terminating workers");
+		}
+	}
+
+}
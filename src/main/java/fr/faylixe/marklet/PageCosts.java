@@ -0,0 +1,302 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.PackageModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Expected rendering cost of each page, used for generating
+ * the most expensive pages first. The cost of a page is its
+ * rendering time during the previous execution if known,
+ * as stored into the output directory. Otherwise it is
+ * estimated from the number of members, tags and type
+ * arguments of the page, scaled to the measured timings.
+ * Rendering times of the current execution are recorded
+ * for the next one.
+ * 
+ * @author fv
+ */
+public final class PageCosts {
+
+	/** Name of the file rendering times are stored in. **/
+	public static final String FILENAME = ".marklet-costs";
+
+	/** Prefix of the key of a package page. **/
+	private static final String PACKAGE_PREFIX = "package ";
+
+	/** Separator between rendering time and page key. **/
+	private static final char SEPARATOR = ' ';
+
+	/** Path of the file rendering times are stored in. **/
+	private final Path file;
+
+	/** Rendering times from the previous execution, indexed by page key. **/
+	private final Map<String, Long> previous;
+
+	/** Rendering times of the current execution, indexed by page key. **/
+	private final Map<String, Long> current;
+
+	/** Expected cost of each page, indexed by page key. **/
+	private final Map<String, Long> costs;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param file Path of the file rendering times are stored in.
+	 * @param previous Rendering times from the previous execution, indexed by page key.
+	 */
+	private PageCosts(final Path file, final Map<String, Long> previous) {
+		this.file = file;
+		this.previous = previous;
+		this.current = new ConcurrentHashMap<String, Long>();
+		this.costs = new HashMap<String, Long>();
+	}
+
+	/**
+	 * Retrieves the key of the page of the given ``classModel``.
+	 * 
+	 * @param classModel Class to get page key for.
+	 * @return Key of the class page.
+	 */
+	private static String getKey(final ClassModel classModel) {
+		return classModel.getQualifiedName();
+	}
+
+	/**
+	 * Retrieves the key of the page of the given ``packageModel``.
+	 * 
+	 * @param packageModel Package to get page key for.
+	 * @return Key of the package page.
+	 */
+	private static String getKey(final PackageModel packageModel) {
+		return PACKAGE_PREFIX + packageModel.getName();
+	}
+
+	/**
+	 * Counts the types the given ``type`` is made of,
+	 * namely itself, its type arguments and its bounds.
+	 * 
+	 * @param type Type to count types of.
+	 * @return Number of types.
+	 */
+	private static int countTypes(final TypeModel type) {
+		if (type == null) {
+			return 0;
+		}
+		int count = 1;
+		for (final TypeModel argument : type.getTypeArguments()) {
+			count += countTypes(argument);
+		}
+		for (final TypeModel bound : type.getBounds()) {
+			count += countTypes(bound);
+		}
+		return count;
+	}
+
+	/**
+	 * Estimates the cost of the given ``members``, from
+	 * their tags, parameters and type arguments.
+	 * 
+	 * @param members Members to estimate cost of.
+	 * @return Estimated cost.
+	 */
+	private static long estimate(final List<MemberModel> members) {
+		long cost = 0;
+		for (final MemberModel member : members) {
+			cost += 1
+				+ member.getInlineTags().size()
+				+ member.getParamTags().size()
+				+ member.getReturnTags().size()
+				+ member.getThrowsTags().size()
+				+ countTypes(member.getType());
+			for (final ParameterModel parameter : member.getParameters()) {
+				cost += countTypes(parameter.getType());
+			}
+		}
+		return cost;
+	}
+
+	/**
+	 * Estimates the cost of the page of the given ``classModel``,
+	 * including the summaries of the members inherited from its
+	 * ancestors.
+	 * 
+	 * @param classModel Class to estimate page cost of.
+	 * @param hierarchyIndex Index of the class hierarchies.
+	 * @return Estimated cost.
+	 */
+	private static long estimate(final ClassModel classModel, final HierarchyIndex hierarchyIndex) {
+		long cost = 1
+			+ classModel.getInlineTags().size()
+			+ estimate(classModel.getConstructors())
+			+ estimate(classModel.getFields())
+			+ estimate(classModel.getMethods());
+		for (final ClassModel ancestor : hierarchyIndex.getAncestors(classModel)) {
+			if (ancestor != classModel) {
+				cost += ancestor.getFields().size() + ancestor.getMethods().size();
+			}
+		}
+		return cost;
+	}
+
+	/**
+	 * Estimates the cost of the page of the given ``packageModel``.
+	 * 
+	 * @param packageModel Package to estimate page cost of.
+	 * @return Estimated cost.
+	 */
+	private static long estimate(final PackageModel packageModel) {
+		return 1 + packageModel.getInlineTags().size() + packageModel.getAllClasses().size();
+	}
+
+	/**
+	 * Computes the expected cost of each page of the given ``model``.
+	 * Estimates are scaled by the ratio between measured time and
+	 * estimate of the pages that have been measured, so that they
+	 * are comparable to measured times.
+	 * 
+	 * @param model Documentation model to compute page costs of.
+	 * @param hierarchyIndex Index of the class hierarchies.
+	 */
+	private void computeCosts(final DocumentationModel model, final HierarchyIndex hierarchyIndex) {
+		final Map<String, Long> estimates = new HashMap<String, Long>();
+		for (final PackageModel packageModel : model.getPackages()) {
+			estimates.put(getKey(packageModel), estimate(packageModel));
+		}
+		for (final ClassModel classModel : model.getClasses()) {
+			estimates.put(getKey(classModel), estimate(classModel, hierarchyIndex));
+		}
+		long measuredTime = 0;
+		long measuredEstimate = 0;
+		for (final Map.Entry<String, Long> entry : estimates.entrySet()) {
+			final Long time = previous.get(entry.getKey());
+			if (time != null) {
+				measuredTime += time;
+				measuredEstimate += entry.getValue();
+			}
+		}
+		final double ratio = measuredEstimate == 0 ? 1 : (double) measuredTime / measuredEstimate;
+		for (final Map.Entry<String, Long> entry : estimates.entrySet()) {
+			final Long time = previous.get(entry.getKey());
+			costs.put(entry.getKey(), time == null ? Math.round(entry.getValue() * ratio) : time);
+		}
+	}
+
+	/**
+	 * Retrieves the expected cost of the page of the given ``classModel``.
+	 * 
+	 * @param classModel Class to get page cost of.
+	 * @return Expected cost, 0 if unknown.
+	 */
+	public long getCost(final ClassModel classModel) {
+		final Long cost = costs.get(getKey(classModel));
+		return cost == null ? 0 : cost;
+	}
+
+	/**
+	 * Retrieves the expected cost of the page of the given ``packageModel``.
+	 * 
+	 * @param packageModel Package to get page cost of.
+	 * @return Expected cost, 0 if unknown.
+	 */
+	public long getCost(final PackageModel packageModel) {
+		final Long cost = costs.get(getKey(packageModel));
+		return cost == null ? 0 : cost;
+	}
+
+	/**
+	 * Records the rendering time of the page of the given ``classModel``.
+	 * 
+	 * @param classModel Class whose page has been rendered.
+	 * @param time Rendering time in nanoseconds.
+	 */
+	public void record(final ClassModel classModel, final long time) {
+		current.put(getKey(classModel), time);
+	}
+
+	/**
+	 * Records the rendering time of the page of the given ``packageModel``.
+	 * 
+	 * @param packageModel Package whose page has been rendered.
+	 * @param time Rendering time in nanoseconds.
+	 */
+	public void record(final PackageModel packageModel, final long time) {
+		current.put(getKey(packageModel), time);
+	}
+
+	/**
+	 * Writes the rendering times of the current execution into
+	 * the output directory. Times of the pages that have not been
+	 * rendered, for instance as up to date, are kept from the
+	 * previous execution.
+	 * 
+	 * @throws IOException If any error occurs while writing rendering times.
+	 */
+	public void store() throws IOException {
+		final Map<String, Long> times = new TreeMap<String, Long>();
+		for (final String key : costs.keySet()) {
+			Long time = current.get(key);
+			if (time == null) {
+				time = previous.get(key);
+			}
+			if (time != null) {
+				times.put(key, time);
+			}
+		}
+		final List<String> lines = new ArrayList<String>(times.size());
+		for (final Map.Entry<String, Long> entry : times.entrySet()) {
+			lines.add(entry.getValue() + String.valueOf(SEPARATOR) + entry.getKey());
+		}
+		Files.write(file, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Static factory that loads the rendering times of the previous
+	 * execution from the given ``directory`` if any, and computes
+	 * the expected cost of each page of the given ``model``.
+	 * 
+	 * @param directory Directory pages are generated in.
+	 * @param model Documentation model to compute page costs of.
+	 * @param hierarchyIndex Index of the class hierarchies.
+	 * @return Loaded costs.
+	 * @throws IOException If any error occurs while reading rendering times.
+	 */
+	public static PageCosts load(
+			final Path directory,
+			final DocumentationModel model,
+			final HierarchyIndex hierarchyIndex) throws IOException {
+		final Path path = directory.resolve(FILENAME);
+		final Map<String, Long> previous = new HashMap<String, Long>();
+		if (Files.exists(path)) {
+			for (final String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+				final int index = line.indexOf(SEPARATOR);
+				if (index > 0) {
+					try {
+						previous.put(line.substring(index + 1), Long.parseLong(line.substring(0, index)));
+					}
+					catch (final NumberFormatException e) {
+						// Ignores malformed line.
+					}
+				}
+			}
+		}
+		final PageCosts costs = new PageCosts(path, previous);
+		costs.computeCosts(model, hierarchyIndex);
+		return costs;
+	}
+
+}
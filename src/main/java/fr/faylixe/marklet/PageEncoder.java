@@ -0,0 +1,126 @@
+package fr.faylixe.marklet;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Encodes built documents as UTF-8, whatever the platform
+ * default charset is, into buffers taken from a {@link ByteBufferPool}.
+ * Content is read through a view of the document buffer, without
+ * being copied, and each thread reuses its own encoder, so
+ * encoding a page only allocates such view once warmed up. Malformed
+ * characters, such as lone surrogates, are replaced like
+ * {@link String#getBytes(java.nio.charset.Charset)} does.
+ * 
+ * @author fv
+ */
+public final class PageEncoder {
+
+	/** Pool buffers are taken from. **/
+	private final ByteBufferPool pool;
+
+	/** UTF-8 encoder of each thread. **/
+	private final ThreadLocal<CharsetEncoder> encoders;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param pool Pool buffers are taken from.
+	 */
+	public PageEncoder(final ByteBufferPool pool) {
+		this.pool = pool;
+		this.encoders = ThreadLocal.withInitial(() -> StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE)
+			.onUnmappableCharacter(CodingErrorAction.REPLACE));
+	}
+
+	/**
+	 * Getter for the buffer pool.
+	 * 
+	 * @return Pool buffers are taken from.
+	 */
+	public ByteBufferPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * Replaces the given ``buffer`` by a buffer twice as large
+	 * with the same content, releasing it to the pool.
+	 * 
+	 * @param buffer Buffer to grow, in write mode.
+	 * @return Larger buffer, in write mode.
+	 */
+	private ByteBuffer grow(final ByteBuffer buffer) {
+		final ByteBuffer larger = pool.acquire(buffer.capacity() * 2);
+		buffer.flip();
+		larger.put(buffer);
+		pool.release(buffer);
+		return larger;
+	}
+
+	/**
+	 * Computes the number of bytes of the given ``content``
+	 * once encoded, without encoding it. Malformed characters
+	 * count for their one byte replacement.
+	 * 
+	 * @param content Content to compute encoded length of.
+	 * @return Number of bytes of the encoded content.
+	 */
+	public static int getEncodedLength(final CharSequence content) {
+		final int characters = content.length();
+		int length = 0;
+		for (int i = 0; i < characters; i++) {
+			final char character = content.charAt(i);
+			if (character < 0x80) {
+				length++;
+			}
+			else if (character < 0x800) {
+				length += 2;
+			}
+			else if (!Character.isSurrogate(character)) {
+				length += 3;
+			}
+			else if (Character.isHighSurrogate(character)
+					&& i + 1 < characters
+					&& Character.isLowSurrogate(content.charAt(i + 1))) {
+				length += 4;
+				i++;
+			}
+			else {
+				length++;
+			}
+		}
+		return length;
+	}
+
+	/**
+	 * Encodes the content of the given ``document``, which
+	 * is not streamed, into a buffer acquired from the pool
+	 * for the given encoded ``size``, as computed by
+	 * {@link #getEncodedLength(CharSequence)}, so that such
+	 * buffer does not have to grow.
+	 * The returned buffer is ready to be read, and has to be
+	 * given back to the pool once written.
+	 * 
+	 * @param document Document to encode content of.
+	 * @param size Number of bytes of the encoded document.
+	 * @return Buffer containing the encoded document.
+	 */
+	public ByteBuffer encode(final MarkdownDocumentBuilder document, final int size) {
+		final CharBuffer input = CharBuffer.wrap(document.getContent());
+		final CharsetEncoder encoder = encoders.get().reset();
+		ByteBuffer output = pool.acquire(size);
+		while (encoder.encode(input, output, true).isOverflow()) {
+			output = grow(output);
+		}
+		while (encoder.flush(output).isOverflow()) {
+			output = grow(output);
+		}
+		output.flip();
+		return output;
+	}
+
+}
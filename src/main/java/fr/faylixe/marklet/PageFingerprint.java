@@ -0,0 +1,275 @@
+package fr.faylixe.marklet;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.PackageModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TagModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Computes fingerprint of generated pages. Such fingerprint
+ * is a digest of every model element a page is rendered
+ * from, including the identity (name, package and inclusion)
+ * of each linked type, as it determines the link URL, and the
+ * target each link or see tag resolves to against the indexes
+ * of the current execution, as adding a class elsewhere can make
+ * a name ambiguous or resolvable. Two pages with the same
+ * fingerprint are rendered identically.
+ * 
+ * @author fv
+ */
+public final class PageFingerprint {
+
+	/** Digest algorithm used. **/
+	private static final String ALGORITHM = "SHA-1";
+
+	/** Separator written after each value so that concatenation is not ambiguous. **/
+	private static final byte SEPARATOR = 0;
+
+	/** Hexadecimal digits used for encoding digest. **/
+	private static final char [] HEXADECIMAL = "0123456789abcdef".toCharArray();
+
+	/** Digest fingerprint is computed with. **/
+	private final MessageDigest digest;
+
+	/** Context providing the indexes link targets are resolved with. **/
+	private final MarkletContext context;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param context Context providing the indexes link targets are resolved with.
+	 */
+	private PageFingerprint(final MarkletContext context) {
+		this.context = context;
+		try {
+			this.digest = MessageDigest.getInstance(ALGORITHM);
+		}
+		catch (final NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``value``.
+	 * 
+	 * @param value Value to update fingerprint with.
+	 */
+	private void update(final String value) {
+		if (value != null) {
+			digest.update(value.getBytes(StandardCharsets.UTF_8));
+		}
+		digest.update(SEPARATOR);
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``value``.
+	 * 
+	 * @param value Value to update fingerprint with.
+	 */
+	private void update(final boolean value) {
+		digest.update(value ? (byte) 1 : (byte) 2);
+	}
+
+	/**
+	 * Updates the fingerprint with the given class ``reference``.
+	 * 
+	 * @param reference Class reference to update fingerprint with.
+	 */
+	private void update(final ClassReference reference) {
+		if (reference == null) {
+			update((String) null);
+		}
+		else {
+			update(reference.getQualifiedName());
+			update(reference.getName());
+			update(reference.getSimpleTypeName());
+			update(reference.getPackageName());
+			update(reference.isIncluded());
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``type``.
+	 * 
+	 * @param type Type to update fingerprint with.
+	 */
+	private void update(final TypeModel type) {
+		if (type == null) {
+			update((String) null);
+		}
+		else {
+			update(type.getKind().name());
+			update(type.getSimpleTypeName());
+			update(type.getDimension());
+			update(type.getClassReference());
+			updateTypes(type.getTypeArguments());
+			updateTypes(type.getBounds());
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``types``.
+	 * 
+	 * @param types Types to update fingerprint with.
+	 */
+	private void updateTypes(final List<TypeModel> types) {
+		update(String.valueOf(types.size()));
+		for (final TypeModel type : types) {
+			update(type);
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``tags``.
+	 * 
+	 * @param tags Tags to update fingerprint with.
+	 */
+	private void updateTags(final List<TagModel> tags) {
+		update(String.valueOf(tags.size()));
+		for (final TagModel tag : tags) {
+			update(tag.getName());
+			update(tag.getText());
+			update(tag.getParameterName());
+			update(tag.getReferencedClass());
+			update(tag.getReferencedMember());
+			if (TagModel.LINK.equals(tag.getName()) || TagModel.SEE.equals(tag.getName())) {
+				updateTarget(tag);
+			}
+			updateTags(tag.getInlineTags());
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the target the given link
+	 * or see ``tag`` resolves to, either a member, a class,
+	 * or none if the tag text is rendered as is.
+	 * 
+	 * @param tag Link or see tag to update fingerprint with.
+	 * @see MarkletDocumentBuilder#referenceLink(TagModel)
+	 */
+	private void updateTarget(final TagModel tag) {
+		final ClassReference reference = MarkletDocumentBuilder.resolveClass(tag, context);
+		final MemberIndex.Target target = MarkletDocumentBuilder.resolveMember(tag, reference, context);
+		update(target != null);
+		if (target != null) {
+			update(target.getOwner());
+			update(target.getAnchor());
+		}
+		else {
+			update(reference);
+		}
+	}
+
+	/**
+	 * Updates the fingerprint with the given ``members``.
+	 * 
+	 * @param members Members to update fingerprint with.
+	 * @param overrideIndex Index of the overriding methods.
+	 */
+	private void updateMembers(final List<MemberModel> members, final OverrideIndex overrideIndex) {
+		update(String.valueOf(members.size()));
+		for (final MemberModel member : members) {
+			update(member.getKind().name());
+			update(member.getName());
+			update(member.getModifiers());
+			update(member.isStatic());
+			final ClassModel overridden = overrideIndex.getOverriddenClass(member);
+			update(overridden == null ? null : overridden.getReference());
+			update(member.getFlatSignature());
+			update(String.valueOf(member.getParameters().size()));
+			for (final ParameterModel parameter : member.getParameters()) {
+				update(parameter.getName());
+				update(parameter.getType());
+			}
+			update(member.getType());
+			updateTags(member.getInlineTags());
+			updateTags(member.getParamTags());
+			updateTags(member.getReturnTags());
+			updateTags(member.getThrowsTags());
+			updateTags(member.getSeeTags());
+		}
+	}
+
+	/**
+	 * Builds and returns the hexadecimal representation of the digest.
+	 * 
+	 * @return Computed fingerprint.
+	 */
+	private String build() {
+		final byte [] bytes = digest.digest();
+		final char [] characters = new char[bytes.length * 2];
+		for (int i = 0; i < bytes.length; i++) {
+			characters[i * 2] = HEXADECIMAL[(bytes[i] >> 4) & 0xF];
+			characters[i * 2 + 1] = HEXADECIMAL[bytes[i] & 0xF];
+		}
+		return new String(characters);
+	}
+
+	/**
+	 * Computes the fingerprint of the page of the given ``classModel``.
+	 * 
+	 * @param classModel Class to compute page fingerprint for.
+	 * @param context Context providing the indexes the page is rendered from.
+	 * @return Computed fingerprint.
+	 */
+	public static String of(final ClassModel classModel, final MarkletContext context) {
+		final HierarchyIndex hierarchyIndex = context.getHierarchyIndex();
+		final PageFingerprint fingerprint = new PageFingerprint(context);
+		fingerprint.update(classModel.getReference());
+		fingerprint.update(classModel.getKind().name());
+		fingerprint.updateTags(classModel.getInlineTags());
+		for (final ClassModel ancestor : hierarchyIndex.getAncestors(classModel)) {
+			fingerprint.update(ancestor.getReference());
+			if (ancestor != classModel) {
+				fingerprint.updateMembers(ancestor.getFields(), context.getOverrideIndex());
+				fingerprint.updateMembers(ancestor.getMethods(), context.getOverrideIndex());
+				fingerprint.updateMembers(ancestor.getHiddenMethods(), context.getOverrideIndex());
+			}
+		}
+		fingerprint.updateTypes(hierarchyIndex.getInterfaces(classModel));
+		fingerprint.updateMembers(classModel.getConstructors(), context.getOverrideIndex());
+		fingerprint.updateMembers(classModel.getFields(), context.getOverrideIndex());
+		fingerprint.updateMembers(classModel.getMethods(), context.getOverrideIndex());
+		return fingerprint.build();
+	}
+
+	/**
+	 * Updates the fingerprint with the given package index ``classes``.
+	 * 
+	 * @param classes Classes listed in the package index.
+	 */
+	private void updateIndex(final List<ClassModel> classes) {
+		update(String.valueOf(classes.size()));
+		for (final ClassModel classModel : classes) {
+			update(classModel.getReference());
+			update(classModel.getCommentText());
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the page of the given ``packageModel``.
+	 * 
+	 * @param packageModel Package to compute page fingerprint for.
+	 * @param context Context providing the indexes the page is rendered from.
+	 * @return Computed fingerprint.
+	 */
+	public static String of(final PackageModel packageModel, final MarkletContext context) {
+		final PageFingerprint fingerprint = new PageFingerprint(context);
+		fingerprint.update(packageModel.getName());
+		fingerprint.updateTags(packageModel.getInlineTags());
+		fingerprint.updateIndex(packageModel.getAnnotationTypes());
+		fingerprint.updateIndex(packageModel.getEnums());
+		fingerprint.updateIndex(packageModel.getInterfaces());
+		fingerprint.updateIndex(packageModel.getAllClasses());
+		return fingerprint.build();
+	}
+
+}
@@ -0,0 +1,169 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Manifest of the pages generated during the previous
+ * execution, stored into the output directory or a dedicated
+ * cache directory. It maps
+ * each page path to its {@link PageFingerprint}, allowing
+ * to skip the generation of the pages that did not change.
+ * 
+ * @author fv
+ */
+public final class PageManifest {
+
+	/** Name of the manifest file. **/
+	public static final String FILENAME = ".marklet-manifest";
+
+	/** Version of the pages rendering, to increase each time rendering changes. **/
+	private static final String VERSION = "4";
+
+	/** Prefix of the manifest header line. **/
+	private static final String HEADER_PREFIX = "marklet-manifest ";
+
+	/** Separator between fingerprint and page path. **/
+	private static final char SEPARATOR = ' ';
+
+	/** Directory pages are generated in. **/
+	private final Path directory;
+
+	/** Path of the manifest file. **/
+	private final Path file;
+
+	/** Header line, which identifies version and options pages are rendered with. **/
+	private final String header;
+
+	/** Page fingerprints from the previous execution, indexed by page path. **/
+	private final Map<String, String> previous;
+
+	/** Page fingerprints of the current execution, indexed by page path. **/
+	private final Map<String, String> current;
+
+	/** Number of pages that have been skipped. **/
+	private final AtomicInteger skipped;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param directory Directory pages are generated in.
+	 * @param file Path of the manifest file.
+	 * @param header Header line, which identifies version and options pages are rendered with.
+	 * @param previous Page fingerprints from the previous execution, indexed by page path.
+	 */
+	private PageManifest(
+			final Path directory,
+			final Path file,
+			final String header,
+			final Map<String, String> previous) {
+		this.directory = directory;
+		this.file = file;
+		this.header = header;
+		this.previous = previous;
+		this.current = new ConcurrentHashMap<String, String>();
+		this.skipped = new AtomicInteger();
+	}
+
+	/**
+	 * Retrieves the key of the given ``page`` in the manifest.
+	 * 
+	 * @param page Path of the page to get key for.
+	 * @return Path of the page relative to the manifest directory.
+	 */
+	private String getKey(final Path page) {
+		return directory.relativize(page).toString().replace('\\', '/');
+	}
+
+	/**
+	 * Records the given ``fingerprint`` for the given ``page``
+	 * and indicates if such page is up to date, namely it
+	 * exists and has been generated with the same fingerprint
+	 * during the previous execution.
+	 * 
+	 * @param page Path of the page to check.
+	 * @param fingerprint Fingerprint of the page to generate.
+	 * @return ``true`` if the page generation can be skipped, ``false`` otherwise.
+	 */
+	public boolean isUpToDate(final Path page, final String fingerprint) {
+		final String key = getKey(page);
+		current.put(key, fingerprint);
+		if (fingerprint.equals(previous.get(key)) && Files.exists(page)) {
+			skipped.incrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Getter for the number of skipped pages.
+	 * 
+	 * @return Number of pages that have been skipped.
+	 */
+	public int getSkipped() {
+		return skipped.get();
+	}
+
+	/**
+	 * Writes this manifest into its file, with the
+	 * fingerprints of the current execution. The
+	 * directory of such file is created if needed.
+	 * 
+	 * @throws IOException If any error occurs while writing manifest.
+	 */
+	public void store() throws IOException {
+		final List<String> lines = new ArrayList<String>(current.size() + 1);
+		lines.add(header);
+		for (final Map.Entry<String, String> entry : new TreeMap<String, String>(current).entrySet()) {
+			lines.add(entry.getValue() + SEPARATOR + entry.getKey());
+		}
+		Files.createDirectories(file.getParent());
+		Files.write(file, lines, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Static factory that loads the manifest of the pages of
+	 * the given ``directory`` from the given ``cacheDirectory``.
+	 * Previous fingerprints are ignored if no manifest exists,
+	 * or if it has been written by another version or with
+	 * another ``signature``.
+	 * 
+	 * @param directory Directory pages are generated in.
+	 * @param cacheDirectory Directory the manifest is stored in.
+	 * @param signature Options that have an impact on generated pages.
+	 * @return Loaded manifest.
+	 * @throws IOException If any error occurs while reading manifest.
+	 */
+	public static PageManifest load(
+			final Path directory,
+			final Path cacheDirectory,
+			final String signature) throws IOException {
+		final String header = HEADER_PREFIX + VERSION + SEPARATOR + signature;
+		final Path path = cacheDirectory.toAbsolutePath().resolve(FILENAME);
+		Map<String, String> previous = Collections.emptyMap();
+		if (Files.exists(path)) {
+			final List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+			if (!lines.isEmpty() && header.equals(lines.get(0))) {
+				previous = new HashMap<String, String>(lines.size());
+				for (final String line : lines.subList(1, lines.size())) {
+					final int index = line.indexOf(SEPARATOR);
+					if (index > 0) {
+						previous.put(line.substring(index + 1), line.substring(0, index));
+					}
+				}
+			}
+		}
+		return new PageManifest(directory, path, header, previous);
+	}
+
+}
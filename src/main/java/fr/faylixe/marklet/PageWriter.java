@@ -0,0 +1,275 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes generated pages to the file system. If required,
+ * a page is only written if its content differs from the
+ * existing file, so unchanged files keep their modification
+ * time. Written and skipped pages are counted, as well as
+ * written bytes and time spent writing.
+ * 
+ * @author fv
+ */
+public final class PageWriter {
+
+	/** Suffix of the temporary file a streamed page is written to. **/
+	private static final String TEMPORARY_SUFFIX = ".tmp";
+
+	/** Size of the chunks used for comparing files. **/
+	private static final int CHUNK_SIZE = 8192;
+
+	/** Indicates if pages are only written when their content changed. **/
+	private final boolean writeIfChanged;
+
+	/** Number of pages that have been written. **/
+	private final AtomicInteger written;
+
+	/** Number of pages that have been skipped as identical to the existing file. **/
+	private final AtomicInteger skipped;
+
+	/** Number of bytes that have been written. **/
+	private final LongAdder bytes;
+
+	/** Time spent writing pages, in nanoseconds. **/
+	private final LongAdder writeTime;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param writeIfChanged Indicates if pages are only written when their content changed.
+	 */
+	public PageWriter(final boolean writeIfChanged) {
+		this.writeIfChanged = writeIfChanged;
+		this.written = new AtomicInteger();
+		this.skipped = new AtomicInteger();
+		this.bytes = new LongAdder();
+		this.writeTime = new LongAdder();
+	}
+
+	/**
+	 * Getter for the number of written pages.
+	 * 
+	 * @return Number of pages that have been written.
+	 */
+	public int getWritten() {
+		return written.get();
+	}
+
+	/**
+	 * Getter for the number of skipped pages.
+	 * 
+	 * @return Number of pages that have been skipped as identical to the existing file.
+	 */
+	public int getSkipped() {
+		return skipped.get();
+	}
+
+	/**
+	 * Getter for the number of written bytes.
+	 * 
+	 * @return Number of bytes that have been written.
+	 */
+	public long getBytes() {
+		return bytes.sum();
+	}
+
+	/**
+	 * Getter for the writing time.
+	 * 
+	 * @return Time spent writing pages, comparing them to existing files included, in nanoseconds.
+	 */
+	public long getWriteTime() {
+		return writeTime.sum();
+	}
+
+	/**
+	 * Reads from the given ``stream`` until the given
+	 * ``buffer`` is full or the stream ends.
+	 * 
+	 * @param stream Stream to read from.
+	 * @param buffer Buffer to fill.
+	 * @return Number of bytes read.
+	 * @throws IOException If any error occurs while reading.
+	 */
+	private static int fill(final InputStream stream, final byte [] buffer) throws IOException {
+		int length = 0;
+		while (length < buffer.length) {
+			final int read = stream.read(buffer, length, buffer.length - length);
+			if (read < 0) {
+				break;
+			}
+			length += read;
+		}
+		return length;
+	}
+
+	/**
+	 * Indicates if the file denoted by the given ``path``
+	 * has the given ``content``. Sizes are compared first,
+	 * then the file is read chunk by chunk, stopping at the
+	 * first difference. The content position is left unchanged.
+	 * 
+	 * @param path Path of the file to compare.
+	 * @param content Expected content.
+	 * @return ``true`` if the file exists with the given content, ``false`` otherwise.
+	 * @throws IOException If any error occurs while reading the file.
+	 */
+	private static boolean hasContent(final Path path, final ByteBuffer content) throws IOException {
+		if (!Files.exists(path) || Files.size(path) != content.remaining()) {
+			return false;
+		}
+		final ByteBuffer chunk = ByteBuffer.allocate(CHUNK_SIZE);
+		final ByteBuffer expected = content.duplicate();
+		try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			while (expected.hasRemaining()) {
+				chunk.clear();
+				chunk.limit(Math.min(CHUNK_SIZE, expected.remaining()));
+				while (chunk.hasRemaining()) {
+					if (channel.read(chunk) < 0) {
+						return false;
+					}
+				}
+				chunk.flip();
+				final ByteBuffer slice = expected.slice();
+				slice.limit(chunk.remaining());
+				if (!slice.equals(chunk)) {
+					return false;
+				}
+				expected.position(expected.position() + chunk.remaining());
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Indicates if both files have the same content. Sizes
+	 * are compared first, then files are read chunk by chunk,
+	 * stopping at the first difference.
+	 * 
+	 * @param path Path of the first file to compare.
+	 * @param other Path of the second file to compare.
+	 * @return ``true`` if both files exist with the same content, ``false`` otherwise.
+	 * @throws IOException If any error occurs while reading files.
+	 */
+	private static boolean hasSameContent(final Path path, final Path other) throws IOException {
+		if (!Files.exists(path) || Files.size(path) != Files.size(other)) {
+			return false;
+		}
+		final byte [] chunk = new byte[CHUNK_SIZE];
+		final byte [] otherChunk = new byte[CHUNK_SIZE];
+		try (final InputStream stream = Files.newInputStream(path);
+				final InputStream otherStream = Files.newInputStream(other)) {
+			int length;
+			while ((length = fill(stream, chunk)) > 0) {
+				if (fill(otherStream, otherChunk) != length) {
+					return false;
+				}
+				for (int i = 0; i < length; i++) {
+					if (chunk[i] != otherChunk[i]) {
+						return false;
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Writes the remaining bytes of the given ``content``
+	 * into the file denoted by the given ``path`` through a
+	 * {@link FileChannel}, unless content is identical to the
+	 * existing file and only changed pages have to be written.
+	 * 
+	 * @param path Path of the page to write.
+	 * @param content Content of the page, consumed once written.
+	 * @throws IOException If any error occurs while writing the page.
+	 */
+	public void write(final Path path, final ByteBuffer content) throws IOException {
+		final long start = System.nanoTime();
+		if (writeIfChanged && hasContent(path, content)) {
+			skipped.incrementAndGet();
+		}
+		else {
+			final int length = content.remaining();
+			try (final FileChannel channel = FileChannel.open(
+					path,
+					StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING,
+					StandardOpenOption.WRITE)) {
+				while (content.hasRemaining()) {
+					channel.write(content);
+				}
+			}
+			written.incrementAndGet();
+			bytes.add(length);
+		}
+		writeTime.add(System.nanoTime() - start);
+	}
+
+	/**
+	 * Retrieves the path of the temporary file
+	 * associated to the given ``path``.
+	 * 
+	 * @param path Path of the page to get temporary file for.
+	 * @return Path of the temporary file.
+	 */
+	private static Path getTemporaryPath(final Path path) {
+		return path.resolveSibling(path.getFileName() + TEMPORARY_SUFFIX);
+	}
+
+	/**
+	 * Opens a UTF-8 writer for streaming the page denoted
+	 * by the given ``path``. If only changed pages have to be
+	 * written, the page is streamed into a temporary file
+	 * that is compared to the existing one by {@link #commit(Path)}.
+	 * 
+	 * @param path Path of the page to stream.
+	 * @return Opened writer.
+	 * @throws IOException If any error occurs while opening the file.
+	 */
+	public Writer open(final Path path) throws IOException {
+		final Path target = writeIfChanged ? getTemporaryPath(path) : path;
+		return Files.newBufferedWriter(target, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Completes the writing of a page streamed through
+	 * a writer opened by {@link #open(Path)}, which must
+	 * have been closed. 
+	 * 
+	 * @param path Path of the streamed page.
+	 * @throws IOException If any error occurs while moving the temporary file.
+	 */
+	public void commit(final Path path) throws IOException {
+		final long start = System.nanoTime();
+		try {
+			if (writeIfChanged) {
+				final Path temporary = getTemporaryPath(path);
+				if (hasSameContent(path, temporary)) {
+					Files.delete(temporary);
+					skipped.incrementAndGet();
+					return;
+				}
+				Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+			}
+			written.incrementAndGet();
+			bytes.add(Files.size(path));
+		}
+		finally {
+			writeTime.add(System.nanoTime() - start);
+		}
+	}
+
+}
@@ -0,0 +1,74 @@
+package fr.faylixe.marklet;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * {@link BufferStrategy} that reuses buffers across documents.
+ * Each thread has its own pool, so buffers are acquired and
+ * released without any synchronization. A thread may build
+ * several documents at once, such as a page and the type
+ * fragments it links to, so a pool holds a few buffers.
+ * Buffers that grew over a given capacity are not pooled,
+ * so that a single huge page does not stay in memory.
+ * 
+ * @author fv
+ */
+public final class PooledBufferStrategy implements BufferStrategy {
+
+	/** Default maximum number of buffers pooled by each thread. **/
+	public static final int DEFAULT_BUFFERS = 4;
+
+	/** Default maximum capacity of pooled buffers. **/
+	public static final int DEFAULT_CAPACITY = 1024 * 1024;
+
+	/** Maximum number of buffers pooled by each thread. **/
+	private final int buffers;
+
+	/** Maximum capacity of pooled buffers. **/
+	private final int maximumCapacity;
+
+	/** Available buffers of each thread. **/
+	private final ThreadLocal<Deque<StringBuilder>> pools;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param buffers Maximum number of buffers pooled by each thread.
+	 * @param maximumCapacity Maximum capacity of pooled buffers.
+	 */
+	public PooledBufferStrategy(final int buffers, final int maximumCapacity) {
+		this.buffers = buffers;
+		this.maximumCapacity = maximumCapacity;
+		this.pools = ThreadLocal.withInitial(ArrayDeque::new);
+	}
+
+	/**
+	 * Constructor with default limits.
+	 */
+	public PooledBufferStrategy() {
+		this(DEFAULT_BUFFERS, DEFAULT_CAPACITY);
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public StringBuilder acquire(final int capacity) {
+		final StringBuilder buffer = pools.get().pollFirst();
+		if (buffer == null) {
+			return new StringBuilder(capacity);
+		}
+		buffer.ensureCapacity(capacity);
+		return buffer;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public void release(final StringBuilder buffer) {
+		final Deque<StringBuilder> pool = pools.get();
+		if (buffer.capacity() <= maximumCapacity && pool.size() < buffers) {
+			buffer.setLength(0);
+			pool.offerFirst(buffer);
+		}
+	}
+
+}
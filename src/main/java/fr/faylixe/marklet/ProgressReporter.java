@@ -0,0 +1,142 @@
+package fr.faylixe.marklet;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.javadoc.DocErrorReporter;
+
+/**
+ * Thread safe reporter of the generation progress. Instead
+ * of a notice per page, completed pages are counted and a
+ * single notice with the completion ratio, throughput and
+ * estimated remaining time is printed at most once per
+ * interval, by whichever worker first notices it elapsed.
+ * In verbose mode, a notice is also printed for each page.
+ * 
+ * @author fv
+ */
+public final class ProgressReporter {
+
+	/** Default interval between two progress notices, in nanoseconds. **/
+	public static final long DEFAULT_INTERVAL = TimeUnit.SECONDS.toNanos(5);
+
+	/** Reporter notices are printed to. **/
+	private final DocErrorReporter reporter;
+
+	/** Number of pages to generate. **/
+	private final int total;
+
+	/** Indicates if a notice is printed for each page. **/
+	private final boolean verbose;
+
+	/** Minimum interval between two progress notices, in nanoseconds. **/
+	private final long interval;
+
+	/** Value of {@link System#nanoTime()} when generation started. **/
+	private final long start;
+
+	/** Number of pages that have been completed, generated or skipped. **/
+	private final AtomicInteger completed;
+
+	/** Value of {@link System#nanoTime()} when the next progress notice is due. **/
+	private final AtomicLong next;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param reporter Reporter notices are printed to.
+	 * @param total Number of pages to generate.
+	 * @param verbose Indicates if a notice is printed for each page.
+	 * @param interval Minimum interval between two progress notices, in nanoseconds.
+	 */
+	public ProgressReporter(
+			final DocErrorReporter reporter,
+			final int total,
+			final boolean verbose,
+			final long interval) {
+		this.reporter = reporter;
+		this.total = total;
+		this.verbose = verbose;
+		this.interval = interval;
+		this.start = System.nanoTime();
+		this.completed = new AtomicInteger();
+		this.next = new AtomicLong(start + interval);
+	}
+
+	/**
+	 * Notifies that the page with the given ``label`` is
+	 * about to be generated. Only prints in verbose mode.
+	 * 
+	 * @param label Label of the page, such as the documented class name.
+	 */
+	public void starting(final String label) {
+		if (verbose) {
+			reporter.printNotice("Generates documentation for " + label);
+		}
+	}
+
+	/**
+	 * Notifies that a page has been completed, either generated
+	 * or skipped, and prints a progress notice if the interval
+	 * since the previous one elapsed.
+	 */
+	public void completed() {
+		final int count = completed.incrementAndGet();
+		final long now = System.nanoTime();
+		final long due = next.get();
+		if (now >= due && next.compareAndSet(due, now + interval)) {
+			reporter.printNotice(getProgress(count, now));
+		}
+	}
+
+	/**
+	 * Builds a progress notice.
+	 * 
+	 * @param count Number of completed pages.
+	 * @param now Current value of {@link System#nanoTime()}.
+	 * @return Built notice.
+	 */
+	private String getProgress(final int count, final long now) {
+		final long elapsed = now - start;
+		final double rate = count * 1e9 / Math.max(1, elapsed);
+		final StringBuilder builder = new StringBuilder()
+			.append(count)
+			.append('/')
+			.append(total)
+			.append(" pages (")
+			.append(total == 0 ? 100 : count * 100 / total)
+			.append("%), ")
+			.append(Math.round(rate))
+			.append(" pages/s");
+		if (count < total && rate > 0) {
+			builder
+				.append(", ETA ")
+				.append(getDuration(Math.round((total - count) / rate)));
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Formats the given ``seconds`` duration.
+	 * 
+	 * @param seconds Duration to format.
+	 * @return Formatted duration, such as ``1m05s``.
+	 */
+	private static String getDuration(final long seconds) {
+		if (seconds < 60) {
+			return seconds + "s";
+		}
+		return String.format("%dm%02ds", seconds / 60, seconds % 60);
+	}
+
+	/**
+	 * Prints the final notice, with the number of completed
+	 * pages and the total generation time.
+	 */
+	public void finish() {
+		final long elapsed = System.nanoTime() - start;
+		reporter.printNotice(completed.get() + " pages completed in " + TimeUnit.NANOSECONDS.toMillis(elapsed) + " ms");
+	}
+
+}
@@ -0,0 +1,84 @@
+package fr.faylixe.marklet;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread safe cache of the relative paths between packages,
+ * as computed by {@link MarkletDocumentBuilder#getPath(String, String)}.
+ * A documentation usually contains a few thousands distinct
+ * package pairs for millions of emitted links.
+ * 
+ * @author fv
+ */
+public final class RelativePathCache {
+
+	/** Cached paths, indexed by source package name then by target package name. **/
+	private final ConcurrentMap<String, ConcurrentMap<String, String>> paths;
+
+	/** Number of paths that have been retrieved from the cache. **/
+	private final LongAdder hits;
+
+	/** Number of paths that have been computed. **/
+	private final LongAdder misses;
+
+	/**
+	 * Default constructor.
+	 */
+	public RelativePathCache() {
+		this.paths = new ConcurrentHashMap<String, ConcurrentMap<String, String>>();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+
+	/**
+	 * Retrieves the shortest URL path from the given ``source``
+	 * package to the given ``target`` package, computing it if
+	 * it has not been cached already.
+	 * 
+	 * @param source Source package to build path from.
+	 * @param target Target package to build path to.
+	 * @return Built path.
+	 * @see MarkletDocumentBuilder#getPath(String, String)
+	 */
+	public String getPath(final String source, final String target) {
+		ConcurrentMap<String, String> targets = paths.get(source);
+		if (targets == null) {
+			targets = new ConcurrentHashMap<String, String>();
+			final ConcurrentMap<String, String> existing = paths.putIfAbsent(source, targets);
+			if (existing != null) {
+				targets = existing;
+			}
+		}
+		String path = targets.get(target);
+		if (path == null) {
+			misses.increment();
+			path = MarkletDocumentBuilder.getPath(source, target);
+			targets.putIfAbsent(target, path);
+		}
+		else {
+			hits.increment();
+		}
+		return path;
+	}
+
+	/**
+	 * Getter for the number of cache hits.
+	 * 
+	 * @return Number of paths that have been retrieved from the cache.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Getter for the number of cache misses.
+	 * 
+	 * @return Number of paths that have been computed.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+}
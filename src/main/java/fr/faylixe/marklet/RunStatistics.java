@@ -0,0 +1,240 @@
+package fr.faylixe.marklet;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Timings of a **Marklet** execution, made of the duration of
+ * each of its phases, in execution order, and of the rendering
+ * time of each page. Page timings are recorded concurrently by
+ * the workers, phases by the main thread.
+ * 
+ * @author fv
+ */
+public final class RunStatistics {
+
+	/** Name of the phase during which the javadoc tool parses sources, before the doclet starts. **/
+	public static final String PARSING = "parsing";
+
+	/** Name of the phase during which the documentation model is extracted. **/
+	public static final String EXTRACTION = "extraction";
+
+	/** Name of the phase during which the context indexes are built. **/
+	public static final String INDEXING = "indexing";
+
+	/** Name of the phase during which package pages are rendered. **/
+	public static final String PACKAGES = "packages";
+
+	/** Name of the phase during which class pages are rendered. **/
+	public static final String CLASSES = "classes";
+
+	/** Name of the phase during which package and class pages are rendered together by a pool of workers. **/
+	public static final String PAGES = "pages";
+
+	/** Name of the phase during which the remaining queued pages are written. **/
+	public static final String WRITING = "writing";
+
+	/** Number of nanoseconds in a millisecond. **/
+	private static final double NANOS_PER_MILLI = 1e6;
+
+	/** Number of nanoseconds in a second. **/
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	/** Duration of each phase in nanoseconds, in execution order. **/
+	private final Map<String, Long> phases;
+
+	/** Rendering time of each page in nanoseconds. **/
+	private long [] pages;
+
+	/** Number of recorded pages. **/
+	private int pageCount;
+
+	/**
+	 * Default constructor. The parsing phase is recorded
+	 * as the time elapsed since the virtual machine start,
+	 * which thus includes its startup.
+	 */
+	public RunStatistics() {
+		this.phases = new LinkedHashMap<String, Long>();
+		this.pages = new long[64];
+		phases.put(PARSING, ManagementFactory.getRuntimeMXBean().getUptime() * 1000000L);
+	}
+
+	/**
+	 * Records the end of the phase denoted by the given ``name``.
+	 * 
+	 * @param name Name of the phase that ended.
+	 * @param start Value of {@link System#nanoTime()} when the phase started.
+	 */
+	public synchronized void phase(final String name, final long start) {
+		phases.put(name, System.nanoTime() - start);
+	}
+
+	/**
+	 * Records the rendering time of a page.
+	 * 
+	 * @param start Value of {@link System#nanoTime()} when the page rendering started.
+	 * @return Rendering time of the page in nanoseconds.
+	 */
+	public long page(final long start) {
+		final long duration = System.nanoTime() - start;
+		synchronized (this) {
+			if (pageCount == pages.length) {
+				pages = Arrays.copyOf(pages, pageCount * 2);
+			}
+			pages[pageCount++] = duration;
+		}
+		return duration;
+	}
+
+	/**
+	 * Getter for the number of rendered pages.
+	 * 
+	 * @return Number of pages whose rendering time has been recorded.
+	 */
+	public synchronized int getPageCount() {
+		return pageCount;
+	}
+
+	/**
+	 * Retrieves the duration of the phase denoted by the given ``name``.
+	 * 
+	 * @param name Name of the phase to retrieve duration of.
+	 * @return Duration of the phase in nanoseconds, 0 if it has not been recorded.
+	 */
+	public synchronized long getPhase(final String name) {
+		final Long duration = phases.get(name);
+		return duration == null ? 0 : duration;
+	}
+
+	/**
+	 * Computes the given ``percentile`` of the pages rendering time,
+	 * using the nearest rank method.
+	 * 
+	 * @param percentile Percentile to compute, between 0 and 100.
+	 * @return Rendering time of the percentile in nanoseconds, 0 if no page has been rendered.
+	 */
+	public synchronized long getPercentile(final double percentile) {
+		if (pageCount == 0) {
+			return 0;
+		}
+		final long [] sorted = Arrays.copyOf(pages, pageCount);
+		Arrays.sort(sorted);
+		final int rank = (int) Math.ceil(percentile / 100 * pageCount);
+		return sorted[Math.max(0, rank - 1)];
+	}
+
+	/**
+	 * Computes the rendering throughput, as the number of
+	 * rendered pages per second of the rendering phases,
+	 * including the writing of the remaining pages.
+	 * 
+	 * @return Number of rendered pages per second.
+	 */
+	public synchronized double getThroughput() {
+		final long duration = getPhase(PACKAGES) + getPhase(CLASSES) + getPhase(PAGES) + getPhase(WRITING);
+		return duration == 0 ? 0 : pageCount * NANOS_PER_SECOND / duration;
+	}
+
+	/**
+	 * Builds a one line summary of this execution.
+	 * 
+	 * @param writer Writer pages have been written with.
+	 * @return Built summary.
+	 */
+	public synchronized String getSummary(final PageWriter writer) {
+		final StringBuilder builder = new StringBuilder()
+			.append(pageCount)
+			.append(" pages rendered, ")
+			.append(writer.getBytes())
+			.append(" bytes written, ")
+			.append(String.format(Locale.ROOT, "%.1f", getThroughput()))
+			.append(" pages/s (");
+		for (final Map.Entry<String, Long> entry : phases.entrySet()) {
+			builder
+				.append(entry.getKey())
+				.append(' ')
+				.append(String.format(Locale.ROOT, "%.0f", entry.getValue() / NANOS_PER_MILLI))
+				.append(" ms, ");
+		}
+		return builder
+			.append("page p50 ")
+			.append(String.format(Locale.ROOT, "%.2f", getPercentile(50) / NANOS_PER_MILLI))
+			.append(" ms, p99 ")
+			.append(String.format(Locale.ROOT, "%.2f", getPercentile(99) / NANOS_PER_MILLI))
+			.append(" ms)")
+			.toString();
+	}
+
+	/**
+	 * Builds the JSON report of this execution.
+	 * 
+	 * @param writer Writer pages have been written with.
+	 * @return Built report.
+	 */
+	public synchronized String toJson(final PageWriter writer) {
+		final StringBuilder builder = new StringBuilder()
+			.append("{\n  \"phases\": {");
+		boolean first = true;
+		for (final Map.Entry<String, Long> entry : phases.entrySet()) {
+			builder
+				.append(first ? "\n" : ",\n")
+				.append("    \"")
+				.append(entry.getKey())
+				.append("\": ")
+				.append(millis(entry.getValue()));
+			first = false;
+		}
+		return builder
+			.append("\n  },\n  \"pages\": {\n    \"rendered\": ")
+			.append(pageCount)
+			.append(",\n    \"written\": ")
+			.append(writer.getWritten())
+			.append(",\n    \"unchanged\": ")
+			.append(writer.getSkipped())
+			.append("\n  },\n  \"bytesWritten\": ")
+			.append(writer.getBytes())
+			.append(",\n  \"writeMillis\": ")
+			.append(millis(writer.getWriteTime()))
+			.append(",\n  \"pagesPerSecond\": ")
+			.append(String.format(Locale.ROOT, "%.2f", getThroughput()))
+			.append(",\n  \"pageMillis\": {\n    \"p50\": ")
+			.append(millis(getPercentile(50)))
+			.append(",\n    \"p99\": ")
+			.append(millis(getPercentile(99)))
+			.append(",\n    \"max\": ")
+			.append(millis(getPercentile(100)))
+			.append("\n  }\n}\n")
+			.toString();
+	}
+
+	/**
+	 * Formats the given ``nanos`` duration in milliseconds.
+	 * 
+	 * @param nanos Duration to format in nanoseconds.
+	 * @return Formatted duration in milliseconds.
+	 */
+	private static String millis(final long nanos) {
+		return String.format(Locale.ROOT, "%.3f", nanos / NANOS_PER_MILLI);
+	}
+
+	/**
+	 * Writes the JSON report of this execution into the
+	 * file denoted by the given ``report`` path.
+	 * 
+	 * @param report Path of the report to write.
+	 * @param writer Writer pages have been written with.
+	 * @throws IOException If any error occurs while writing the report.
+	 */
+	public void store(final Path report, final PageWriter writer) throws IOException {
+		Files.write(report, toJson(writer).getBytes(StandardCharsets.UTF_8));
+	}
+
+}
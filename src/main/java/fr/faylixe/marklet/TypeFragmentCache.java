@@ -0,0 +1,200 @@
+package fr.faylixe.marklet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Bounded cache of the rendered markdown of type signatures,
+ * such as ``Map<String, List<Foo>>``, as produced by
+ * {@link MarkletDocumentBuilder#typeLink(String, TypeModel)}.
+ * As such fragments contain links that are relative to the page
+ * they are written in, they are indexed by source package and
+ * type. Entries are spread over several independently locked
+ * stripes, each of them evicting its least recently used
+ * entries once full.
+ * 
+ * @author fv
+ */
+public final class TypeFragmentCache {
+
+	/**
+	 * Cache key, made of a source package and a type.
+	 * 
+	 * @author fv
+	 */
+	private static final class Key {
+
+		/** Name of the source package the fragment is written from. **/
+		private final String source;
+
+		/** Type the fragment is rendered from. **/
+		private final TypeModel type;
+
+		/** Precomputed hash code of this key. **/
+		private final int hashCode;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param source Name of the source package the fragment is written from.
+		 * @param type Type the fragment is rendered from.
+		 */
+		private Key(final String source, final TypeModel type) {
+			this.source = source;
+			this.type = type;
+			this.hashCode = 31 * source.hashCode() + type.hashCode();
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public int hashCode() {
+			return hashCode;
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public boolean equals(final Object object) {
+			if (this == object) {
+				return true;
+			}
+			if (!(object instanceof Key)) {
+				return false;
+			}
+			final Key other = (Key) object;
+			return hashCode == other.hashCode
+					&& source.equals(other.source)
+					&& type.equals(other.type);
+		}
+
+	}
+
+	/**
+	 * Access ordered map that removes its eldest
+	 * entry when its capacity is exceeded.
+	 * 
+	 * @author fv
+	 */
+	private static final class Stripe extends LinkedHashMap<Key, String> {
+
+		/** Serialization version. **/
+		private static final long serialVersionUID = 1L;
+
+		/** Maximum number of entries of this stripe. **/
+		private final int capacity;
+
+		/**
+		 * Default constructor.
+		 * 
+		 * @param capacity Maximum number of entries of this stripe.
+		 */
+		private Stripe(final int capacity) {
+			super(16, 0.75f, true);
+			this.capacity = capacity;
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		protected boolean removeEldestEntry(final Map.Entry<Key, String> eldest) {
+			return size() > capacity;
+		}
+
+	}
+
+	/** Default maximum number of cached fragments. **/
+	public static final int DEFAULT_CAPACITY = 16384;
+
+	/** Number of stripes, as a power of two. **/
+	private static final int STRIPES = 16;
+
+	/** Stripes the entries are spread over. **/
+	private final Stripe [] stripes;
+
+	/** Number of fragments that have been retrieved from the cache. **/
+	private final LongAdder hits;
+
+	/** Number of fragments that have been rendered. **/
+	private final LongAdder misses;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param capacity Maximum number of cached fragments.
+	 */
+	public TypeFragmentCache(final int capacity) {
+		final int stripeCapacity = Math.max(1, capacity / STRIPES);
+		this.stripes = new Stripe[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new Stripe(stripeCapacity);
+		}
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+
+	/**
+	 * Retrieves the rendered markdown of the given ``type``
+	 * written from the given ``source`` package, rendering it
+	 * if it is not cached. Rendering is done outside of any
+	 * lock, as nested type arguments are looked up in turn.
+	 * 
+	 * @param source Name of the source package the fragment is written from.
+	 * @param type Type to retrieve fragment for.
+	 * @param context Context of the current execution.
+	 * @return Rendered markdown of the type.
+	 */
+	public String get(final String source, final TypeModel type, final MarkletContext context) {
+		final Key key = new Key(source, type);
+		final int hash = key.hashCode ^ (key.hashCode >>> 16);
+		final Stripe stripe = stripes[hash & (STRIPES - 1)];
+		String fragment;
+		synchronized (stripe) {
+			fragment = stripe.get(key);
+		}
+		if (fragment == null) {
+			misses.increment();
+			final MarkletDocumentBuilder builder = new MarkletDocumentBuilder(source, context);
+			builder.renderType(type);
+			fragment = builder.build();
+			builder.release();
+			synchronized (stripe) {
+				stripe.put(key, fragment);
+			}
+		}
+		else {
+			hits.increment();
+		}
+		return fragment;
+	}
+
+	/**
+	 * Getter for the number of cache hits.
+	 * 
+	 * @return Number of fragments that have been retrieved from the cache.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Getter for the number of cache misses.
+	 * 
+	 * @return Number of fragments that have been rendered.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Getter for the cache hit rate.
+	 * 
+	 * @return Ratio of lookups that have been served from the cache, between 0 and 1.
+	 */
+	public double getHitRate() {
+		final long hitCount = hits.sum();
+		final long total = hitCount + misses.sum();
+		return total == 0 ? 0 : (double) hitCount / total;
+	}
+
+}
@@ -0,0 +1,284 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable representation of a class, an interface, an
+ * enumeration or an annotation. Classes that are not included
+ * into the documentation, but are part of an included class
+ * hierarchy, are also represented without any member.
+ * 
+ * @author fv
+ */
+public final class ClassModel {
+
+	/**
+	 * Enumeration of the class kinds.
+	 * 
+	 * @author fv
+	 */
+	public enum Kind {
+
+		/** Standard class. **/
+		CLASS,
+
+		/** Interface. **/
+		INTERFACE,
+
+		/** Enumeration. **/
+		ENUMERATION,
+
+		/** Annotation. **/
+		ANNOTATION
+
+	}
+
+	/** Reference to this class. **/
+	private final ClassReference reference;
+
+	/** Kind of this class. **/
+	private final Kind kind;
+
+	/** Type parameters of this class. **/
+	private final List<TypeModel> typeParameters;
+
+	/** Raw comment text of this class. **/
+	private final String commentText;
+
+	/** Inline tags of this class comment. **/
+	private final List<TagModel> inlineTags;
+
+	/** Superclass of this class, if any. **/
+	private final ClassModel superclass;
+
+	/** Superclass type of this class with its type arguments, if any. **/
+	private final TypeModel superclassType;
+
+	/** Interfaces directly implemented by this class. **/
+	private final List<TypeModel> interfaceTypes;
+
+	/** Interfaces directly implemented by this class, in the same order as {@link #interfaceTypes}. **/
+	private final List<ClassModel> interfaces;
+
+	/** Constructors of this class. **/
+	private final List<MemberModel> constructors;
+
+	/** Fields of this class. **/
+	private final List<MemberModel> fields;
+
+	/** Methods of this class. **/
+	private final List<MemberModel> methods;
+
+	/** Signature of the methods of this class which are not documented. **/
+	private final List<MemberModel> hiddenMethods;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param reference Reference to this class.
+	 * @param kind Kind of this class.
+	 * @param typeParameters Type parameters of this class.
+	 * @param commentText Raw comment text of this class.
+	 * @param inlineTags Inline tags of this class comment.
+	 * @param superclass Superclass of this class, if any.
+	 * @param superclassType Superclass type of this class with its type arguments, if any.
+	 * @param interfaceTypes Interfaces directly implemented by this class.
+	 * @param interfaces Interfaces directly implemented by this class, in the same order as ``interfaceTypes``.
+	 * @param constructors Constructors of this class.
+	 * @param fields Fields of this class.
+	 * @param methods Methods of this class.
+	 * @param hiddenMethods Signature of the methods of this class which are not documented.
+	 */
+	public ClassModel(
+			final ClassReference reference,
+			final Kind kind,
+			final List<TypeModel> typeParameters,
+			final String commentText,
+			final List<TagModel> inlineTags,
+			final ClassModel superclass,
+			final TypeModel superclassType,
+			final List<TypeModel> interfaceTypes,
+			final List<ClassModel> interfaces,
+			final List<MemberModel> constructors,
+			final List<MemberModel> fields,
+			final List<MemberModel> methods,
+			final List<MemberModel> hiddenMethods) {
+		this.reference = reference;
+		this.kind = kind;
+		this.typeParameters = Collections.unmodifiableList(typeParameters);
+		this.commentText = commentText;
+		this.inlineTags = Collections.unmodifiableList(inlineTags);
+		this.superclass = superclass;
+		this.superclassType = superclassType;
+		this.interfaceTypes = Collections.unmodifiableList(interfaceTypes);
+		this.interfaces = Collections.unmodifiableList(interfaces);
+		this.constructors = Collections.unmodifiableList(constructors);
+		this.fields = Collections.unmodifiableList(fields);
+		this.methods = Collections.unmodifiableList(methods);
+		this.hiddenMethods = Collections.unmodifiableList(hiddenMethods);
+	}
+
+	/**
+	 * Getter for the class reference.
+	 * 
+	 * @return Reference to this class.
+	 */
+	public ClassReference getReference() {
+		return reference;
+	}
+
+	/**
+	 * Getter for the class name, which includes
+	 * enclosing classes name if any.
+	 * 
+	 * @return Name of this class.
+	 */
+	public String getName() {
+		return reference.getName();
+	}
+
+	/**
+	 * Getter for the simple type name.
+	 * 
+	 * @return Simple name of this class.
+	 */
+	public String getSimpleTypeName() {
+		return reference.getSimpleTypeName();
+	}
+
+	/**
+	 * Getter for the qualified name.
+	 * 
+	 * @return Fully qualified name of this class.
+	 */
+	public String getQualifiedName() {
+		return reference.getQualifiedName();
+	}
+
+	/**
+	 * Getter for the package name.
+	 * 
+	 * @return Name of the package this class belongs to.
+	 */
+	public String getPackageName() {
+		return reference.getPackageName();
+	}
+
+	/**
+	 * Getter for the class kind.
+	 * 
+	 * @return Kind of this class.
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Getter for the type parameters.
+	 * 
+	 * @return Type parameters of this class.
+	 */
+	public List<TypeModel> getTypeParameters() {
+		return typeParameters;
+	}
+
+	/**
+	 * Getter for the comment text.
+	 * 
+	 * @return Raw comment text of this class.
+	 */
+	public String getCommentText() {
+		return commentText;
+	}
+
+	/**
+	 * Getter for the inline tags.
+	 * 
+	 * @return Inline tags of this class comment.
+	 */
+	public List<TagModel> getInlineTags() {
+		return inlineTags;
+	}
+
+	/**
+	 * Getter for the superclass.
+	 * 
+	 * @return Superclass of this class, ``null`` if any.
+	 */
+	public ClassModel getSuperclass() {
+		return superclass;
+	}
+
+	/**
+	 * Getter for the superclass type.
+	 * 
+	 * @return Superclass type of this class with its type arguments, ``null`` if any.
+	 */
+	public TypeModel getSuperclassType() {
+		return superclassType;
+	}
+
+	/**
+	 * Getter for the interface types.
+	 * 
+	 * @return Interfaces directly implemented by this class.
+	 */
+	public List<TypeModel> getInterfaceTypes() {
+		return interfaceTypes;
+	}
+
+	/**
+	 * Getter for the interfaces.
+	 * 
+	 * @return Interfaces directly implemented by this class, in the same order as interface types.
+	 */
+	public List<ClassModel> getInterfaces() {
+		return interfaces;
+	}
+
+	/**
+	 * Getter for the constructors.
+	 * 
+	 * @return Constructors of this class.
+	 */
+	public List<MemberModel> getConstructors() {
+		return constructors;
+	}
+
+	/**
+	 * Getter for the fields.
+	 * 
+	 * @return Fields of this class.
+	 */
+	public List<MemberModel> getFields() {
+		return fields;
+	}
+
+	/**
+	 * Getter for the methods.
+	 * 
+	 * @return Methods of this class.
+	 */
+	public List<MemberModel> getMethods() {
+		return methods;
+	}
+
+	/**
+	 * Getter for the hidden methods, which are excluded from the
+	 * documentation by access filter or because this class is not
+	 * included. Only their signature is extracted.
+	 * 
+	 * @return Signature of the methods of this class which are not documented.
+	 */
+	public List<MemberModel> getHiddenMethods() {
+		return hiddenMethods;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public String toString() {
+		return reference.getQualifiedName();
+	}
+
+}
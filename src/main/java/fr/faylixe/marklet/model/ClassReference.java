@@ -0,0 +1,100 @@
+package fr.faylixe.marklet.model;
+
+/**
+ * Lightweight reference to a class, which contains
+ * everything required for building a link to it,
+ * whether it is included into the documentation or not.
+ * 
+ * @author fv
+ */
+public final class ClassReference {
+
+	/** Fully qualified name of the referenced class. **/
+	private final String qualifiedName;
+
+	/** Name of the referenced class, including enclosing classes name if any. **/
+	private final String name;
+
+	/** Simple name of the referenced class. **/
+	private final String simpleTypeName;
+
+	/** Name of the package the referenced class belongs to. **/
+	private final String packageName;
+
+	/** Indicates if the referenced class is included into the documentation. **/
+	private final boolean included;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param qualifiedName Fully qualified name of the referenced class.
+	 * @param name Name of the referenced class, including enclosing classes name if any.
+	 * @param simpleTypeName Simple name of the referenced class.
+	 * @param packageName Name of the package the referenced class belongs to.
+	 * @param included Indicates if the referenced class is included into the documentation.
+	 */
+	public ClassReference(
+			final String qualifiedName,
+			final String name,
+			final String simpleTypeName,
+			final String packageName,
+			final boolean included) {
+		this.qualifiedName = qualifiedName;
+		this.name = name;
+		this.simpleTypeName = simpleTypeName;
+		this.packageName = packageName;
+		this.included = included;
+	}
+
+	/**
+	 * Getter for the qualified name.
+	 * 
+	 * @return Fully qualified name of the referenced class.
+	 */
+	public String getQualifiedName() {
+		return qualifiedName;
+	}
+
+	/**
+	 * Getter for the name.
+	 * 
+	 * @return Name of the referenced class, including enclosing classes name if any.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter for the simple type name.
+	 * 
+	 * @return Simple name of the referenced class.
+	 */
+	public String getSimpleTypeName() {
+		return simpleTypeName;
+	}
+
+	/**
+	 * Getter for the package name.
+	 * 
+	 * @return Name of the package the referenced class belongs to.
+	 */
+	public String getPackageName() {
+		return packageName;
+	}
+
+	/**
+	 * Indicates if the referenced class is included into the documentation.
+	 * 
+	 * @return ``true`` if the referenced class is documented, ``false`` otherwise.
+	 */
+	public boolean isIncluded() {
+		return included;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public String toString() {
+		return qualifiedName;
+	}
+
+}
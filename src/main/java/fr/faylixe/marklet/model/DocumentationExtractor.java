@@ -0,0 +1,466 @@
+package fr.faylixe.marklet.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.sun.javadoc.ClassDoc;
+import com.sun.javadoc.ConstructorDoc;
+import com.sun.javadoc.ExecutableMemberDoc;
+import com.sun.javadoc.FieldDoc;
+import com.sun.javadoc.MemberDoc;
+import com.sun.javadoc.MethodDoc;
+import com.sun.javadoc.PackageDoc;
+import com.sun.javadoc.ParamTag;
+import com.sun.javadoc.Parameter;
+import com.sun.javadoc.ParameterizedType;
+import com.sun.javadoc.RootDoc;
+import com.sun.javadoc.SeeTag;
+import com.sun.javadoc.Tag;
+import com.sun.javadoc.ThrowsTag;
+import com.sun.javadoc.Type;
+import com.sun.javadoc.TypeVariable;
+
+/**
+ * Extracts a {@link DocumentationModel} from a doclet API
+ * {@link RootDoc}, in one single pass. Each doclet element
+ * is queried once, and shared elements such as class
+ * reference or type are interned.
+ * 
+ * @author fv
+ */
+public final class DocumentationExtractor {
+
+	/** Identifier of the return tag. **/
+	private static final String RETURN_TAG = "return";
+
+	/** Extracted class references, indexed by qualified name. **/
+	private final Map<String, ClassReference> references;
+
+	/** Extracted classes, indexed by qualified name. **/
+	private final Map<String, ClassModel> classes;
+
+	/** Interned types. **/
+	private final Map<TypeModel, TypeModel> types;
+
+	/** Type variables whose bounds are being extracted, for avoiding recursive bounds loop. **/
+	private final Set<String> pendingVariables;
+
+	/**
+	 * Default constructor.
+	 */
+	private DocumentationExtractor() {
+		this.references = new HashMap<String, ClassReference>();
+		this.classes = new HashMap<String, ClassModel>();
+		this.types = new HashMap<TypeModel, TypeModel>();
+		this.pendingVariables = new HashSet<String>();
+	}
+
+	/**
+	 * Retrieves the reference to the given ``classDoc``.
+	 * 
+	 * @param classDoc Class to get reference for.
+	 * @return Class reference, ``null`` if the given ``classDoc`` is ``null``.
+	 */
+	private ClassReference reference(final ClassDoc classDoc) {
+		if (classDoc == null) {
+			return null;
+		}
+		final String qualifiedName = classDoc.qualifiedName();
+		ClassReference reference = references.get(qualifiedName);
+		if (reference == null) {
+			reference = new ClassReference(
+					qualifiedName,
+					classDoc.name(),
+					classDoc.simpleTypeName(),
+					classDoc.containingPackage().name(),
+					classDoc.isIncluded());
+			references.put(qualifiedName, reference);
+		}
+		return reference;
+	}
+
+	/**
+	 * Extracts the given ``types``.
+	 * 
+	 * @param types Types to extract.
+	 * @return Extracted types.
+	 */
+	private List<TypeModel> types(final Type [] types) {
+		final List<TypeModel> models = new ArrayList<TypeModel>(types.length);
+		for (final Type type : types) {
+			models.add(type(type));
+		}
+		return models;
+	}
+
+	/**
+	 * Extracts the given ``type``. Bounds of a type variable
+	 * that refers to itself (such as ``T extends Comparable<T>``)
+	 * are not extracted again while being extracted.
+	 * 
+	 * @param type Type to extract.
+	 * @return Extracted type.
+	 */
+	private TypeModel type(final Type type) {
+		final TypeModel model;
+		final TypeVariable variable = type.asTypeVariable();
+		if (type.asWildcardType() != null) {
+			model = new TypeModel(
+					TypeModel.Kind.WILDCARD,
+					type.simpleTypeName(),
+					type.dimension(),
+					null,
+					Collections.emptyList(),
+					Collections.emptyList());
+		}
+		else if (variable != null) {
+			final String key = variable.owner().qualifiedName() + '#' + variable.simpleTypeName();
+			List<TypeModel> bounds = Collections.emptyList();
+			if (pendingVariables.add(key)) {
+				bounds = types(variable.bounds());
+				pendingVariables.remove(key);
+			}
+			model = new TypeModel(
+					TypeModel.Kind.VARIABLE,
+					type.simpleTypeName(),
+					type.dimension(),
+					reference(type.asClassDoc()),
+					Collections.emptyList(),
+					bounds);
+		}
+		else if (type.isPrimitive()) {
+			model = new TypeModel(
+					TypeModel.Kind.PRIMITIVE,
+					type.simpleTypeName(),
+					type.dimension(),
+					null,
+					Collections.emptyList(),
+					Collections.emptyList());
+		}
+		else {
+			final ParameterizedType invocation = type.asParameterizedType();
+			model = new TypeModel(
+					TypeModel.Kind.CLASS,
+					type.simpleTypeName(),
+					type.dimension(),
+					reference(type.asClassDoc()),
+					invocation == null ? Collections.emptyList() : types(invocation.typeArguments()),
+					Collections.emptyList());
+		}
+		final TypeModel interned = types.putIfAbsent(model, model);
+		return interned == null ? model : interned;
+	}
+
+	/**
+	 * Builds the key of the given ``member``.
+	 * 
+	 * @param member Member to build key for.
+	 * @return Member key, ``null`` if the given ``member`` is ``null``.
+	 * @see MemberModel#getKey(String, String, String)
+	 */
+	private static String key(final MemberDoc member) {
+		if (member == null) {
+			return null;
+		}
+		return MemberModel.getKey(
+				member.containingClass().qualifiedName(),
+				member.name(),
+				member instanceof ExecutableMemberDoc ? ((ExecutableMemberDoc) member).flatSignature() : null);
+	}
+
+	/**
+	 * Extracts the given inline ``tags``. Class and member
+	 * referenced by link tags, as resolved by the doclet API,
+	 * are extracted along.
+	 * 
+	 * @param tags Inline tags to extract.
+	 * @return Extracted tags.
+	 */
+	private List<TagModel> inlineTags(final Tag [] tags) {
+		final List<TagModel> models = new ArrayList<TagModel>(tags.length);
+		for (final Tag tag : tags) {
+			if (tag instanceof SeeTag) {
+				final SeeTag seeTag = (SeeTag) tag;
+				models.add(TagModel.inline(
+						tag.name(),
+						tag.text(),
+						reference(seeTag.referencedClass()),
+						key(seeTag.referencedMember())));
+			}
+			else {
+				models.add(TagModel.inline(tag.name(), tag.text(), null));
+			}
+		}
+		return models;
+	}
+
+	/**
+	 * Extracts the given block ``tags``.
+	 * 
+	 * @param tags Block tags to extract.
+	 * @return Extracted tags.
+	 */
+	private List<TagModel> blockTags(final Tag [] tags) {
+		final List<TagModel> models = new ArrayList<TagModel>(tags.length);
+		for (final Tag tag : tags) {
+			final List<TagModel> inlineTags = inlineTags(tag.inlineTags());
+			if (tag instanceof ParamTag) {
+				final ParamTag paramTag = (ParamTag) tag;
+				models.add(TagModel.parameter(tag.name(), tag.text(), paramTag.parameterName(), inlineTags));
+			}
+			else if (tag instanceof ThrowsTag) {
+				final ThrowsTag throwsTag = (ThrowsTag) tag;
+				models.add(TagModel.exception(tag.name(), tag.text(), reference(throwsTag.exception()), inlineTags));
+			}
+			else {
+				models.add(TagModel.block(tag.name(), tag.text(), inlineTags));
+			}
+		}
+		return models;
+	}
+
+	/**
+	 * Extracts the parameters of the given ``member``.
+	 * 
+	 * @param member Member to extract parameters from.
+	 * @return Extracted parameters.
+	 */
+	private List<ParameterModel> parameters(final ExecutableMemberDoc member) {
+		final Parameter [] parameters = member.parameters();
+		final List<ParameterModel> models = new ArrayList<ParameterModel>(parameters.length);
+		for (final Parameter parameter : parameters) {
+			models.add(new ParameterModel(parameter.name(), type(parameter.type())));
+		}
+		return models;
+	}
+
+	/**
+	 * Extracts the given ``fieldDoc``.
+	 * 
+	 * @param fieldDoc Field to extract.
+	 * @return Extracted field.
+	 */
+	private MemberModel field(final FieldDoc fieldDoc) {
+		return new MemberModel(
+				MemberModel.Kind.FIELD,
+				fieldDoc.name(),
+				fieldDoc.modifiers(),
+				fieldDoc.isStatic(),
+				null,
+				Collections.emptyList(),
+				type(fieldDoc.type()),
+				inlineTags(fieldDoc.inlineTags()),
+				Collections.emptyList(),
+				Collections.emptyList(),
+				Collections.emptyList(),
+				inlineTags(fieldDoc.seeTags()));
+	}
+
+	/**
+	 * Extracts the given ``constructorDoc``.
+	 * 
+	 * @param constructorDoc Constructor to extract.
+	 * @return Extracted constructor.
+	 */
+	private MemberModel constructor(final ConstructorDoc constructorDoc) {
+		return new MemberModel(
+				MemberModel.Kind.CONSTRUCTOR,
+				constructorDoc.name(),
+				constructorDoc.modifiers(),
+				constructorDoc.isStatic(),
+				constructorDoc.flatSignature(),
+				parameters(constructorDoc),
+				null,
+				inlineTags(constructorDoc.inlineTags()),
+				blockTags(constructorDoc.paramTags()),
+				Collections.emptyList(),
+				blockTags(constructorDoc.throwsTags()),
+				inlineTags(constructorDoc.seeTags()));
+	}
+
+	/**
+	 * Extracts the given ``methodDoc``.
+	 * 
+	 * @param methodDoc Method to extract.
+	 * @return Extracted method.
+	 */
+	private MemberModel method(final MethodDoc methodDoc) {
+		return new MemberModel(
+				MemberModel.Kind.METHOD,
+				methodDoc.name(),
+				methodDoc.modifiers(),
+				methodDoc.isStatic(),
+				methodDoc.flatSignature(),
+				parameters(methodDoc),
+				type(methodDoc.returnType()),
+				inlineTags(methodDoc.inlineTags()),
+				blockTags(methodDoc.paramTags()),
+				blockTags(methodDoc.tags(RETURN_TAG)),
+				blockTags(methodDoc.throwsTags()),
+				inlineTags(methodDoc.seeTags()));
+	}
+
+	/**
+	 * Extracts the signature of the given ``methodDoc``,
+	 * without its documentation. Used for methods that are
+	 * not included into the documentation.
+	 * 
+	 * @param methodDoc Method to extract.
+	 * @return Extracted method.
+	 */
+	private MemberModel methodSignature(final MethodDoc methodDoc) {
+		return new MemberModel(
+				MemberModel.Kind.METHOD,
+				methodDoc.name(),
+				methodDoc.modifiers(),
+				methodDoc.isStatic(),
+				methodDoc.flatSignature(),
+				parameters(methodDoc),
+				type(methodDoc.returnType()),
+				Collections.emptyList(),
+				Collections.emptyList(),
+				Collections.emptyList(),
+				Collections.emptyList());
+	}
+
+	/**
+	 * Retrieves the kind of the given ``classDoc``.
+	 * 
+	 * @param classDoc Class to get kind for.
+	 * @return Kind of the class.
+	 */
+	private static ClassModel.Kind kind(final ClassDoc classDoc) {
+		if (classDoc.isInterface()) {
+			return ClassModel.Kind.INTERFACE;
+		}
+		else if (classDoc.isEnum()) {
+			return ClassModel.Kind.ENUMERATION;
+		}
+		else if (classDoc.isAnnotationType()) {
+			return ClassModel.Kind.ANNOTATION;
+		}
+		return ClassModel.Kind.CLASS;
+	}
+
+	/**
+	 * Extracts the given ``classDoc``. If such class is not
+	 * included into the documentation, only its hierarchy,
+	 * made of its superclass and interfaces, is extracted.
+	 * Signature of the methods that are not documented
+	 * is extracted in any case.
+	 * 
+	 * @param classDoc Class to extract.
+	 * @return Extracted class, ``null`` if the given ``classDoc`` is ``null``.
+	 */
+	private ClassModel classModel(final ClassDoc classDoc) {
+		if (classDoc == null) {
+			return null;
+		}
+		final String qualifiedName = classDoc.qualifiedName();
+		ClassModel model = classes.get(qualifiedName);
+		if (model == null) {
+			final ClassModel superclass = classModel(classDoc.superclass());
+			final Type superclassType = classDoc.superclassType();
+			final List<TypeModel> interfaceTypes = types(classDoc.interfaceTypes());
+			final List<ClassModel> interfaces = classModels(classDoc.interfaces());
+			final List<MemberModel> constructors = new ArrayList<MemberModel>();
+			final List<MemberModel> fields = new ArrayList<MemberModel>();
+			final List<MemberModel> methods = new ArrayList<MemberModel>();
+			final List<MemberModel> hiddenMethods = new ArrayList<MemberModel>();
+			String commentText = "";
+			List<TagModel> inlineTags = Collections.emptyList();
+			if (classDoc.isIncluded()) {
+				commentText = classDoc.commentText();
+				inlineTags = inlineTags(classDoc.inlineTags());
+				for (final ConstructorDoc constructorDoc : classDoc.constructors()) {
+					constructors.add(constructor(constructorDoc));
+				}
+				for (final FieldDoc fieldDoc : classDoc.fields()) {
+					fields.add(field(fieldDoc));
+				}
+				for (final MethodDoc methodDoc : classDoc.methods()) {
+					methods.add(method(methodDoc));
+				}
+			}
+			for (final MethodDoc methodDoc : classDoc.methods(false)) {
+				if (!methodDoc.isIncluded()) {
+					hiddenMethods.add(methodSignature(methodDoc));
+				}
+			}
+			model = new ClassModel(
+					reference(classDoc),
+					kind(classDoc),
+					types(classDoc.typeParameters()),
+					commentText,
+					inlineTags,
+					superclass,
+					superclassType == null ? null : type(superclassType),
+					interfaceTypes,
+					interfaces,
+					constructors,
+					fields,
+					methods,
+					hiddenMethods);
+			classes.put(qualifiedName, model);
+		}
+		return model;
+	}
+
+	/**
+	 * Extracts the given ``classDocs``.
+	 * 
+	 * @param classDocs Classes to extract.
+	 * @return Extracted classes.
+	 */
+	private List<ClassModel> classModels(final ClassDoc [] classDocs) {
+		final List<ClassModel> models = new ArrayList<ClassModel>(classDocs.length);
+		for (final ClassDoc classDoc : classDocs) {
+			models.add(classModel(classDoc));
+		}
+		return models;
+	}
+
+	/**
+	 * Extracts the given ``packageDoc``.
+	 * 
+	 * @param packageDoc Package to extract.
+	 * @return Extracted package.
+	 */
+	private PackageModel packageModel(final PackageDoc packageDoc) {
+		return new PackageModel(
+				packageDoc.name(),
+				inlineTags(packageDoc.inlineTags()),
+				classModels(packageDoc.annotationTypes()),
+				classModels(packageDoc.enums()),
+				classModels(packageDoc.interfaces()),
+				classModels(packageDoc.allClasses()));
+	}
+
+	/**
+	 * Extracts the documentation model from the given ``root``.
+	 * 
+	 * @param root Doclet API root to extract model from.
+	 * @return Extracted documentation model.
+	 */
+	public static DocumentationModel extract(final RootDoc root) {
+		final DocumentationExtractor extractor = new DocumentationExtractor();
+		final Map<String, PackageModel> packages = new LinkedHashMap<String, PackageModel>();
+		final ClassDoc [] classDocs = root.classes();
+		final List<ClassModel> classes = new ArrayList<ClassModel>(classDocs.length);
+		for (final ClassDoc classDoc : classDocs) {
+			final PackageDoc packageDoc = classDoc.containingPackage();
+			if (!packages.containsKey(packageDoc.name())) {
+				packages.put(packageDoc.name(), extractor.packageModel(packageDoc));
+			}
+			classes.add(extractor.classModel(classDoc));
+		}
+		return new DocumentationModel(new ArrayList<PackageModel>(packages.values()), classes);
+	}
+
+}
@@ -0,0 +1,49 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable documentation root, which contains every
+ * package and class that has to be documented.
+ * 
+ * @author fv
+ */
+public final class DocumentationModel {
+
+	/** Documented packages, in order of first appearance. **/
+	private final List<PackageModel> packages;
+
+	/** Documented classes. **/
+	private final List<ClassModel> classes;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param packages Documented packages, in order of first appearance.
+	 * @param classes Documented classes.
+	 */
+	public DocumentationModel(final List<PackageModel> packages, final List<ClassModel> classes) {
+		this.packages = Collections.unmodifiableList(packages);
+		this.classes = Collections.unmodifiableList(classes);
+	}
+
+	/**
+	 * Getter for the packages.
+	 * 
+	 * @return Documented packages, in order of first appearance.
+	 */
+	public List<PackageModel> getPackages() {
+		return packages;
+	}
+
+	/**
+	 * Getter for the classes.
+	 * 
+	 * @return Documented classes.
+	 */
+	public List<ClassModel> getClasses() {
+		return classes;
+	}
+
+}
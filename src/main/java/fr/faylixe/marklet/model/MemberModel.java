@@ -0,0 +1,320 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable representation of a class member, which
+ * could be either a field, a constructor, or a method.
+ * 
+ * @author fv
+ */
+public final class MemberModel {
+
+	/**
+	 * Enumeration of the member kinds.
+	 * 
+	 * @author fv
+	 */
+	public enum Kind {
+
+		/** Field member. **/
+		FIELD,
+
+		/** Constructor member. **/
+		CONSTRUCTOR,
+
+		/** Method member. **/
+		METHOD
+
+	}
+
+	/** Public modifier. **/
+	public static final String PUBLIC = "public";
+
+	/** Protected modifier. **/
+	public static final String PROTECTED = "protected";
+
+	/** Private modifier. **/
+	public static final String PRIVATE = "private";
+
+	/** Kind of this member. **/
+	private final Kind kind;
+
+	/** Name of this member. **/
+	private final String name;
+
+	/** Modifiers of this member as declared in source. **/
+	private final String modifiers;
+
+	/** Indicates if this member is static. **/
+	private final boolean staticMember;
+
+	/** Flat signature of this member if it is an executable one. **/
+	private final String flatSignature;
+
+	/** Parameters of this member if it is an executable one. **/
+	private final List<ParameterModel> parameters;
+
+	/** Field type or method return type, ``null`` for constructor. **/
+	private final TypeModel type;
+
+	/** Inline tags of this member comment. **/
+	private final List<TagModel> inlineTags;
+
+	/** Parameter tags of this member. **/
+	private final List<TagModel> paramTags;
+
+	/** Return tags of this member. **/
+	private final List<TagModel> returnTags;
+
+	/** Throws tags of this member. **/
+	private final List<TagModel> throwsTags;
+
+	/** See tags of this member. **/
+	private final List<TagModel> seeTags;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param kind Kind of this member.
+	 * @param name Name of this member.
+	 * @param modifiers Modifiers of this member as declared in source.
+	 * @param staticMember Indicates if this member is static.
+	 * @param flatSignature Flat signature of this member if it is an executable one.
+	 * @param parameters Parameters of this member if it is an executable one.
+	 * @param type Field type or method return type, ``null`` for constructor.
+	 * @param inlineTags Inline tags of this member comment.
+	 * @param paramTags Parameter tags of this member.
+	 * @param returnTags Return tags of this member.
+	 * @param throwsTags Throws tags of this member.
+	 * @param seeTags See tags of this member.
+	 */
+	public MemberModel(
+			final Kind kind,
+			final String name,
+			final String modifiers,
+			final boolean staticMember,
+			final String flatSignature,
+			final List<ParameterModel> parameters,
+			final TypeModel type,
+			final List<TagModel> inlineTags,
+			final List<TagModel> paramTags,
+			final List<TagModel> returnTags,
+			final List<TagModel> throwsTags,
+			final List<TagModel> seeTags) {
+		this.kind = kind;
+		this.name = name;
+		this.modifiers = modifiers;
+		this.staticMember = staticMember;
+		this.flatSignature = flatSignature;
+		this.parameters = Collections.unmodifiableList(parameters);
+		this.type = type;
+		this.inlineTags = Collections.unmodifiableList(inlineTags);
+		this.paramTags = Collections.unmodifiableList(paramTags);
+		this.returnTags = Collections.unmodifiableList(returnTags);
+		this.throwsTags = Collections.unmodifiableList(throwsTags);
+		this.seeTags = Collections.unmodifiableList(seeTags);
+	}
+
+	/**
+	 * Constructor for member without see tags.
+	 * 
+	 * @param kind Kind of this member.
+	 * @param name Name of this member.
+	 * @param modifiers Modifiers of this member as declared in source.
+	 * @param staticMember Indicates if this member is static.
+	 * @param flatSignature Flat signature of this member if it is an executable one.
+	 * @param parameters Parameters of this member if it is an executable one.
+	 * @param type Field type or method return type, ``null`` for constructor.
+	 * @param inlineTags Inline tags of this member comment.
+	 * @param paramTags Parameter tags of this member.
+	 * @param returnTags Return tags of this member.
+	 * @param throwsTags Throws tags of this member.
+	 */
+	public MemberModel(
+			final Kind kind,
+			final String name,
+			final String modifiers,
+			final boolean staticMember,
+			final String flatSignature,
+			final List<ParameterModel> parameters,
+			final TypeModel type,
+			final List<TagModel> inlineTags,
+			final List<TagModel> paramTags,
+			final List<TagModel> returnTags,
+			final List<TagModel> throwsTags) {
+		this(kind, name, modifiers, staticMember, flatSignature, parameters, type, inlineTags, paramTags, returnTags, throwsTags, Collections.emptyList());
+	}
+
+	/**
+	 * Getter for the member kind.
+	 * 
+	 * @return Kind of this member.
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Indicates if this member is a method.
+	 * 
+	 * @return ``true`` if this member is a method, ``false`` otherwise.
+	 */
+	public boolean isMethod() {
+		return kind == Kind.METHOD;
+	}
+
+	/**
+	 * Indicates if this member is an executable one,
+	 * namely a constructor or a method.
+	 * 
+	 * @return ``true`` if this member is executable, ``false`` otherwise.
+	 */
+	public boolean isExecutable() {
+		return kind != Kind.FIELD;
+	}
+
+	/**
+	 * Getter for the member name.
+	 * 
+	 * @return Name of this member.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter for the member modifiers.
+	 * 
+	 * @return Modifiers of this member as declared in source.
+	 */
+	public String getModifiers() {
+		return modifiers;
+	}
+
+	/**
+	 * Indicates if this member declares the given ``modifier``,
+	 * comparing whole modifier tokens rather than substrings.
+	 * 
+	 * @param modifier Modifier to look for, such as {@link #PUBLIC}.
+	 * @return ``true`` if the modifier is declared, ``false`` otherwise.
+	 */
+	public boolean hasModifier(final String modifier) {
+		for (final String declared : modifiers.split(" ")) {
+			if (declared.equals(modifier)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Indicates if this member is static.
+	 * 
+	 * @return ``true`` if this member is static, ``false`` otherwise.
+	 */
+	public boolean isStatic() {
+		return staticMember;
+	}
+
+	/**
+	 * Getter for the flat signature.
+	 * 
+	 * @return Flat signature of this member if it is an executable one.
+	 */
+	public String getFlatSignature() {
+		return flatSignature;
+	}
+
+	/**
+	 * Getter for the parameters.
+	 * 
+	 * @return Parameters of this member if it is an executable one.
+	 */
+	public List<ParameterModel> getParameters() {
+		return parameters;
+	}
+
+	/**
+	 * Getter for the member type.
+	 * 
+	 * @return Field type or method return type, ``null`` for constructor.
+	 */
+	public TypeModel getType() {
+		return type;
+	}
+
+	/**
+	 * Getter for the inline tags.
+	 * 
+	 * @return Inline tags of this member comment.
+	 */
+	public List<TagModel> getInlineTags() {
+		return inlineTags;
+	}
+
+	/**
+	 * Getter for the parameter tags.
+	 * 
+	 * @return Parameter tags of this member.
+	 */
+	public List<TagModel> getParamTags() {
+		return paramTags;
+	}
+
+	/**
+	 * Getter for the return tags.
+	 * 
+	 * @return Return tags of this member.
+	 */
+	public List<TagModel> getReturnTags() {
+		return returnTags;
+	}
+
+	/**
+	 * Getter for the throws tags.
+	 * 
+	 * @return Throws tags of this member.
+	 */
+	public List<TagModel> getThrowsTags() {
+		return throwsTags;
+	}
+
+	/**
+	 * Getter for the see tags.
+	 * 
+	 * @return See tags of this member.
+	 */
+	public List<TagModel> getSeeTags() {
+		return seeTags;
+	}
+
+	/**
+	 * Builds the key that identifies a member among all
+	 * documented members, made of the qualified name of its
+	 * class, followed by ``#``, its name, and its flat signature
+	 * freed from whitespaces if it is an executable one.
+	 * 
+	 * @param qualifiedName Qualified name of the class the member belongs to.
+	 * @param name Name of the member.
+	 * @param flatSignature Flat signature of the member, ``null`` for a field.
+	 * @return Built key.
+	 */
+	public static String getKey(final String qualifiedName, final String name, final String flatSignature) {
+		final StringBuilder key = new StringBuilder(qualifiedName.length() + name.length() + 16)
+			.append(qualifiedName)
+			.append('#')
+			.append(name);
+		if (flatSignature != null) {
+			for (int i = 0; i < flatSignature.length(); i++) {
+				final char character = flatSignature.charAt(i);
+				if (!Character.isWhitespace(character)) {
+					key.append(character);
+				}
+			}
+		}
+		return key.toString();
+	}
+
+}
@@ -0,0 +1,117 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable representation of a package, with its
+ * description and its type listing.
+ * 
+ * @author fv
+ */
+public final class PackageModel {
+
+	/** Name of this package. **/
+	private final String name;
+
+	/** Inline tags of this package comment. **/
+	private final List<TagModel> inlineTags;
+
+	/** Annotations declared in this package. **/
+	private final List<ClassModel> annotationTypes;
+
+	/** Enumerations declared in this package. **/
+	private final List<ClassModel> enums;
+
+	/** Interfaces declared in this package. **/
+	private final List<ClassModel> interfaces;
+
+	/** All classes declared in this package. **/
+	private final List<ClassModel> allClasses;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param name Name of this package.
+	 * @param inlineTags Inline tags of this package comment.
+	 * @param annotationTypes Annotations declared in this package.
+	 * @param enums Enumerations declared in this package.
+	 * @param interfaces Interfaces declared in this package.
+	 * @param allClasses All classes declared in this package.
+	 */
+	public PackageModel(
+			final String name,
+			final List<TagModel> inlineTags,
+			final List<ClassModel> annotationTypes,
+			final List<ClassModel> enums,
+			final List<ClassModel> interfaces,
+			final List<ClassModel> allClasses) {
+		this.name = name;
+		this.inlineTags = Collections.unmodifiableList(inlineTags);
+		this.annotationTypes = Collections.unmodifiableList(annotationTypes);
+		this.enums = Collections.unmodifiableList(enums);
+		this.interfaces = Collections.unmodifiableList(interfaces);
+		this.allClasses = Collections.unmodifiableList(allClasses);
+	}
+
+	/**
+	 * Getter for the package name.
+	 * 
+	 * @return Name of this package.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter for the inline tags.
+	 * 
+	 * @return Inline tags of this package comment.
+	 */
+	public List<TagModel> getInlineTags() {
+		return inlineTags;
+	}
+
+	/**
+	 * Getter for the annotation types.
+	 * 
+	 * @return Annotations declared in this package.
+	 */
+	public List<ClassModel> getAnnotationTypes() {
+		return annotationTypes;
+	}
+
+	/**
+	 * Getter for the enumerations.
+	 * 
+	 * @return Enumerations declared in this package.
+	 */
+	public List<ClassModel> getEnums() {
+		return enums;
+	}
+
+	/**
+	 * Getter for the interfaces.
+	 * 
+	 * @return Interfaces declared in this package.
+	 */
+	public List<ClassModel> getInterfaces() {
+		return interfaces;
+	}
+
+	/**
+	 * Getter for all classes.
+	 * 
+	 * @return All classes declared in this package.
+	 */
+	public List<ClassModel> getAllClasses() {
+		return allClasses;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public String toString() {
+		return name;
+	}
+
+}
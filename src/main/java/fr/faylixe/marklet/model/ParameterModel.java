@@ -0,0 +1,45 @@
+package fr.faylixe.marklet.model;
+
+/**
+ * Immutable representation of an executable member parameter.
+ * 
+ * @author fv
+ */
+public final class ParameterModel {
+
+	/** Name of the parameter. **/
+	private final String name;
+
+	/** Type of the parameter. **/
+	private final TypeModel type;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param name Name of the parameter.
+	 * @param type Type of the parameter.
+	 */
+	public ParameterModel(final String name, final TypeModel type) {
+		this.name = name;
+		this.type = type;
+	}
+
+	/**
+	 * Getter for the parameter name.
+	 * 
+	 * @return Name of the parameter.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter for the parameter type.
+	 * 
+	 * @return Type of the parameter.
+	 */
+	public TypeModel getType() {
+		return type;
+	}
+
+}
@@ -0,0 +1,199 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable representation of a documentation tag. Such
+ * tag could be either an inline one (text, or link), or
+ * a block one (parameter, return, throws) which then
+ * contains its own inline tags.
+ * 
+ * @author fv
+ */
+public final class TagModel {
+
+	/** Name of the text inline tag. **/
+	public static final String TEXT = "Text";
+
+	/** Name of the link inline tag. **/
+	public static final String LINK = "@link";
+
+	/** Name of the see block tag. **/
+	public static final String SEE = "@see";
+
+	/** Name of the tag (such as ``Text``, ``@link``, or ``@param``). **/
+	private final String name;
+
+	/** Raw text of the tag. **/
+	private final String text;
+
+	/** Class referenced by this tag if any. **/
+	private final ClassReference referencedClass;
+
+	/** Key of the member referenced by this tag if any. **/
+	private final String referencedMember;
+
+	/** Inline tags of this tag if it is a block one. **/
+	private final List<TagModel> inlineTags;
+
+	/** Name of the documented parameter if this tag is a parameter one. **/
+	private final String parameterName;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param referencedClass Class referenced by this tag if any.
+	 * @param referencedMember Key of the member referenced by this tag if any.
+	 * @param inlineTags Inline tags of this tag if it is a block one.
+	 * @param parameterName Name of the documented parameter if this tag is a parameter one.
+	 */
+	private TagModel(
+			final String name,
+			final String text,
+			final ClassReference referencedClass,
+			final String referencedMember,
+			final List<TagModel> inlineTags,
+			final String parameterName) {
+		this.name = name;
+		this.text = text;
+		this.referencedClass = referencedClass;
+		this.referencedMember = referencedMember;
+		this.inlineTags = Collections.unmodifiableList(inlineTags);
+		this.parameterName = parameterName;
+	}
+
+	/**
+	 * Getter for the tag name.
+	 * 
+	 * @return Name of the tag.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Getter for the tag text.
+	 * 
+	 * @return Raw text of the tag.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Getter for the referenced class. For a throws
+	 * tag, such class is the documented exception.
+	 * 
+	 * @return Class referenced by this tag, ``null`` if any.
+	 */
+	public ClassReference getReferencedClass() {
+		return referencedClass;
+	}
+
+	/**
+	 * Getter for the referenced member.
+	 * 
+	 * @return Key of the member referenced by this tag, ``null`` if any.
+	 * @see MemberModel#getKey(String, String, String)
+	 */
+	public String getReferencedMember() {
+		return referencedMember;
+	}
+
+	/**
+	 * Getter for the inline tags.
+	 * 
+	 * @return Inline tags of this tag if it is a block one.
+	 */
+	public List<TagModel> getInlineTags() {
+		return inlineTags;
+	}
+
+	/**
+	 * Getter for the parameter name.
+	 * 
+	 * @return Name of the documented parameter, ``null`` if this tag is not a parameter one.
+	 */
+	public String getParameterName() {
+		return parameterName;
+	}
+
+	/**
+	 * Static factory for inline tag.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param referencedClass Class referenced by this tag if any.
+	 * @return Created tag.
+	 */
+	public static TagModel inline(final String name, final String text, final ClassReference referencedClass) {
+		return inline(name, text, referencedClass, null);
+	}
+
+	/**
+	 * Static factory for inline tag that references a member.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param referencedClass Class referenced by this tag if any.
+	 * @param referencedMember Key of the member referenced by this tag if any.
+	 * @return Created tag.
+	 */
+	public static TagModel inline(
+			final String name,
+			final String text,
+			final ClassReference referencedClass,
+			final String referencedMember) {
+		return new TagModel(name, text, referencedClass, referencedMember, Collections.emptyList(), null);
+	}
+
+	/**
+	 * Static factory for block tag.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param inlineTags Inline tags of the tag.
+	 * @return Created tag.
+	 */
+	public static TagModel block(final String name, final String text, final List<TagModel> inlineTags) {
+		return new TagModel(name, text, null, null, inlineTags, null);
+	}
+
+	/**
+	 * Static factory for parameter tag.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param parameterName Name of the documented parameter.
+	 * @param inlineTags Inline tags of the tag.
+	 * @return Created tag.
+	 */
+	public static TagModel parameter(
+			final String name,
+			final String text,
+			final String parameterName,
+			final List<TagModel> inlineTags) {
+		return new TagModel(name, text, null, null, inlineTags, parameterName);
+	}
+
+	/**
+	 * Static factory for throws tag.
+	 * 
+	 * @param name Name of the tag.
+	 * @param text Raw text of the tag.
+	 * @param exception Documented exception.
+	 * @param inlineTags Inline tags of the tag.
+	 * @return Created tag.
+	 */
+	public static TagModel exception(
+			final String name,
+			final String text,
+			final ClassReference exception,
+			final List<TagModel> inlineTags) {
+		return new TagModel(name, text, exception, null, inlineTags, null);
+	}
+
+}
@@ -0,0 +1,181 @@
+package fr.faylixe.marklet.model;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable representation of a type usage, such as a field
+ * type, a parameter type, or a method return type. Instances
+ * are interned during extraction, so two structurally equal
+ * types are usually represented by the same instance.
+ * 
+ * @author fv
+ */
+public final class TypeModel {
+
+	/**
+	 * Enumeration of the type kinds.
+	 * 
+	 * @author fv
+	 */
+	public enum Kind {
+
+		/** Primitive type such as ``int``. **/
+		PRIMITIVE,
+
+		/** Class type, which could be parameterized. **/
+		CLASS,
+
+		/** Type variable, such as ``T``. **/
+		VARIABLE,
+
+		/** Wildcard type, such as ``? extends T``. **/
+		WILDCARD
+
+	}
+
+	/** Kind of this type. **/
+	private final Kind kind;
+
+	/** Simple name of this type. **/
+	private final String simpleTypeName;
+
+	/** Array dimension of this type, such as ``[]``, empty if not an array. **/
+	private final String dimension;
+
+	/** Class this type is resolved to, if any. **/
+	private final ClassReference classReference;
+
+	/** Type arguments if this type is a parameterized one. **/
+	private final List<TypeModel> typeArguments;
+
+	/** Bounds if this type is a type variable. **/
+	private final List<TypeModel> bounds;
+
+	/** Precomputed hash code as instance are used as key. **/
+	private final int hashCode;
+
+	/**
+	 * Default constructor.
+	 * 
+	 * @param kind Kind of this type.
+	 * @param simpleTypeName Simple name of this type.
+	 * @param dimension Array dimension of this type, such as ``[]``, empty if not an array.
+	 * @param classReference Class this type is resolved to, if any.
+	 * @param typeArguments Type arguments if this type is a parameterized one.
+	 * @param bounds Bounds if this type is a type variable.
+	 */
+	public TypeModel(
+			final Kind kind,
+			final String simpleTypeName,
+			final String dimension,
+			final ClassReference classReference,
+			final List<TypeModel> typeArguments,
+			final List<TypeModel> bounds) {
+		this.kind = kind;
+		this.simpleTypeName = simpleTypeName;
+		this.dimension = dimension;
+		this.classReference = classReference;
+		this.typeArguments = Collections.unmodifiableList(typeArguments);
+		this.bounds = Collections.unmodifiableList(bounds);
+		this.hashCode = Objects.hash(
+				kind,
+				simpleTypeName,
+				dimension,
+				classReference == null ? null : classReference.getQualifiedName(),
+				typeArguments,
+				bounds);
+	}
+
+	/**
+	 * Getter for the type kind.
+	 * 
+	 * @return Kind of this type.
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Indicates if this type is a primitive one.
+	 * 
+	 * @return ``true`` if this type is a primitive one, ``false`` otherwise.
+	 */
+	public boolean isPrimitive() {
+		return kind == Kind.PRIMITIVE;
+	}
+
+	/**
+	 * Getter for the simple type name.
+	 * 
+	 * @return Simple name of this type.
+	 */
+	public String getSimpleTypeName() {
+		return simpleTypeName;
+	}
+
+	/**
+	 * Getter for the array dimension.
+	 * 
+	 * @return Array dimension of this type, such as ``[]``, empty if not an array.
+	 */
+	public String getDimension() {
+		return dimension;
+	}
+
+	/**
+	 * Getter for the class reference.
+	 * 
+	 * @return Class this type is resolved to, ``null`` if any.
+	 */
+	public ClassReference getClassReference() {
+		return classReference;
+	}
+
+	/**
+	 * Getter for the type arguments.
+	 * 
+	 * @return Type arguments if this type is a parameterized one.
+	 */
+	public List<TypeModel> getTypeArguments() {
+		return typeArguments;
+	}
+
+	/**
+	 * Getter for the type bounds.
+	 * 
+	 * @return Bounds if this type is a type variable.
+	 */
+	public List<TypeModel> getBounds() {
+		return bounds;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	/** {@inheritDoc} **/
+	@Override
+	public boolean equals(final Object object) {
+		if (this == object) {
+			return true;
+		}
+		if (!(object instanceof TypeModel)) {
+			return false;
+		}
+		final TypeModel other = (TypeModel) object;
+		return hashCode == other.hashCode
+				&& kind == other.kind
+				&& simpleTypeName.equals(other.simpleTypeName)
+				&& dimension.equals(other.dimension)
+				&& Objects.equals(
+						classReference == null ? null : classReference.getQualifiedName(),
+						other.classReference == null ? null : other.classReference.getQualifiedName())
+				&& typeArguments.equals(other.typeArguments)
+				&& bounds.equals(other.bounds);
+	}
+
+}
@@ -0,0 +1,7 @@
+/**
+ * Immutable documentation model extracted once from the
+ * doclet API, and from which **Marklet** pages are rendered.
+ * Contrary to the doclet API objects, such model can be
+ * safely shared across threads.
+ */
+package fr.faylixe.marklet.model;
@@ -0,0 +1,111 @@
+package fr.faylixe.marklet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.ByteBuffer;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link ByteBufferPool}.
+ * 
+ * @author fv
+ */
+public final class ByteBufferPoolTest {
+
+	/** Size of the smallest pooled buffers. **/
+	private static final int MINIMUM = ByteBufferPool.MINIMUM_SIZE;
+
+	/** Size of the largest pooled buffers. **/
+	private static final int MAXIMUM = ByteBufferPool.MAXIMUM_SIZE;
+
+	/**
+	 * Sizes are rounded up to the next size class,
+	 * except larger ones which are served as is.
+	 */
+	@Test
+	public void roundsToSizeClass() {
+		assertEquals(MINIMUM, ByteBufferPool.getCapacity(0));
+		assertEquals(MINIMUM, ByteBufferPool.getCapacity(1));
+		assertEquals(MINIMUM, ByteBufferPool.getCapacity(MINIMUM));
+		assertEquals(MINIMUM * 2, ByteBufferPool.getCapacity(MINIMUM + 1));
+		assertEquals(MINIMUM * 2, ByteBufferPool.getCapacity(MINIMUM * 2));
+		assertEquals(MINIMUM * 4, ByteBufferPool.getCapacity(MINIMUM * 3));
+		assertEquals(MAXIMUM, ByteBufferPool.getCapacity(MAXIMUM / 2 + 1));
+		assertEquals(MAXIMUM, ByteBufferPool.getCapacity(MAXIMUM));
+		assertEquals(MAXIMUM + 1, ByteBufferPool.getCapacity(MAXIMUM + 1));
+	}
+
+	/**
+	 * Acquired buffers have the capacity of their size
+	 * class, and are direct unless larger than pooled ones.
+	 */
+	@Test
+	public void acquiresBufferOfSizeClass() {
+		final ByteBufferPool pool = new ByteBufferPool(MAXIMUM);
+		for (final int size : new int [] {1, MINIMUM, MINIMUM + 1, MAXIMUM, MAXIMUM + 1}) {
+			final ByteBuffer buffer = pool.acquire(size);
+			assertEquals(ByteBufferPool.getCapacity(size), buffer.capacity());
+			assertEquals(size <= MAXIMUM, buffer.isDirect());
+		}
+		assertEquals(5, pool.getAllocated());
+	}
+
+	/**
+	 * Released buffers are reused for the same size class only.
+	 */
+	@Test
+	public void reusesReleasedBuffer() {
+		final ByteBufferPool pool = new ByteBufferPool(MAXIMUM);
+		final ByteBuffer buffer = pool.acquire(MINIMUM);
+		buffer.put((byte) 1);
+		pool.release(buffer);
+		assertNotSame(buffer, pool.acquire(MINIMUM + 1));
+		final ByteBuffer reused = pool.acquire(10);
+		assertSame(buffer, reused);
+		assertEquals(0, reused.position());
+		assertEquals(reused.capacity(), reused.remaining());
+		assertEquals(2, pool.getAllocated());
+		assertEquals(1, pool.getReused());
+	}
+
+	/**
+	 * Buffers are not retained beyond the pool limit.
+	 */
+	@Test
+	public void retainsUpToLimit() {
+		final ByteBufferPool pool = new ByteBufferPool(MINIMUM);
+		final ByteBuffer first = pool.acquire(MINIMUM);
+		final ByteBuffer second = pool.acquire(MINIMUM);
+		pool.release(first);
+		pool.release(second);
+		assertSame(first, pool.acquire(MINIMUM));
+		final ByteBuffer third = pool.acquire(MINIMUM);
+		assertNotSame(second, third);
+		assertEquals(3, pool.getAllocated());
+		pool.release(third);
+		assertSame(third, pool.acquire(MINIMUM));
+	}
+
+	/**
+	 * Buffers which have not been acquired from a pool are not retained.
+	 */
+	@Test
+	public void ignoresForeignBuffer() {
+		final ByteBufferPool pool = new ByteBufferPool(MAXIMUM * 4);
+		final ByteBuffer heap = pool.acquire(MAXIMUM + 1);
+		assertFalse(heap.isDirect());
+		pool.release(heap);
+		pool.release(ByteBuffer.allocate(MINIMUM));
+		pool.release(ByteBuffer.allocateDirect(MINIMUM / 2));
+		pool.release(ByteBuffer.allocateDirect(MINIMUM + 1));
+		final ByteBuffer buffer = pool.acquire(MINIMUM);
+		assertTrue(buffer.isDirect());
+		assertEquals(0, pool.getReused());
+	}
+
+}
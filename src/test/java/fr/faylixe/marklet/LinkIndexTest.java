@@ -0,0 +1,101 @@
+package fr.faylixe.marklet;
+
+import static fr.faylixe.marklet.Models.OBJECT;
+import static fr.faylixe.marklet.Models.classModel;
+import static fr.faylixe.marklet.Models.external;
+import static fr.faylixe.marklet.Models.model;
+import static fr.faylixe.marklet.Models.reference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+
+/**
+ * Tests for {@link LinkIndex}.
+ * 
+ * @author fv
+ */
+public final class LinkIndexTest {
+
+	/** Class whose simple name is also used in another package. **/
+	private static final ClassReference A_FOO = reference("fr.a", "Foo");
+
+	/** Class whose simple name is also used in another package. **/
+	private static final ClassReference B_FOO = reference("fr.b", "Foo");
+
+	/** Class whose simple name is unique. **/
+	private static final ClassReference BAR = reference("fr.a", "Bar");
+
+	/** Nested class. **/
+	private static final ClassReference INNER = reference("fr.b", "Outer.Inner");
+
+	/** Index under test. **/
+	private LinkIndex index;
+
+	/**
+	 * Builds the index of documented classes,
+	 * and of a class which is not documented.
+	 */
+	@Before
+	public void setUp() {
+		final ClassModel external = classModel(external("fr.c", "External"), OBJECT);
+		index = LinkIndex.build(
+				model(classModel(A_FOO, OBJECT), classModel(B_FOO, OBJECT), classModel(BAR, OBJECT), classModel(INNER, OBJECT), external),
+				new RelativePathCache(),
+				"md");
+	}
+
+	/**
+	 * Simple names shared by several classes are ambiguous,
+	 * while qualified names still resolve.
+	 */
+	@Test
+	public void doesNotResolveAmbiguousName() {
+		assertNull(index.resolve("Foo"));
+		assertNull(index.resolve("Foo#run()"));
+		assertSame(A_FOO, index.resolve("fr.a.Foo"));
+		assertSame(B_FOO, index.resolve("fr.b.Foo#run() label"));
+	}
+
+	/**
+	 * Unique names resolve, whatever follows the class part.
+	 */
+	@Test
+	public void resolvesUniqueName() {
+		assertSame(BAR, index.resolve("Bar"));
+		assertSame(BAR, index.resolve(" Bar#run(int) "));
+		assertSame(BAR, index.resolve("Bar the bar"));
+		assertSame(INNER, index.resolve("Outer.Inner"));
+		assertSame(INNER, index.resolve("Inner"));
+	}
+
+	/**
+	 * Signatures without class part, or referencing
+	 * a class which is not documented, do not resolve.
+	 */
+	@Test
+	public void doesNotResolveUnknownClass() {
+		assertNull(index.resolve(""));
+		assertNull(index.resolve("#run()"));
+		assertNull(index.resolve("Baz"));
+		assertNull(index.resolve("External"));
+		assertNull(index.resolve("fr.c.External"));
+	}
+
+	/**
+	 * URLs are relative to the source package, and use the link ending.
+	 */
+	@Test
+	public void buildsRelativeURL() {
+		assertEquals("Foo.md", index.getURL("fr.a", A_FOO));
+		assertEquals("../b/Foo.md", index.getURL("fr.a", B_FOO));
+		assertEquals("../b/Inner.md", index.getURL("fr.a", INNER));
+		assertNull(index.getURL("fr.a", external("fr.c", "External")));
+	}
+
+}
@@ -0,0 +1,74 @@
+package fr.faylixe.marklet;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link MarkdownDocumentBuilder}.
+ * 
+ * @author fv
+ */
+public final class MarkdownDocumentBuilderTest {
+
+	/**
+	 * Appends the given ``text`` to a new document.
+	 * 
+	 * @param text Text to append.
+	 * @return Built document.
+	 */
+	private static String text(final String text) {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		builder.text(text);
+		return builder.build();
+	}
+
+	/**
+	 * Text without tag is appended as is.
+	 */
+	@Test
+	public void keepsPlainText() {
+		assertEquals("", text(""));
+		assertEquals("a > b", text("a > b"));
+	}
+
+	/**
+	 * Paragraph tags are removed wherever they are.
+	 */
+	@Test
+	public void removesParagraphTags() {
+		assertEquals("first", text("<p>first</p>"));
+		assertEquals("firstsecond", text("<p>first</p><p>second</p>"));
+		assertEquals("a b", text("a <p>b"));
+		assertEquals("", text("<p></p>"));
+		assertEquals("end", text("end</p>"));
+	}
+
+	/**
+	 * Other tags, and incomplete paragraph tags, are kept.
+	 */
+	@Test
+	public void keepsOtherTags() {
+		assertEquals("<b>bold</b>", text("<b>bold</b>"));
+		assertEquals("<pre>code</pre>", text("<pre>code</pre>"));
+		assertEquals("<P>upper</P>", text("<P>upper</P>"));
+		assertEquals("a <", text("a <"));
+		assertEquals("a </", text("a </"));
+		assertEquals("<p", text("<p"));
+		assertEquals("<", text("<<p>"));
+		assertEquals("x < y", text("<p>x < y</p>"));
+	}
+
+	/**
+	 * Filtered text is appended after the existing content.
+	 */
+	@Test
+	public void appendsToContent() {
+		final MarkdownDocumentBuilder builder = new MarkdownDocumentBuilder();
+		builder.bold("b");
+		builder.text("<p>t</p>");
+		builder.character('!');
+		assertEquals("**b**t!", builder.build());
+	}
+
+}
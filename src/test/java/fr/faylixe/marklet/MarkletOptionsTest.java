@@ -0,0 +1,206 @@
+package fr.faylixe.marklet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.sun.javadoc.DocErrorReporter;
+import com.sun.javadoc.SourcePosition;
+
+/**
+ * Tests for {@link MarkletOptions}.
+ * 
+ * @author fv
+ */
+public final class MarkletOptionsTest {
+
+	/**
+	 * Reporter that records errors and warnings.
+	 * 
+	 * @author fv
+	 */
+	private static final class Reporter implements DocErrorReporter {
+
+		/** Reported errors. **/
+		private final List<String> errors = new ArrayList<String>();
+
+		/** Reported warnings. **/
+		private final List<String> warnings = new ArrayList<String>();
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printError(final String message) {
+			errors.add(message);
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printError(final SourcePosition position, final String message) {
+			errors.add(message);
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printWarning(final String message) {
+			warnings.add(message);
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printWarning(final SourcePosition position, final String message) {
+			warnings.add(message);
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printNotice(final String message) {
+			// Do nothing.
+		}
+
+		/** {@inheritDoc} **/
+		@Override
+		public void printNotice(final SourcePosition position, final String message) {
+			// Do nothing.
+		}
+
+	}
+
+	/**
+	 * Indicates if the given ``options`` are valid.
+	 * 
+	 * @param options Raw options to validate.
+	 * @return ``true`` if the options are valid, ``false`` otherwise.
+	 */
+	private static boolean isValid(final String [] ... options) {
+		final Reporter reporter = new Reporter();
+		final boolean valid = MarkletOptions.validOptions(options, reporter);
+		assertEquals(valid, reporter.errors.isEmpty());
+		return valid;
+	}
+
+	/**
+	 * Retrieves the memory budget parsed from the given ``value``.
+	 * 
+	 * @param value Value of the memory budget option.
+	 * @return Parsed memory budget.
+	 */
+	private static int getMemoryBudget(final String value) {
+		final String [][] options = {{"-memorybudget", value}};
+		assertTrue(value, isValid(options));
+		return MarkletOptions.parse(options).getMemoryBudget();
+	}
+
+	/**
+	 * Options not given keep their default value.
+	 */
+	@Test
+	public void usesDefaults() {
+		final MarkletOptions options = MarkletOptions.parse(new String[0][]);
+		assertEquals("javadoc/", options.getOutputDirectory());
+		assertEquals("html.md", options.getFileEnding());
+		assertEquals("html", options.getLinkEnding());
+		assertEquals(1, options.getThreads());
+		assertEquals(AsyncPageWriter.DEFAULT_BUDGET, options.getMemoryBudget());
+		assertFalse(options.isIncremental());
+		assertNull(options.getTimingReport());
+		assertTrue(options.getExternalLinks().isEmpty());
+	}
+
+	/**
+	 * Sizes are parsed in bytes, with an optional unit suffix.
+	 */
+	@Test
+	public void parsesSize() {
+		assertEquals(1024, getMemoryBudget("1024"));
+		assertEquals(512 * 1024, getMemoryBudget("512k"));
+		assertEquals(64 * 1024 * 1024, getMemoryBudget("64m"));
+		assertEquals(2 * 1024 * 1024, getMemoryBudget(" 2M "));
+		assertEquals(1024 * 1024 * 1024, getMemoryBudget("1g"));
+		assertEquals(Integer.MAX_VALUE, getMemoryBudget(String.valueOf(Integer.MAX_VALUE)));
+	}
+
+	/**
+	 * Sizes which are not positive or do not fit an integer are rejected.
+	 */
+	@Test
+	public void rejectsInvalidSize() {
+		for (final String value : new String [] {"", "m", "0", "0k", "-1m", "1.5m", "64mb", "abc", "2g", "2048m", "2147483648"}) {
+			assertFalse(value, isValid(new String [] {"-memorybudget", value}));
+		}
+	}
+
+	/**
+	 * Positive integer options are validated and parsed.
+	 */
+	@Test
+	public void validatesPositiveInteger() {
+		assertFalse(isValid(new String [] {"-threads", "0"}));
+		assertFalse(isValid(new String [] {"-threads", "four"}));
+		assertFalse(isValid(new String [] {"-progressinterval", "-1"}));
+		final String [][] options = {{"-threads", "4"}, {"-progressinterval", "2"}};
+		assertTrue(isValid(options));
+		final MarkletOptions parsed = MarkletOptions.parse(options);
+		assertEquals(4, parsed.getThreads());
+		assertEquals(TimeUnit.SECONDS.toNanos(2), parsed.getProgressInterval());
+	}
+
+	/**
+	 * File endings can not be empty nor contain a path separator.
+	 */
+	@Test
+	public void validatesEnding() {
+		assertFalse(isValid(new String [] {"-e", ""}));
+		assertFalse(isValid(new String [] {"-l", "a/b"}));
+		assertFalse(isValid(new String [] {"-l", "a\\b"}));
+		final String [][] options = {{"-e", "md"}, {"-l", "md"}};
+		assertTrue(isValid(options));
+		final MarkletOptions parsed = MarkletOptions.parse(options);
+		assertEquals("md", parsed.getFileEnding());
+		assertEquals("md", parsed.getLinkEnding());
+	}
+
+	/**
+	 * Every invalid option is reported, not only the first one.
+	 */
+	@Test
+	public void reportsEveryInvalidOption() {
+		final Reporter reporter = new Reporter();
+		assertFalse(MarkletOptions.validOptions(new String [][] {{"-threads", "0"}, {"-d", " "}, {"-memorybudget", "x"}}, reporter));
+		assertEquals(3, reporter.errors.size());
+	}
+
+	/**
+	 * The cache directory is ignored with a warning if
+	 * incremental mode is disabled.
+	 */
+	@Test
+	public void warnsAboutIgnoredCacheDirectory() {
+		final Reporter reporter = new Reporter();
+		assertTrue(MarkletOptions.validOptions(new String [][] {{"-incrementalcache", "cache"}}, reporter));
+		assertEquals(1, reporter.warnings.size());
+		reporter.warnings.clear();
+		assertTrue(MarkletOptions.validOptions(new String [][] {{"-incremental"}, {"-incrementalcache", "cache"}}, reporter));
+		assertTrue(reporter.warnings.isEmpty());
+	}
+
+	/**
+	 * Option length includes the option name, and
+	 * unknown options are left to the javadoc tool.
+	 */
+	@Test
+	public void getsOptionLength() {
+		assertEquals(2, MarkletOptions.optionLength("-d"));
+		assertEquals(1, MarkletOptions.optionLength("-streaming"));
+		assertEquals(3, MarkletOptions.optionLength("-linkoffline"));
+		assertEquals(0, MarkletOptions.optionLength("-unknown"));
+		assertTrue(isValid(new String [] {"-unknown", "value"}));
+	}
+
+}
@@ -0,0 +1,121 @@
+package fr.faylixe.marklet;
+
+import static fr.faylixe.marklet.Models.OBJECT;
+import static fr.faylixe.marklet.Models.classModel;
+import static fr.faylixe.marklet.Models.external;
+import static fr.faylixe.marklet.Models.field;
+import static fr.faylixe.marklet.Models.method;
+import static fr.faylixe.marklet.Models.model;
+import static fr.faylixe.marklet.Models.primitive;
+import static fr.faylixe.marklet.Models.reference;
+import static fr.faylixe.marklet.Models.type;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.MemberModel;
+
+/**
+ * Tests for {@link MemberIndex}.
+ * 
+ * @author fv
+ */
+public final class MemberIndexTest {
+
+	/** Documented class members belong to. **/
+	private static final ClassReference FOO = reference("fr.a", "Foo");
+
+	/** Overloaded method without parameter. **/
+	private final MemberModel run = method("run", "public");
+
+	/** Overloaded method with two parameters. **/
+	private final MemberModel runWith = method("run", "public", primitive("int"), type(external("java.lang", "String")));
+
+	/** Method which is not overloaded. **/
+	private final MemberModel stop = method("stop", "public", primitive("long"));
+
+	/** Field. **/
+	private final MemberModel size = field("size", primitive("int"));
+
+	/** Index under test. **/
+	private MemberIndex index;
+
+	/**
+	 * Builds the index of a class with overloaded methods,
+	 * and of a class which is not documented.
+	 */
+	@Before
+	public void setUp() {
+		final ClassModel foo = classModel(FOO, OBJECT, run, runWith, stop, size);
+		final ClassModel external = classModel(external("fr.b", "External"), OBJECT, method("hidden", "public"));
+		index = MemberIndex.build(model(foo, external));
+	}
+
+	/**
+	 * Overloaded methods are resolved by signature, whitespaces aside.
+	 */
+	@Test
+	public void resolvesOverloadBySignature() {
+		assertSame(run, index.resolve("Foo#run()", FOO).getMember());
+		assertSame(runWith, index.resolve("Foo#run(int,String)", FOO).getMember());
+		assertSame(runWith, index.resolve(" #run( int, String ) label", FOO).getMember());
+	}
+
+	/**
+	 * Overloaded methods are not resolved by name only.
+	 */
+	@Test
+	public void doesNotResolveOverloadByName() {
+		assertNull(index.resolve("Foo#run", FOO));
+		assertNull(index.resolve("Foo#run(long)", FOO));
+	}
+
+	/**
+	 * Members which are not overloaded are resolved by name,
+	 * even if the signature does not match.
+	 */
+	@Test
+	public void resolvesByName() {
+		assertSame(stop, index.resolve("Foo#stop", FOO).getMember());
+		assertSame(stop, index.resolve("Foo#stop(int)", FOO).getMember());
+		assertSame(size, index.resolve("#size the size", FOO).getMember());
+		assertSame(FOO, index.resolve("#size", FOO).getOwner());
+	}
+
+	/**
+	 * Signatures which do not reference a member are not resolved.
+	 */
+	@Test
+	public void doesNotResolveInvalidSignature() {
+		assertNull(index.resolve("Foo", FOO));
+		assertNull(index.resolve("Foo#", FOO));
+		assertNull(index.resolve("Foo#(int)", FOO));
+		assertNull(index.resolve("Foo label#stop", FOO));
+		assertNull(index.resolve("Foo#missing", FOO));
+	}
+
+	/**
+	 * Members of classes which are not documented are not indexed.
+	 */
+	@Test
+	public void ignoresExternalClasses() {
+		assertNull(index.resolve("External#hidden", external("fr.b", "External")));
+	}
+
+	/**
+	 * Members are retrieved by owner and member, with their anchor.
+	 */
+	@Test
+	public void getsMemberTarget() {
+		final MemberIndex.Target target = index.get(FOO, runWith);
+		assertSame(runWith, target.getMember());
+		assertEquals(MarkletDocumentBuilder.getAnchor(runWith), target.getAnchor());
+		assertNull(index.get(reference("fr.a", "Bar"), runWith));
+	}
+
+}
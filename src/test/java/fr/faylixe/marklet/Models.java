@@ -0,0 +1,316 @@
+package fr.faylixe.marklet;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.ClassReference;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.PackageModel;
+import fr.faylixe.marklet.model.ParameterModel;
+import fr.faylixe.marklet.model.TagModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Factory of small documentation models, which
+ * mimics extracted documentation so that indexes
+ * and pages can be tested without running the
+ * javadoc tool.
+ * 
+ * @author fv
+ */
+final class Models {
+
+	/** Return type of the created methods. **/
+	private static final TypeModel VOID = primitive("void");
+
+	/** Root of every class hierarchy, which is not documented. **/
+	static final ClassModel OBJECT = classModel(
+			ClassModel.Kind.CLASS,
+			external("java.lang", "Object"),
+			Collections.emptyList(),
+			null,
+			null,
+			method("equals", "public", type(external("java.lang", "Object"))),
+			method("hashCode", "public"),
+			method("toString", "public"),
+			method("finalize", "protected"));
+
+	/**
+	 * Private constructor for avoiding instantiation.
+	 */
+	private Models() {
+		// Do nothing.
+	}
+
+	/**
+	 * Creates a reference to a documented class.
+	 * 
+	 * @param packageName Name of the referenced class package.
+	 * @param name Name of the referenced class, including enclosing classes name if any.
+	 * @return Created reference.
+	 */
+	static ClassReference reference(final String packageName, final String name) {
+		return new ClassReference(packageName + "." + name, name, name.substring(name.lastIndexOf('.') + 1), packageName, true);
+	}
+
+	/**
+	 * Creates a reference to a class which is
+	 * not included into the documentation.
+	 * 
+	 * @param packageName Name of the referenced class package.
+	 * @param name Name of the referenced class.
+	 * @return Created reference.
+	 */
+	static ClassReference external(final String packageName, final String name) {
+		return new ClassReference(packageName + "." + name, name, name, packageName, false);
+	}
+
+	/**
+	 * Creates a primitive type.
+	 * 
+	 * @param name Name of the primitive type.
+	 * @return Created type.
+	 */
+	static TypeModel primitive(final String name) {
+		return new TypeModel(TypeModel.Kind.PRIMITIVE, name, "", null, Collections.emptyList(), Collections.emptyList());
+	}
+
+	/**
+	 * Creates a class type of the given ``reference``.
+	 * 
+	 * @param reference Class the type is resolved to.
+	 * @param arguments Type arguments of the type.
+	 * @return Created type.
+	 */
+	static TypeModel type(final ClassReference reference, final TypeModel ... arguments) {
+		return array(reference, "", arguments);
+	}
+
+	/**
+	 * Creates an array class type of the given ``reference``.
+	 * 
+	 * @param reference Class the type is resolved to.
+	 * @param dimension Array dimension, such as ``[]`` or ``...``.
+	 * @param arguments Type arguments of the type.
+	 * @return Created type.
+	 */
+	static TypeModel array(final ClassReference reference, final String dimension, final TypeModel ... arguments) {
+		return new TypeModel(
+				TypeModel.Kind.CLASS,
+				reference.getSimpleTypeName(),
+				dimension,
+				reference,
+				Arrays.asList(arguments),
+				Collections.emptyList());
+	}
+
+	/**
+	 * Creates a type variable.
+	 * 
+	 * @param name Name of the type variable.
+	 * @param bounds Bounds of the type variable.
+	 * @return Created type.
+	 */
+	static TypeModel variable(final String name, final TypeModel ... bounds) {
+		return new TypeModel(TypeModel.Kind.VARIABLE, name, "", null, Collections.emptyList(), Arrays.asList(bounds));
+	}
+
+	/**
+	 * Creates the parameters of the given ``types``, and
+	 * appends their flat signature to the given ``signature``.
+	 * 
+	 * @param types Parameter types.
+	 * @param signature Builder the flat signature is appended to.
+	 * @return Created parameters.
+	 */
+	private static List<ParameterModel> parameters(final TypeModel [] types, final StringBuilder signature) {
+		final List<ParameterModel> parameters = new ArrayList<ParameterModel>(types.length);
+		signature.append('(');
+		for (int i = 0; i < types.length; i++) {
+			if (i > 0) {
+				signature.append(", ");
+			}
+			signature.append(types[i].getSimpleTypeName()).append(types[i].getDimension());
+			parameters.add(new ParameterModel("arg" + i, types[i]));
+		}
+		signature.append(')');
+		return parameters;
+	}
+
+	/**
+	 * Creates a method, returning ``void``, with the given
+	 * ``modifiers`` and parameter ``types``, and whose
+	 * comment is made of the given inline ``tags``.
+	 * 
+	 * @param name Name of the method.
+	 * @param modifiers Modifiers of the method as declared in source.
+	 * @param tags Inline tags of the method comment.
+	 * @param types Parameter types of the method.
+	 * @return Created method.
+	 */
+	static MemberModel method(final String name, final String modifiers, final List<TagModel> tags, final TypeModel ... types) {
+		final StringBuilder signature = new StringBuilder();
+		final List<ParameterModel> parameters = parameters(types, signature);
+		return new MemberModel(
+				MemberModel.Kind.METHOD, name, modifiers, modifiers.contains("static"), signature.toString(),
+				parameters, VOID, tags,
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+	}
+
+	/**
+	 * Creates a method, returning ``void``, with the given
+	 * ``modifiers`` and parameter ``types``.
+	 * 
+	 * @param name Name of the method.
+	 * @param modifiers Modifiers of the method as declared in source.
+	 * @param types Parameter types of the method.
+	 * @return Created method.
+	 */
+	static MemberModel method(final String name, final String modifiers, final TypeModel ... types) {
+		return method(name, modifiers, Collections.emptyList(), types);
+	}
+
+	/**
+	 * Creates a public field of the given ``type``.
+	 * 
+	 * @param name Name of the field.
+	 * @param type Type of the field.
+	 * @return Created field.
+	 */
+	static MemberModel field(final String name, final TypeModel type) {
+		return new MemberModel(
+				MemberModel.Kind.FIELD, name, "public", false, null,
+				Collections.emptyList(), type, Collections.emptyList(),
+				Collections.emptyList(), Collections.emptyList(), Collections.emptyList());
+	}
+
+	/**
+	 * Creates a text inline tag.
+	 * 
+	 * @param text Text of the tag.
+	 * @return Created tag.
+	 */
+	static TagModel text(final String text) {
+		return TagModel.inline(TagModel.TEXT, text, null);
+	}
+
+	/**
+	 * Creates a link inline tag the doclet API did
+	 * not resolve, as for a class that is not imported.
+	 * 
+	 * @param signature Link signature, such as ``Foo#bar``.
+	 * @return Created tag.
+	 */
+	static TagModel link(final String signature) {
+		return TagModel.inline(TagModel.LINK, signature, null);
+	}
+
+	/**
+	 * Creates a class of the given ``kind``, whose
+	 * members are split between fields and methods.
+	 * 
+	 * @param kind Kind of the class.
+	 * @param reference Reference to the class.
+	 * @param typeParameters Type parameters of the class.
+	 * @param superclass Superclass of the class, if any.
+	 * @param superclassType Superclass type of the class with its type arguments, if any.
+	 * @param members Fields and methods of the class.
+	 * @return Created class.
+	 */
+	static ClassModel classModel(
+			final ClassModel.Kind kind,
+			final ClassReference reference,
+			final List<TypeModel> typeParameters,
+			final ClassModel superclass,
+			final TypeModel superclassType,
+			final MemberModel ... members) {
+		final List<MemberModel> fields = new ArrayList<MemberModel>();
+		final List<MemberModel> methods = new ArrayList<MemberModel>();
+		for (final MemberModel member : members) {
+			(member.isMethod() ? methods : fields).add(member);
+		}
+		return new ClassModel(
+				reference,
+				kind,
+				typeParameters,
+				"",
+				Collections.emptyList(),
+				superclass,
+				superclassType,
+				Collections.emptyList(),
+				Collections.emptyList(),
+				Collections.emptyList(),
+				fields,
+				methods,
+				Collections.emptyList());
+	}
+
+	/**
+	 * Creates a generic class which extends the given
+	 * ``superclassType``, whose class is ``superclass``.
+	 * 
+	 * @param reference Reference to the class.
+	 * @param typeParameters Type parameters of the class.
+	 * @param superclass Superclass of the class.
+	 * @param superclassType Superclass type of the class with its type arguments.
+	 * @param members Fields and methods of the class.
+	 * @return Created class.
+	 */
+	static ClassModel genericClass(
+			final ClassReference reference,
+			final List<TypeModel> typeParameters,
+			final ClassModel superclass,
+			final TypeModel superclassType,
+			final MemberModel ... members) {
+		return classModel(ClassModel.Kind.CLASS, reference, typeParameters, superclass, superclassType, members);
+	}
+
+	/**
+	 * Creates a non generic class which extends the given ``superclass``.
+	 * 
+	 * @param reference Reference to the class.
+	 * @param superclass Superclass of the class.
+	 * @param members Fields and methods of the class.
+	 * @return Created class.
+	 */
+	static ClassModel classModel(final ClassReference reference, final ClassModel superclass, final MemberModel ... members) {
+		return genericClass(reference, Collections.emptyList(), superclass, type(superclass.getReference()), members);
+	}
+
+	/**
+	 * Creates a documentation model made of the given
+	 * ``classes``, with one package per class package.
+	 * 
+	 * @param classes Documented classes.
+	 * @return Created model.
+	 */
+	static DocumentationModel model(final ClassModel ... classes) {
+		final Map<String, List<ClassModel>> packages = new LinkedHashMap<String, List<ClassModel>>();
+		for (final ClassModel classModel : classes) {
+			List<ClassModel> packageClasses = packages.get(classModel.getPackageName());
+			if (packageClasses == null) {
+				packageClasses = new ArrayList<ClassModel>();
+				packages.put(classModel.getPackageName(), packageClasses);
+			}
+			packageClasses.add(classModel);
+		}
+		final List<PackageModel> packageModels = new ArrayList<PackageModel>();
+		for (final Map.Entry<String, List<ClassModel>> entry : packages.entrySet()) {
+			packageModels.add(new PackageModel(
+					entry.getKey(),
+					Collections.emptyList(),
+					Collections.emptyList(),
+					Collections.emptyList(),
+					Collections.emptyList(),
+					entry.getValue()));
+		}
+		return new DocumentationModel(packageModels, Arrays.asList(classes));
+	}
+
+}
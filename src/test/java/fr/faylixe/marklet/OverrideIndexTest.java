@@ -0,0 +1,180 @@
+package fr.faylixe.marklet;
+
+import static fr.faylixe.marklet.Models.OBJECT;
+import static fr.faylixe.marklet.Models.array;
+import static fr.faylixe.marklet.Models.classModel;
+import static fr.faylixe.marklet.Models.external;
+import static fr.faylixe.marklet.Models.genericClass;
+import static fr.faylixe.marklet.Models.method;
+import static fr.faylixe.marklet.Models.model;
+import static fr.faylixe.marklet.Models.reference;
+import static fr.faylixe.marklet.Models.type;
+import static fr.faylixe.marklet.Models.variable;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.junit.Test;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.MemberModel;
+import fr.faylixe.marklet.model.TypeModel;
+
+/**
+ * Tests for {@link OverrideIndex}.
+ * 
+ * @author fv
+ */
+public final class OverrideIndexTest {
+
+	/** Type of ``java.lang.String``. **/
+	private static final TypeModel STRING = type(external("java.lang", "String"));
+
+	/** Type of ``java.lang.Integer``. **/
+	private static final TypeModel INTEGER = type(external("java.lang", "Integer"));
+
+	/** Type of ``java.lang.Number``. **/
+	private static final TypeModel NUMBER = type(external("java.lang", "Number"));
+
+	/**
+	 * A method which takes a superclass type variable overrides
+	 * the superclass method once its type argument is substituted.
+	 */
+	@Test
+	public void overridesSubstitutedTypeVariable() {
+		final MemberModel put = method("put", "public", variable("T"));
+		final ClassModel box = genericClass(reference("fr.a", "Box"), Collections.singletonList(variable("T")), OBJECT, type(OBJECT.getReference()), put);
+		final MemberModel integerPut = method("put", "public", INTEGER);
+		final MemberModel stringPut = method("put", "public", STRING);
+		final ClassModel integerBox = genericClass(reference("fr.a", "IntegerBox"), Collections.emptyList(), box, type(box.getReference(), INTEGER), integerPut);
+		final ClassModel stringBox = genericClass(reference("fr.a", "StringBox"), Collections.emptyList(), box, type(box.getReference(), INTEGER), stringPut);
+		final OverrideIndex index = OverrideIndex.build(model(box, integerBox, stringBox));
+		assertTrue(index.isOverriding(integerPut));
+		assertSame(put, index.getOverriddenMethod(integerPut));
+		assertSame(box, index.getOverriddenClass(integerPut));
+		assertFalse(index.isOverriding(stringPut));
+		assertFalse(index.isOverriding(put));
+	}
+
+	/**
+	 * Type arguments are substituted through intermediate
+	 * generic superclasses.
+	 */
+	@Test
+	public void substitutesThroughIntermediateSuperclass() {
+		final MemberModel put = method("put", "public", variable("T"));
+		final ClassModel base = genericClass(reference("fr.a", "Base"), Collections.singletonList(variable("T")), OBJECT, type(OBJECT.getReference()), put);
+		final ClassModel middle = genericClass(reference("fr.a", "Middle"), Collections.singletonList(variable("U")), base, type(base.getReference(), variable("U")));
+		final MemberModel stringPut = method("put", "public", STRING);
+		final ClassModel leaf = genericClass(reference("fr.a", "Leaf"), Collections.emptyList(), middle, type(middle.getReference(), STRING), stringPut);
+		final OverrideIndex index = OverrideIndex.build(model(base, middle, leaf));
+		assertSame(put, index.getOverriddenMethod(stringPut));
+		assertSame(base, index.getOverriddenClass(stringPut));
+	}
+
+	/**
+	 * A raw superclass type erases type variables to their first bound.
+	 */
+	@Test
+	public void erasesRawSuperclassToBound() {
+		final MemberModel put = method("put", "public", variable("T", NUMBER));
+		final ClassModel base = genericClass(reference("fr.a", "Base"), Collections.singletonList(variable("T", NUMBER)), OBJECT, type(OBJECT.getReference()), put);
+		final MemberModel numberPut = method("put", "public", NUMBER);
+		final ClassModel raw = classModel(reference("fr.a", "Raw"), base, numberPut);
+		final MemberModel integerPut = method("put", "public", INTEGER);
+		final ClassModel overload = classModel(reference("fr.a", "Overload"), base, integerPut);
+		final OverrideIndex index = OverrideIndex.build(model(base, raw, overload));
+		assertSame(put, index.getOverriddenMethod(numberPut));
+		assertFalse(index.isOverriding(integerPut));
+	}
+
+	/**
+	 * A method overrides the nearest method of its superclass chain.
+	 */
+	@Test
+	public void overridesNearestSuperclassMethod() {
+		final MemberModel first = method("run", "public");
+		final ClassModel a = classModel(reference("fr.a", "A"), OBJECT, first);
+		final MemberModel second = method("run", "public");
+		final ClassModel b = classModel(reference("fr.a", "B"), a, second);
+		final MemberModel third = method("run", "public");
+		final ClassModel c = classModel(reference("fr.a", "C"), b, third);
+		final OverrideIndex index = OverrideIndex.build(model(a, b, c));
+		assertSame(second, index.getOverriddenMethod(third));
+		assertSame(b, index.getOverriddenClass(third));
+		assertSame(first, index.getOverriddenMethod(second));
+		assertFalse(index.isOverriding(first));
+	}
+
+	/**
+	 * Varargs parameters are erased as arrays.
+	 */
+	@Test
+	public void matchesVarargsWithArray() {
+		final MemberModel array = method("join", "public", array(external("java.lang", "String"), "[]"));
+		final ClassModel base = classModel(reference("fr.a", "Base"), OBJECT, array);
+		final MemberModel varargs = method("join", "public", array(external("java.lang", "String"), "..."));
+		final ClassModel child = classModel(reference("fr.a", "Child"), base, varargs);
+		final OverrideIndex index = OverrideIndex.build(model(base, child));
+		assertSame(array, index.getOverriddenMethod(varargs));
+	}
+
+	/**
+	 * Static and private methods are not overridden.
+	 */
+	@Test
+	public void ignoresStaticAndPrivateMethods() {
+		final ClassModel base = classModel(
+				reference("fr.a", "Base"),
+				OBJECT,
+				method("create", "public static"),
+				method("check", "private"));
+		final MemberModel create = method("create", "public static");
+		final MemberModel check = method("check", "public");
+		final ClassModel child = classModel(reference("fr.a", "Child"), base, create, check);
+		final OverrideIndex index = OverrideIndex.build(model(base, child));
+		assertFalse(index.isOverriding(create));
+		assertFalse(index.isOverriding(check));
+	}
+
+	/**
+	 * Package private methods are only overridden from the same package.
+	 */
+	@Test
+	public void overridesPackagePrivateFromSamePackageOnly() {
+		final ClassModel base = classModel(reference("fr.a", "Base"), OBJECT, method("update", ""));
+		final MemberModel same = method("update", "");
+		final ClassModel sameChild = classModel(reference("fr.a", "Child"), base, same);
+		final MemberModel other = method("update", "");
+		final ClassModel otherChild = classModel(reference("fr.b", "Child"), base, other);
+		final OverrideIndex index = OverrideIndex.build(model(base, sameChild, otherChild));
+		assertTrue(index.isOverriding(same));
+		assertFalse(index.isOverriding(other));
+	}
+
+	/**
+	 * Interfaces only override public methods of the root class.
+	 */
+	@Test
+	public void overridesRootPublicMethodsFromInterface() {
+		final ClassModel implementation = classModel(reference("fr.a", "Implementation"), OBJECT);
+		final MemberModel toString = method("toString", "public");
+		final MemberModel finalize = method("finalize", "public");
+		final ClassModel contract = classModel(
+				ClassModel.Kind.INTERFACE,
+				reference("fr.a", "Contract"),
+				Collections.emptyList(),
+				null,
+				null,
+				toString,
+				finalize);
+		final OverrideIndex index = OverrideIndex.build(model(implementation, contract));
+		assertSame(OBJECT, index.getOverriddenClass(toString));
+		assertFalse(index.isOverriding(finalize));
+		assertNull(index.getOverriddenClass(finalize));
+	}
+
+}
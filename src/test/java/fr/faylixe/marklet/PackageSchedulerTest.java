@@ -0,0 +1,163 @@
+package fr.faylixe.marklet;
+
+import static fr.faylixe.marklet.Models.OBJECT;
+import static fr.faylixe.marklet.Models.classModel;
+import static fr.faylixe.marklet.Models.model;
+import static fr.faylixe.marklet.Models.reference;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+import fr.faylixe.marklet.model.PackageModel;
+
+/**
+ * Tests for {@link PackageScheduler}.
+ * 
+ * @author fv
+ */
+public final class PackageSchedulerTest {
+
+	/** Number of workers to use. **/
+	private static final int THREADS = 4;
+
+	/** Folder page costs are read from. **/
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/**
+	 * Creates a model of the given number of packages, made
+	 * of the given number of classes each, and of classes
+	 * whose package is not documented.
+	 * 
+	 * @param packages Number of packages.
+	 * @param classes Number of classes of each package.
+	 * @return Created model.
+	 */
+	private static DocumentationModel createModel(final int packages, final int classes) {
+		final List<ClassModel> classModels = new ArrayList<ClassModel>();
+		for (int p = 0; p < packages; p++) {
+			for (int c = 0; c < classes; c++) {
+				classModels.add(classModel(reference("fr.p" + p, "C" + c), OBJECT));
+			}
+		}
+		classModels.add(classModel(reference("fr.hidden", "Orphan"), OBJECT));
+		final DocumentationModel model = model(classModels.toArray(new ClassModel[classModels.size()]));
+		final List<PackageModel> packageModels = new ArrayList<PackageModel>(model.getPackages());
+		packageModels.remove(packageModels.size() - 1);
+		return new DocumentationModel(packageModels, model.getClasses());
+	}
+
+	/**
+	 * Creates a scheduler for the given ``model``.
+	 * 
+	 * @param model Model to schedule page generation for.
+	 * @param packageGenerator Generator of package pages.
+	 * @param classGenerator Generator of class pages.
+	 * @return Created scheduler.
+	 * @throws IOException If any error occurs while loading page costs.
+	 */
+	private PackageScheduler createScheduler(
+			final DocumentationModel model,
+			final PackageScheduler.Generator<PackageModel> packageGenerator,
+			final PackageScheduler.Generator<ClassModel> classGenerator) throws IOException {
+		final PageCosts costs = PageCosts.load(folder.getRoot().toPath(), model, HierarchyIndex.build(model));
+		return new PackageScheduler(THREADS, costs, packageGenerator, classGenerator);
+	}
+
+	/**
+	 * Every page is generated once, and the page of a
+	 * package before the pages of its classes, including
+	 * for packages split between workers.
+	 * 
+	 * @throws IOException If any error occurs during generation.
+	 */
+	@Test
+	public void generatesEveryPageOnce() throws IOException {
+		final DocumentationModel model = createModel(3, 40);
+		final List<Object> generated = Collections.synchronizedList(new ArrayList<Object>());
+		createScheduler(model, generated::add, generated::add).schedule(model.getPackages(), model.getClasses());
+		assertEquals(model.getPackages().size() + model.getClasses().size(), generated.size());
+		assertEquals(generated.size(), new HashSet<Object>(generated).size());
+		for (final PackageModel packageModel : model.getPackages()) {
+			final int index = generated.indexOf(packageModel);
+			for (final ClassModel classModel : packageModel.getAllClasses()) {
+				assertTrue(index < generated.indexOf(classModel));
+			}
+		}
+	}
+
+	/**
+	 * Error of a class page is thrown once running
+	 * pages are done, and no page is generated after.
+	 * 
+	 * @throws IOException If any error occurs while loading page costs.
+	 * @throws InterruptedException If interrupted while waiting for late pages.
+	 */
+	@Test
+	public void propagatesClassError() throws IOException, InterruptedException {
+		final DocumentationModel model = createModel(4, 40);
+		final IOException error = new IOException("Disk full");
+		final ClassModel failing = model.getClasses().get(50);
+		final AtomicInteger generated = new AtomicInteger();
+		final PackageScheduler scheduler = createScheduler(
+				model,
+				packageModel -> generated.incrementAndGet(),
+				classModel -> {
+					if (classModel == failing) {
+						throw error;
+					}
+					generated.incrementAndGet();
+				});
+		try {
+			scheduler.schedule(model.getPackages(), model.getClasses());
+			fail("Error has not been thrown");
+		}
+		catch (final IOException e) {
+			assertSame(error, e);
+		}
+		final int count = generated.get();
+		Thread.sleep(100);
+		assertEquals(count, generated.get());
+	}
+
+	/**
+	 * Error of a package page is thrown.
+	 * 
+	 * @throws IOException If any error occurs while loading page costs.
+	 */
+	@Test
+	public void propagatesPackageError() throws IOException {
+		final DocumentationModel model = createModel(2, 4);
+		final IOException error = new IOException("Access denied");
+		final PackageScheduler scheduler = createScheduler(
+				model,
+				packageModel -> {
+					throw error;
+				},
+				classModel -> {
+					// Do nothing.
+				});
+		try {
+			scheduler.schedule(model.getPackages(), model.getClasses());
+			fail("Error has not been thrown");
+		}
+		catch (final IOException e) {
+			assertSame(error, e);
+		}
+	}
+
+}
@@ -0,0 +1,214 @@
+package fr.faylixe.marklet;
+
+import static fr.faylixe.marklet.Models.OBJECT;
+import static fr.faylixe.marklet.Models.classModel;
+import static fr.faylixe.marklet.Models.link;
+import static fr.faylixe.marklet.Models.method;
+import static fr.faylixe.marklet.Models.model;
+import static fr.faylixe.marklet.Models.primitive;
+import static fr.faylixe.marklet.Models.reference;
+import static fr.faylixe.marklet.Models.text;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import fr.faylixe.marklet.model.ClassModel;
+import fr.faylixe.marklet.model.DocumentationModel;
+
+/**
+ * Tests for {@link PageFingerprint}, which decides
+ * which pages incremental mode can skip.
+ * 
+ * @author fv
+ */
+public final class PageFingerprintTest {
+
+	/**
+	 * Creates a class of the ``fr.a`` package, with a method
+	 * whose comment links to the given ``signature``.
+	 * 
+	 * @param name Name of the class.
+	 * @param superclass Superclass of the class.
+	 * @param signature Signature the comment links to.
+	 * @param text Text which follows the link.
+	 * @return Created class.
+	 */
+	private static ClassModel page(final String name, final ClassModel superclass, final String signature, final String text) {
+		return classModel(
+				reference("fr.a", name),
+				superclass,
+				method("run", "public", Arrays.asList(text("See "), link(signature), text(text))));
+	}
+
+	/**
+	 * Creates a class of the ``fr.a`` package, with a method
+	 * whose comment links to the given ``signature``.
+	 * 
+	 * @param signature Signature the comment links to.
+	 * @return Created class.
+	 */
+	private static ClassModel page(final String signature) {
+		return page("Page", OBJECT, signature, " here.");
+	}
+
+	/**
+	 * Computes the fingerprint of the page of the given
+	 * ``page`` class, documented along the given ``classes``.
+	 * 
+	 * @param page Class to compute page fingerprint for.
+	 * @param classes Other documented classes.
+	 * @return Computed fingerprint.
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	private static String fingerprint(final ClassModel page, final ClassModel ... classes) throws IOException {
+		final ClassModel [] all = Arrays.copyOf(classes, classes.length + 1);
+		all[classes.length] = page;
+		final MarkletContext context = new MarkletContext(MarkletOptions.parse(new String[0][]), model(all));
+		try {
+			return PageFingerprint.of(page, context);
+		}
+		finally {
+			context.getAsyncPageWriter().close();
+		}
+	}
+
+	/**
+	 * Computes the fingerprint of the page of the first package
+	 * of a model made of the given ``classes``.
+	 * 
+	 * @param classes Documented classes.
+	 * @return Computed fingerprint.
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	private static String packageFingerprint(final ClassModel ... classes) throws IOException {
+		final DocumentationModel model = model(classes);
+		final MarkletContext context = new MarkletContext(MarkletOptions.parse(new String[0][]), model);
+		try {
+			return PageFingerprint.of(model.getPackages().get(0), context);
+		}
+		finally {
+			context.getAsyncPageWriter().close();
+		}
+	}
+
+	/**
+	 * Creates a documented class without member.
+	 * 
+	 * @param packageName Name of the class package.
+	 * @param name Name of the class.
+	 * @return Created class.
+	 */
+	private static ClassModel empty(final String packageName, final String name) {
+		return classModel(reference(packageName, name), OBJECT);
+	}
+
+	/**
+	 * Same documentation leads to the same fingerprint.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void isStable() throws IOException {
+		assertEquals(
+				fingerprint(page("Foo"), empty("fr.a", "Foo")),
+				fingerprint(page("Foo"), empty("fr.a", "Foo")));
+	}
+
+	/**
+	 * Fingerprint changes with the page content.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWithComment() throws IOException {
+		assertNotEquals(
+				fingerprint(page("Page", OBJECT, "Foo", " here."), empty("fr.a", "Foo")),
+				fingerprint(page("Page", OBJECT, "Foo", " there."), empty("fr.a", "Foo")));
+	}
+
+	/**
+	 * Fingerprint changes once a link which was rendered
+	 * as text resolves to a newly documented class.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWhenLinkResolves() throws IOException {
+		assertNotEquals(
+				fingerprint(page("Foo")),
+				fingerprint(page("Foo"), empty("fr.c", "Foo")));
+	}
+
+	/**
+	 * Fingerprint changes once a class of another package
+	 * makes the simple name of a link ambiguous, but not
+	 * if the link uses a qualified name.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWhenLinkBecomesAmbiguous() throws IOException {
+		assertNotEquals(
+				fingerprint(page("Foo"), empty("fr.a", "Foo")),
+				fingerprint(page("Foo"), empty("fr.a", "Foo"), empty("fr.b", "Foo")));
+		assertEquals(
+				fingerprint(page("fr.a.Foo"), empty("fr.a", "Foo")),
+				fingerprint(page("fr.a.Foo"), empty("fr.a", "Foo"), empty("fr.b", "Foo")));
+	}
+
+	/**
+	 * Fingerprint changes once a linked member is overloaded,
+	 * so that the link can not be resolved by name anymore.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWhenLinkedMemberIsOverloaded() throws IOException {
+		final ClassModel foo = classModel(reference("fr.b", "Foo"), OBJECT, method("stop", "public"));
+		final ClassModel overloaded = classModel(reference("fr.b", "Foo"), OBJECT, method("stop", "public"), method("stop", "public", primitive("int")));
+		assertNotEquals(
+				fingerprint(page("Foo#stop"), foo),
+				fingerprint(page("Foo#stop"), overloaded));
+		assertEquals(
+				fingerprint(page("Foo#stop()"), foo),
+				fingerprint(page("Foo#stop()"), overloaded));
+	}
+
+	/**
+	 * Fingerprint changes with the members inherited from
+	 * a superclass, but not with unrelated classes.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWithInheritedMembers() throws IOException {
+		final ClassModel base = empty("fr.b", "Base");
+		final ClassModel extended = classModel(reference("fr.b", "Base"), OBJECT, method("stop", "public"));
+		assertNotEquals(
+				fingerprint(page("Page", base, "Foo", ""), base),
+				fingerprint(page("Page", extended, "Foo", ""), extended));
+		assertEquals(
+				fingerprint(page("Foo"), empty("fr.b", "Bar")),
+				fingerprint(page("Foo"), classModel(reference("fr.b", "Bar"), OBJECT, method("stop", "public"))));
+	}
+
+	/**
+	 * Fingerprint of a package page changes with its classes.
+	 * 
+	 * @throws IOException If any error occurs while creating context.
+	 */
+	@Test
+	public void changesWithPackageClasses() throws IOException {
+		assertEquals(
+				packageFingerprint(empty("fr.a", "Foo")),
+				packageFingerprint(empty("fr.a", "Foo")));
+		assertNotEquals(
+				packageFingerprint(empty("fr.a", "Foo")),
+				packageFingerprint(empty("fr.a", "Foo"), empty("fr.a", "Bar")));
+	}
+
+}
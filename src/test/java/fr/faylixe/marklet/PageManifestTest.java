@@ -0,0 +1,173 @@
+package fr.faylixe.marklet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Tests for {@link PageManifest}.
+ * 
+ * @author fv
+ */
+public final class PageManifestTest {
+
+	/** Signature pages are rendered with. **/
+	private static final String SIGNATURE = "UTF-8 html";
+
+	/** Folder pages and manifest are written into. **/
+	@Rule
+	public final TemporaryFolder folder = new TemporaryFolder();
+
+	/** Directory pages are generated in. **/
+	private Path directory;
+
+	/** Generated page. **/
+	private Path page;
+
+	/**
+	 * Creates the output directory and a page.
+	 * 
+	 * @throws IOException If any error occurs while writing page.
+	 */
+	@Before
+	public void setUp() throws IOException {
+		directory = folder.newFolder("output").toPath();
+		page = directory.resolve("fr/a/Foo.html.md");
+		Files.createDirectories(page.getParent());
+		Files.write(page, Arrays.asList("# Foo"), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Runs an execution which generates the page with
+	 * the given ``fingerprint`` and stores its manifest.
+	 * 
+	 * @param cacheDirectory Directory the manifest is stored in.
+	 * @param signature Signature pages are rendered with.
+	 * @param fingerprint Fingerprint of the page.
+	 * @return ``true`` if the page has been skipped, ``false`` otherwise.
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	private boolean run(final Path cacheDirectory, final String signature, final String fingerprint) throws IOException {
+		final PageManifest manifest = PageManifest.load(directory, cacheDirectory, signature);
+		final boolean skipped = manifest.isUpToDate(page, fingerprint);
+		assertEquals(skipped ? 1 : 0, manifest.getSkipped());
+		manifest.store();
+		return skipped;
+	}
+
+	/**
+	 * Pages are generated on first execution, then skipped
+	 * as long as their fingerprint does not change.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void skipsUnchangedPage() throws IOException {
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		assertTrue(Files.exists(directory.resolve(PageManifest.FILENAME)));
+		assertTrue(run(directory, SIGNATURE, "a1"));
+		assertTrue(run(directory, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Pages whose fingerprint changed are generated again.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void generatesChangedPage() throws IOException {
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		assertFalse(run(directory, SIGNATURE, "b2"));
+		assertTrue(run(directory, SIGNATURE, "b2"));
+	}
+
+	/**
+	 * Pages which have been deleted are generated again.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void generatesDeletedPage() throws IOException {
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		Files.delete(page);
+		assertFalse(run(directory, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Every page is generated again once the signature changed.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void generatesAllPagesOnSignatureChange() throws IOException {
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		assertFalse(run(directory, "UTF-8 md", "a1"));
+		assertFalse(run(directory, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Only the pages checked during the previous execution are
+	 * kept, so a page that is not generated anymore is forgotten.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void forgetsPagesNotChecked() throws IOException {
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		PageManifest.load(directory, directory, SIGNATURE).store();
+		assertFalse(run(directory, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Manifest can be stored into a dedicated cache
+	 * directory, which is created if needed.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void storesIntoCacheDirectory() throws IOException {
+		final Path cache = folder.getRoot().toPath().resolve("cache/marklet");
+		assertFalse(run(cache, SIGNATURE, "a1"));
+		assertTrue(Files.exists(cache.resolve(PageManifest.FILENAME)));
+		assertFalse(Files.exists(directory.resolve(PageManifest.FILENAME)));
+		assertTrue(run(cache, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Page paths which contain a separator are read back.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void readsPathWithSpace() throws IOException {
+		page = directory.resolve("fr/a/Foo Bar.html.md");
+		Files.write(page, Arrays.asList("# Foo Bar"), StandardCharsets.UTF_8);
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		assertTrue(run(directory, SIGNATURE, "a1"));
+	}
+
+	/**
+	 * Manifests which are malformed are ignored.
+	 * 
+	 * @throws IOException If any error occurs while reading or writing manifest.
+	 */
+	@Test
+	public void ignoresMalformedManifest() throws IOException {
+		Files.write(directory.resolve(PageManifest.FILENAME), Arrays.asList("a1 fr/a/Foo.html.md"), StandardCharsets.UTF_8);
+		assertFalse(run(directory, SIGNATURE, "a1"));
+		Files.write(directory.resolve(PageManifest.FILENAME), new byte[0]);
+		assertFalse(run(directory, SIGNATURE, "a1"));
+	}
+
+}